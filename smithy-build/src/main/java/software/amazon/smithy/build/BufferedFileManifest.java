@@ -0,0 +1,215 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.build;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FileManifest} that buffers the contents of files in memory and
+ * writes them to disk when {@link #flush()} is called.
+ *
+ * <p>Files are written to disk in parallel when flushed, and files whose
+ * contents are identical to the contents already found on disk are not
+ * rewritten. This preserves the last modified time of unchanged files,
+ * allowing downstream incremental build tools to skip them.
+ *
+ * <p>Because files are not written until the manifest is flushed, plugins
+ * that need to read the files they've written from disk should not use
+ * this manifest. When this manifest is used with {@link SmithyBuild} via
+ * {@link SmithyBuild#fileManifestFactory}, it is automatically flushed
+ * after each plugin completes.
+ */
+public final class BufferedFileManifest implements FileManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(BufferedFileManifest.class.getName());
+
+    private final Path baseDir;
+    private final Set<Path> files = new ConcurrentSkipListSet<>(Comparator.comparing(Path::toString));
+    private final Map<Path, byte[]> pending = new ConcurrentSkipListMap<>(Comparator.comparing(Path::toString));
+
+    /**
+     * @param baseDir Base directory where files are written.
+     */
+    public BufferedFileManifest(Path baseDir) {
+        this.baseDir = baseDir;
+    }
+
+    @Override
+    public Path getBaseDir() {
+        return baseDir;
+    }
+
+    @Override
+    public Set<Path> getFiles() {
+        return new LinkedHashSet<>(files);
+    }
+
+    @Override
+    public Path addFile(Path path) {
+        Objects.requireNonNull(path);
+        if (!path.startsWith(baseDir) || !path.isAbsolute()) {
+            path = resolvePath(path);
+        }
+
+        files.add(path);
+        return path;
+    }
+
+    @Override
+    public Path writeFile(Path path, String fileContentsText) {
+        return storeFile(path, fileContentsText.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Path writeFile(Path path, Reader fileContentsReader) {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[8 * 1024];
+        int numCharsRead;
+        try {
+            while ((numCharsRead = fileContentsReader.read(buffer, 0, buffer.length)) != -1) {
+                builder.append(buffer, 0, numCharsRead);
+            }
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        }
+
+        return writeFile(path, builder.toString());
+    }
+
+    @Override
+    public Path writeFile(Path path, InputStream fileContentsInputStream) {
+        try {
+            ByteArrayOutputStream byteArrayStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8 * 1024];
+            int numBytesRead;
+            while ((numBytesRead = fileContentsInputStream.read(buffer, 0, buffer.length)) != -1) {
+                byteArrayStream.write(buffer, 0, numBytesRead);
+            }
+            return storeFile(path, byteArrayStream.toByteArray());
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        }
+    }
+
+    private Path storeFile(Path path, byte[] bytes) {
+        path = addFile(path);
+        pending.put(path, bytes);
+        return path;
+    }
+
+    /**
+     * Writes every buffered file to disk.
+     *
+     * <p>Files are written in parallel, and files whose contents haven't
+     * changed are left untouched. Buffered contents are released once
+     * they are written.
+     *
+     * @throws SmithyBuildException if a file cannot be written.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Path, byte[]>> entries = new ArrayList<>(pending.entrySet());
+        AtomicInteger unchanged = new AtomicInteger();
+
+        try {
+            entries.parallelStream().forEach(entry -> {
+                if (!writeIfChanged(entry.getKey(), entry.getValue())) {
+                    unchanged.incrementAndGet();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw new SmithyBuildException("Unable to flush files to `" + baseDir + "`: "
+                                           + e.getCause().getMessage(), e.getCause());
+        }
+
+        // Only remove what was written, leaving anything buffered concurrently with the flush.
+        for (Map.Entry<Path, byte[]> entry : entries) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+
+        LOGGER.fine(() -> String.format("Flushed %d files to `%s`; %d were unchanged",
+                                        entries.size(), baseDir, unchanged.get()));
+    }
+
+    private static boolean writeIfChanged(Path path, byte[] contents) {
+        try {
+            if (hasContents(path, contents)) {
+                return false;
+            }
+
+            Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(contents);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean hasContents(Path path, byte[] contents) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != contents.length) {
+                return false;
+            }
+            ByteBuffer existing = ByteBuffer.allocate(contents.length);
+            while (existing.hasRemaining()) {
+                if (channel.read(existing) == -1) {
+                    return false;
+                }
+            }
+            existing.flip();
+            return existing.equals(ByteBuffer.wrap(contents));
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * Persists the inputs of each plugin run so that plugins whose inputs
+ * haven't changed since the last build can be skipped.
+ *
+ * <p>The state of each plugin is stored in
+ * {@code [outputDirectory]/.smithy-build-state/[projection]/[plugin].json}
+ * and contains a fingerprint of the plugin's inputs along with the
+ * artifacts the plugin created, relative to the plugin's output directory.
+ */
+final class BuildState {
+
+    static final String STATE_DIRECTORY = ".smithy-build-state";
+
+    private static final Logger LOGGER = Logger.getLogger(BuildState.class.getName());
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FILES = "files";
+
+    private final Path stateDirectory;
+    private final Set<Path> sources;
+    private final Map<Model, String> modelHashes = new IdentityHashMap<>();
+    private String sourcesHash;
+
+    BuildState(Path outputDirectory, Set<Path> sources) {
+        this.stateDirectory = outputDirectory.resolve(STATE_DIRECTORY);
+        this.sources = sources;
+    }
+
+    /**
+     * Computes the fingerprint of a plugin run.
+     *
+     * <p>The fingerprint covers the projected and original models, the
+     * validation events of the projected model, the plugin settings, the
+     * registered source files, and the implementation of the plugin.
+     *
+     * @param plugin Plugin being run.
+     * @param settings Settings given to the plugin.
+     * @param projectedModel Projected model given to the plugin.
+     * @param originalModel Original model given to the plugin.
+     * @param events Validation events given to the plugin.
+     * @return Returns the hex encoded fingerprint.
+     */
+    String fingerprint(
+            SmithyBuildPlugin plugin,
+            ObjectNode settings,
+            Model projectedModel,
+            Model originalModel,
+            List<ValidationEvent> events
+    ) {
+        MessageDigest digest = createDigest();
+        update(digest, SmithyBuild.VERSION);
+        update(digest, plugin.getClass().getName());
+        Package pluginPackage = plugin.getClass().getPackage();
+        if (pluginPackage != null && pluginPackage.getImplementationVersion() != null) {
+            update(digest, pluginPackage.getImplementationVersion());
+        }
+        update(digest, Node.printJson(settings));
+        update(digest, hashModel(projectedModel));
+        update(digest, hashModel(originalModel));
+        for (ValidationEvent event : events) {
+            update(digest, event.toString());
+        }
+        update(digest, hashSources());
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Restores the artifacts of a previous plugin run into the given
+     * manifest if the fingerprint of that run matches.
+     *
+     * <p>Nothing is restored if any of the previously created artifacts
+     * no longer exist.
+     *
+     * @param projectionName Name of the projection.
+     * @param pluginName Name of the plugin.
+     * @param fingerprint Fingerprint of the current inputs of the plugin.
+     * @param manifest Manifest to add the previous artifacts to.
+     * @return Returns true if the previous artifacts were restored.
+     */
+    boolean restore(String projectionName, String pluginName, String fingerprint, FileManifest manifest) {
+        Path statePath = resolveStatePath(projectionName, pluginName);
+        if (!Files.isRegularFile(statePath)) {
+            return false;
+        }
+
+        List<Path> files = new ArrayList<>();
+        try {
+            ObjectNode state = Node.parse(IoUtils.readUtf8File(statePath), statePath.toString()).expectObjectNode();
+            if (!state.expectStringMember(FINGERPRINT).getValue().equals(fingerprint)) {
+                return false;
+            }
+            for (StringNode file : state.expectArrayMember(FILES).getElementsAs(StringNode.class)) {
+                Path path = manifest.getBaseDir().resolve(file.getValue());
+                if (!Files.isRegularFile(path)) {
+                    return false;
+                }
+                files.add(path);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "Ignoring invalid smithy-build state file `" + statePath + "`: " + e.getMessage());
+            return false;
+        }
+
+        files.forEach(manifest::addFile);
+        return true;
+    }
+
+    /**
+     * Removes the state of a plugin so that a failed or interrupted
+     * plugin run is never considered up-to-date.
+     *
+     * @param projectionName Name of the projection.
+     * @param pluginName Name of the plugin.
+     */
+    void invalidate(String projectionName, String pluginName) {
+        Path statePath = resolveStatePath(projectionName, pluginName);
+        try {
+            Files.deleteIfExists(statePath);
+        } catch (IOException e) {
+            LOGGER.warning(() -> "Unable to delete smithy-build state file `" + statePath + "`: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the fingerprint and artifacts of a successful plugin run.
+     *
+     * <p>State is only recorded when every artifact of the manifest was
+     * written to disk, since only those artifacts can be restored.
+     *
+     * @param projectionName Name of the projection.
+     * @param pluginName Name of the plugin.
+     * @param fingerprint Fingerprint of the inputs of the plugin.
+     * @param manifest Manifest that contains the created artifacts.
+     */
+    void save(String projectionName, String pluginName, String fingerprint, FileManifest manifest) {
+        ArrayNode.Builder files = ArrayNode.builder();
+        for (Path file : manifest.getFiles()) {
+            if (!Files.isRegularFile(file)) {
+                return;
+            }
+            files.withValue(manifest.getBaseDir().relativize(file).toString());
+        }
+
+        Path statePath = resolveStatePath(projectionName, pluginName);
+        ObjectNode state = Node.objectNodeBuilder()
+                .withMember(FINGERPRINT, fingerprint)
+                .withMember(FILES, files.build())
+                .build();
+
+        try {
+            Files.createDirectories(statePath.getParent());
+            Files.write(statePath, Node.prettyPrintJson(state).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOGGER.warning(() -> "Unable to write smithy-build state file `" + statePath + "`: " + e.getMessage());
+        }
+    }
+
+    private Path resolveStatePath(String projectionName, String pluginName) {
+        return stateDirectory.resolve(projectionName).resolve(pluginName + ".json");
+    }
+
+    private String hashModel(Model model) {
+        synchronized (modelHashes) {
+            String hash = modelHashes.get(model);
+            if (hash == null) {
+                MessageDigest digest = createDigest();
+                update(digest, Node.printJson(ModelSerializer.builder().build().serialize(model)));
+                hash = toHex(digest.digest());
+                modelHashes.put(model, hash);
+            }
+            return hash;
+        }
+    }
+
+    // Source files are copied as-is by plugins like "sources", so changes that don't affect the model, like
+    // comments, still need to invalidate plugins. File metadata is used to avoid reading every source file.
+    private synchronized String hashSources() {
+        if (sourcesHash == null) {
+            MessageDigest digest = createDigest();
+            for (Path source : new TreeSet<>(sources)) {
+                update(digest, source.toString());
+                if (Files.exists(source)) {
+                    try (Stream<Path> files = Files.walk(source)) {
+                        for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+                            if (Files.isRegularFile(file)) {
+                                update(digest, file.toString());
+                                update(digest, String.valueOf(Files.size(file)));
+                                update(digest, Files.getLastModifiedTime(file).toString());
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new SmithyBuildException("Unable to read source `" + source + "`: " + e.getMessage(), e);
+                    }
+                }
+            }
+            sourcesHash = toHex(digest.digest());
+        }
+        return sourcesHash;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new SmithyBuildException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separate each value so that adjacent values can't be shifted into one another.
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+}
@@ -20,6 +20,7 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -71,6 +72,18 @@ final class DefaultFileManifest implements FileManifest {
         return path;
     }
 
+    @Override
+    public Path writeFile(Path path, String fileContentsText) {
+        path = addFile(path);
+
+        try {
+            Files.write(path, fileContentsText.getBytes(StandardCharsets.UTF_8));
+            return path;
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Path writeFile(Path path, Reader fileContentsReader) {
         path = addFile(path);
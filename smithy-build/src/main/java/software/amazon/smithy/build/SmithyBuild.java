@@ -54,6 +54,8 @@ public final class SmithyBuild {
     Set<Path> sources = new HashSet<>();
     Predicate<String> projectionFilter = name -> true;
     Predicate<String> pluginFilter = name -> true;
+    int pluginParallelism = Runtime.getRuntime().availableProcessors();
+    boolean incremental;
 
     public SmithyBuild() {}
 
@@ -265,6 +267,9 @@ public final class SmithyBuild {
      * <p>A default implementation of {@link FileManifest#create} will be
      * used if a custom factory is not provided.
      *
+     * <p>{@link BufferedFileManifest}s created by the factory are flushed
+     * after each plugin completes.
+     *
      * @param fileManifestFactory Factory that accepts a base path and
      *  returns a {@link FileManifest}.
      * @return Returns the builder.
@@ -414,6 +419,55 @@ public final class SmithyBuild {
         return this;
     }
 
+    /**
+     * Sets the maximum number of plugins that can be run concurrently.
+     *
+     * <p>Plugins of projections that don't contain a
+     * {@link SmithyBuildPlugin#isSerial() serial} plugin are independent of
+     * one another, so they are run concurrently using a bounded pool of
+     * threads that is shared across every projection of the build. Plugins
+     * of serial projections are always run one at a time.
+     *
+     * <p>Defaults to the number of available processors. Setting this
+     * value to 1 runs every plugin of a projection sequentially.
+     *
+     * @param pluginParallelism Maximum number of plugins to run at once.
+     * @return Returns the builder.
+     * @throws IllegalArgumentException if the value is less than 1.
+     */
+    public SmithyBuild pluginParallelism(int pluginParallelism) {
+        if (pluginParallelism < 1) {
+            throw new IllegalArgumentException("pluginParallelism must be greater than 0");
+        }
+        this.pluginParallelism = pluginParallelism;
+        return this;
+    }
+
+    /**
+     * Sets whether plugins whose inputs haven't changed since the previous
+     * build are skipped.
+     *
+     * <p>When enabled, a fingerprint of the projected model, the plugin
+     * settings, and the plugin implementation is stored in the output
+     * directory after each plugin completes. Subsequent builds that
+     * compute the same fingerprint don't run the plugin and instead
+     * restore its {@link FileManifest} from the artifacts that were
+     * written by the previous build.
+     *
+     * <p>Only artifacts written to disk can be restored, so this setting
+     * has no effect when using a {@link #fileManifestFactory} that keeps
+     * artifacts in memory. Plugins that read inputs other than those given
+     * to them through their {@link PluginContext} should not be used with
+     * incremental builds.
+     *
+     * @param incremental Set to true to skip plugins that are up-to-date.
+     * @return Returns the builder.
+     */
+    public SmithyBuild incremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
     // Lazy initialization holder class idiom.
     private static final class DefaultPathHolder {
         private static final Path DEFAULT_PATH = resolveDefaultPath();
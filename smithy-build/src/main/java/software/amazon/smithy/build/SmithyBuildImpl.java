@@ -27,6 +27,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -63,6 +68,8 @@ final class SmithyBuildImpl {
     private final Set<Path> sources;
     private final Predicate<String> projectionFilter;
     private final Predicate<String> pluginFilter;
+    private final int pluginParallelism;
+    private final BuildState buildState;
 
     SmithyBuildImpl(SmithyBuild builder) {
         config = prepareConfig(SmithyBuilder.requiredState("config", builder.config));
@@ -103,6 +110,8 @@ final class SmithyBuildImpl {
         pluginClassLoader = builder.pluginClassLoader;
         projectionFilter = builder.projectionFilter;
         pluginFilter = builder.pluginFilter;
+        pluginParallelism = builder.pluginParallelism;
+        buildState = builder.incremental ? new BuildState(outputDirectory, sources) : null;
     }
 
     private static SmithyBuildConfig prepareConfig(SmithyBuildConfig config) {
@@ -155,49 +164,68 @@ final class SmithyBuildImpl {
     ) {
         ValidatedResult<Model> resolvedModel = createBaseModel();
 
-        // The projections are being split up here because we need to be able
-        // to break out non-parallelizeable plugins. Right now the only
-        // parallelization that occurs is at the projection level.
-        List<Runnable> parallelProjections = new ArrayList<>();
+        // Plugins of parallel projections are run on a dedicated, bounded executor. Projections themselves are
+        // run using a parallel stream, so plugin tasks never compete with the projection that is waiting on them.
+        ExecutorService pluginExecutor = pluginParallelism > 1 ? createPluginExecutor(pluginParallelism) : null;
 
-        for (Map.Entry<String, ProjectionConfig> entry : config.getProjections().entrySet()) {
-            String name = entry.getKey();
-            ProjectionConfig config = entry.getValue();
-
-            if (config.isAbstract() || !projectionFilter.test(name)) {
-                continue;
-            }
-
-            // Check to see if any of the plugins in the projection require the projection be run serially
-            boolean isSerial = resolvePlugins(config).keySet().stream().anyMatch(pluginName -> {
-                Optional<SmithyBuildPlugin> plugin = pluginFactory.apply(pluginName);
-                return plugin.isPresent() && plugin.get().isSerial();
-            });
+        try {
+            // The projections are being split up here because we need to be able
+            // to break out non-parallelizeable plugins. Projections that contain a
+            // serial plugin are run one at a time, and so are their plugins.
+            List<Runnable> parallelProjections = new ArrayList<>();
+
+            for (Map.Entry<String, ProjectionConfig> entry : config.getProjections().entrySet()) {
+                String name = entry.getKey();
+                ProjectionConfig config = entry.getValue();
+
+                if (config.isAbstract() || !projectionFilter.test(name)) {
+                    continue;
+                }
+
+                // Check to see if any of the plugins in the projection require the projection be run serially
+                boolean isSerial = resolvePlugins(config).keySet().stream().anyMatch(pluginName -> {
+                    Optional<SmithyBuildPlugin> plugin = pluginFactory.apply(pluginName);
+                    return plugin.isPresent() && plugin.get().isSerial();
+                });
 
-            if (isSerial) {
-                executeSerialProjection(resolvedModel, name, config,
-                                        projectionResultConsumer, projectionExceptionConsumer);
-            } else {
-                parallelProjections.add(() -> {
-                    executeSerialProjection(resolvedModel, name, config,
+                if (isSerial) {
+                    executeSerialProjection(resolvedModel, name, config, null,
                                             projectionResultConsumer, projectionExceptionConsumer);
-                });
+                } else {
+                    parallelProjections.add(() -> {
+                        executeSerialProjection(resolvedModel, name, config, pluginExecutor,
+                                                projectionResultConsumer, projectionExceptionConsumer);
+                    });
+                }
             }
-        }
 
-        if (!parallelProjections.isEmpty()) {
-            if (parallelProjections.size() == 1) {
-                parallelProjections.get(0).run();
-            } else {
-                parallelProjections.parallelStream().forEach(Runnable::run);
+            if (!parallelProjections.isEmpty()) {
+                if (parallelProjections.size() == 1) {
+                    parallelProjections.get(0).run();
+                } else {
+                    parallelProjections.parallelStream().forEach(Runnable::run);
+                }
+            }
+        } finally {
+            if (pluginExecutor != null) {
+                pluginExecutor.shutdownNow();
             }
         }
     }
 
+    private static ExecutorService createPluginExecutor(int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "smithy-build-plugin");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private void executeSerialProjection(
             ValidatedResult<Model> baseModel,
             String name,
             ProjectionConfig config,
+            ExecutorService pluginExecutor,
             Consumer<ProjectionResult> projectionResultConsumer,
             BiConsumer<String, Throwable> projectionExceptionConsumer
     ) {
@@ -206,7 +234,7 @@ final class SmithyBuildImpl {
         ProjectionResult result = null;
 
         try {
-            result = applyProjection(name, config, baseModel);
+            result = applyProjection(name, config, baseModel, pluginExecutor);
         } catch (Throwable e) {
             projectionExceptionConsumer.accept(name, e);
         }
@@ -229,8 +257,10 @@ final class SmithyBuildImpl {
     private ProjectionResult applyProjection(
             String projectionName,
             ProjectionConfig projection,
-            ValidatedResult<Model> baseModel
+            ValidatedResult<Model> baseModel,
+            ExecutorService pluginExecutor
     ) {
+        long projectionStart = System.nanoTime();
         Model resolvedModel = baseModel.unwrap();
         LOGGER.fine(() -> String.format("Creating the `%s` projection", projectionName));
 
@@ -283,16 +313,112 @@ final class SmithyBuildImpl {
                 .model(projectedModel)
                 .events(modelResult.getValidationEvents());
 
+        List<Pair<String, ObjectNode>> plugins = new ArrayList<>();
         for (Map.Entry<String, ObjectNode> entry : resolvePlugins(projection).entrySet()) {
             if (pluginFilter.test(entry.getKey())) {
-                applyPlugin(projectionName, projection, baseProjectionDir, entry.getKey(), entry.getValue(),
-                            projectedModel, resolvedModel, modelResult, resultBuilder);
+                plugins.add(Pair.of(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        long pluginStart = System.nanoTime();
+        List<PluginResult> pluginResults = new ArrayList<>(plugins.size());
+
+        if (pluginExecutor == null || plugins.size() < 2) {
+            for (Pair<String, ObjectNode> plugin : plugins) {
+                pluginResults.add(applyPlugin(projectionName, projection, baseProjectionDir, plugin.left,
+                                              plugin.right, projectedModel, resolvedModel, modelResult));
+            }
+        } else {
+            // Every plugin of a projection depends only on the projected model, so they can all run at once.
+            List<Future<PluginResult>> futures = new ArrayList<>(plugins.size());
+            for (Pair<String, ObjectNode> plugin : plugins) {
+                Model finalProjectedModel = projectedModel;
+                Model finalResolvedModel = resolvedModel;
+                ValidatedResult<Model> finalModelResult = modelResult;
+                futures.add(pluginExecutor.submit(() -> applyPlugin(
+                        projectionName, projection, baseProjectionDir, plugin.left, plugin.right,
+                        finalProjectedModel, finalResolvedModel, finalModelResult)));
             }
+            pluginResults.addAll(waitOnPlugins(projectionName, futures));
         }
 
+        for (PluginResult pluginResult : pluginResults) {
+            if (pluginResult.manifest != null) {
+                resultBuilder.addPluginManifest(pluginResult.pluginName, pluginResult.manifest);
+            }
+        }
+
+        logProjectionTimings(projectionName, projectionStart, pluginStart, pluginResults);
+
         return resultBuilder.build();
     }
 
+    private List<PluginResult> waitOnPlugins(String projectionName, List<Future<PluginResult>> futures) {
+        List<PluginResult> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+
+        // Wait on every plugin, even after a failure, so that no plugin is still writing files when the
+        // projection's result or exception is handed to the caller.
+        for (Future<PluginResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new SmithyBuildException("Interrupted while running plugins of the `"
+                                               + projectionName + "` projection", e);
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new SmithyBuildException(failure);
+        }
+
+        return results;
+    }
+
+    private static void logProjectionTimings(
+            String projectionName,
+            long projectionStart,
+            long pluginStart,
+            List<PluginResult> pluginResults
+    ) {
+        LOGGER.info(() -> {
+            long end = System.nanoTime();
+            // The critical path of a projection is the time spent creating the projected model followed by
+            // the slowest plugin, since that's the best possible wall time if every plugin ran concurrently.
+            PluginResult slowest = null;
+            for (PluginResult result : pluginResults) {
+                if (slowest == null || result.nanos > slowest.nanos) {
+                    slowest = result;
+                }
+            }
+            long transformMillis = TimeUnit.NANOSECONDS.toMillis(pluginStart - projectionStart);
+            StringBuilder message = new StringBuilder()
+                    .append("Built `").append(projectionName).append("` projection in ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(end - projectionStart)).append(" ms (projected model: ")
+                    .append(transformMillis).append(" ms, plugins: ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(end - pluginStart)).append(" ms");
+            if (slowest != null) {
+                long slowestMillis = TimeUnit.NANOSECONDS.toMillis(slowest.nanos);
+                message.append(", critical path: `").append(slowest.pluginName).append("` plugin at ")
+                        .append(transformMillis + slowestMillis).append(" ms");
+            }
+            return message.append(')').toString();
+        });
+    }
+
     private Model applyProjectionTransforms(
             ValidatedResult<Model> baseModel,
             Model currentModel,
@@ -319,7 +445,7 @@ final class SmithyBuildImpl {
         return currentModel;
     }
 
-    private void applyPlugin(
+    private PluginResult applyPlugin(
             String projectionName,
             ProjectionConfig projection,
             Path baseProjectionDir,
@@ -327,9 +453,10 @@ final class SmithyBuildImpl {
             ObjectNode pluginSettings,
             Model projectedModel,
             Model resolvedModel,
-            ValidatedResult<Model> modelResult,
-            ProjectionResult.Builder resultBuilder
+            ValidatedResult<Model> modelResult
     ) {
+        long start = System.nanoTime();
+
         // Create the manifest where plugin artifacts are stored.
         Path pluginBaseDir = baseProjectionDir.resolve(pluginName);
         FileManifest manifest = fileManifestFactory.apply(pluginBaseDir);
@@ -343,6 +470,7 @@ final class SmithyBuildImpl {
                              + "classpath configured correctly?";
             if (config.isIgnoreMissingPlugins()) {
                 LOGGER.severe(message);
+                return new PluginResult(pluginName, null, System.nanoTime() - start);
             } else {
                 throw new SmithyBuildException(message);
             }
@@ -350,22 +478,48 @@ final class SmithyBuildImpl {
             LOGGER.fine(() -> String.format(
                     "Skipping `%s` plugin for `%s` projection because the model is broken",
                     pluginName, projectionName));
-        } else {
-            LOGGER.info(() -> String.format(
-                    "Applying `%s` plugin to `%s` projection",
-                    pluginName, projectionName));
-            resolved.execute(PluginContext.builder()
-                    .model(projectedModel)
-                    .originalModel(resolvedModel)
-                    .projection(projectionName, projection)
-                    .events(modelResult.getValidationEvents())
-                    .settings(pluginSettings)
-                    .fileManifest(manifest)
-                    .pluginClassLoader(pluginClassLoader)
-                    .sources(sources)
-                    .build());
-            resultBuilder.addPluginManifest(pluginName, manifest);
+            return new PluginResult(pluginName, null, System.nanoTime() - start);
+        }
+
+        String fingerprint = null;
+        if (buildState != null) {
+            fingerprint = buildState.fingerprint(resolved, pluginSettings, projectedModel, resolvedModel,
+                                                 modelResult.getValidationEvents());
+            if (buildState.restore(projectionName, pluginName, fingerprint, manifest)) {
+                LOGGER.info(() -> String.format(
+                        "Skipping `%s` plugin for `%s` projection because its inputs have not changed",
+                        pluginName, projectionName));
+                return new PluginResult(pluginName, manifest, System.nanoTime() - start);
+            }
+            buildState.invalidate(projectionName, pluginName);
+        }
+
+        LOGGER.info(() -> String.format(
+                "Applying `%s` plugin to `%s` projection",
+                pluginName, projectionName));
+        resolved.execute(PluginContext.builder()
+                .model(projectedModel)
+                .originalModel(resolvedModel)
+                .projection(projectionName, projection)
+                .events(modelResult.getValidationEvents())
+                .settings(pluginSettings)
+                .fileManifest(manifest)
+                .pluginClassLoader(pluginClassLoader)
+                .sources(sources)
+                .build());
+
+        if (manifest instanceof BufferedFileManifest) {
+            ((BufferedFileManifest) manifest).flush();
         }
+
+        if (buildState != null) {
+            buildState.save(projectionName, pluginName, fingerprint, manifest);
+        }
+
+        long nanos = System.nanoTime() - start;
+        LOGGER.fine(() -> String.format("Applied `%s` plugin to `%s` projection in %d ms",
+                pluginName, projectionName, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        return new PluginResult(pluginName, manifest, nanos);
     }
 
     private Map<String, ObjectNode> resolvePlugins(ProjectionConfig projection) {
@@ -425,4 +579,16 @@ final class SmithyBuildImpl {
 
         return currentModel;
     }
+
+    private static final class PluginResult {
+        private final String pluginName;
+        private final FileManifest manifest;
+        private final long nanos;
+
+        PluginResult(String pluginName, FileManifest manifest, long nanos) {
+            this.pluginName = pluginName;
+            this.manifest = manifest;
+            this.nanos = nanos;
+        }
+    }
 }
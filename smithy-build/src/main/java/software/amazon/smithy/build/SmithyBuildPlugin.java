@@ -54,6 +54,10 @@ public interface SmithyBuildPlugin {
      * Plugins can choose whether or not projections they are in can be run in
      * parallel with other projections.
      *
+     * <p>Plugins of a projection that contains a serial plugin are also run
+     * one at a time, while plugins of other projections can be run
+     * concurrently with each other.
+     *
      * <p>By default plugins allow parallel execution.</p>
      *
      * @return Returns true if the plugin should be run serially, false if it
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.build;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
+
+public class BufferedFileManifestTest {
+    private Path outputDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        outputDirectory = Files.createTempDirectory(getClass().getName());
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.walk(outputDirectory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    @Test
+    public void buffersFilesUntilFlushed() {
+        BufferedFileManifest manifest = new BufferedFileManifest(outputDirectory);
+        manifest.writeFile("foo/a.txt", "a");
+        manifest.writeFile("b.txt", new ByteArrayInputStream("b".getBytes()));
+
+        assertThat(manifest.getFiles(), contains(outputDirectory.resolve("b.txt"),
+                                                 outputDirectory.resolve("foo/a.txt")));
+        assertThat(Files.exists(outputDirectory.resolve("foo/a.txt")), is(false));
+
+        manifest.flush();
+
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("foo/a.txt")), equalTo("a"));
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("b.txt")), equalTo("b"));
+    }
+
+    @Test
+    public void doesNotRewriteUnchangedFiles() throws IOException {
+        Path unchanged = outputDirectory.resolve("unchanged.txt");
+        Path changed = outputDirectory.resolve("changed.txt");
+        Path resized = outputDirectory.resolve("resized.txt");
+        FileTime time = FileTime.fromMillis(0);
+        Files.write(unchanged, "same".getBytes());
+        Files.write(changed, "abcd".getBytes());
+        Files.write(resized, "abcd".getBytes());
+        Files.setLastModifiedTime(unchanged, time);
+        Files.setLastModifiedTime(changed, time);
+        Files.setLastModifiedTime(resized, time);
+
+        BufferedFileManifest manifest = new BufferedFileManifest(outputDirectory);
+        manifest.writeFile("unchanged.txt", "same");
+        manifest.writeFile("changed.txt", "abce");
+        manifest.writeFile("resized.txt", "abcde");
+        manifest.flush();
+
+        assertThat(Files.getLastModifiedTime(unchanged), equalTo(time));
+        assertThat(IoUtils.readUtf8File(changed), equalTo("abce"));
+        assertThat(IoUtils.readUtf8File(resized), equalTo("abcde"));
+    }
+
+    @Test
+    public void lastWriteWins() {
+        BufferedFileManifest manifest = new BufferedFileManifest(outputDirectory);
+        manifest.writeFile("a.txt", "first");
+        manifest.writeFile("a.txt", "second");
+        manifest.flush();
+
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("a.txt")), equalTo("second"));
+        assertThat(manifest.getFiles(), contains(outputDirectory.resolve("a.txt")));
+    }
+}
@@ -38,6 +38,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
@@ -393,6 +396,179 @@ public class SmithyBuildTest {
         assertTrue(getPluginFileContents(b, "test1Serial") < getPluginFileContents(b, "test2Parallel"));
     }
 
+    @Test
+    public void appliesPluginsOfParallelProjectionsConcurrently() throws Exception {
+        // Each plugin waits for the other to start, so this only completes if both plugins run at the same time.
+        CountDownLatch latch = new CountDownLatch(2);
+        Map<String, SmithyBuildPlugin> plugins = MapUtils.of(
+                "test1", new LatchPlugin("test1", latch),
+                "test2", new LatchPlugin("test2", latch));
+
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(plugins.get(name)), () -> factory.apply(name));
+
+        SmithyBuild builder = new SmithyBuild()
+                .pluginFactory(composed)
+                .fileManifestFactory(MockManifest::new)
+                .projectionFilter(name -> name.equals("source"))
+                .pluginParallelism(2)
+                .config(SmithyBuildConfig.builder()
+                        .load(Paths.get(getClass().getResource("applies-plugins.json").toURI()))
+                        .outputDirectory("/foo")
+                        .build());
+
+        SmithyBuildResult results = builder.build();
+        ProjectionResult source = results.getProjectionResult("source").get();
+
+        assertPluginPresent("test1", "test1", source);
+        assertPluginPresent("test2", "test2", source);
+        assertThat(((MockManifest) source.getPluginManifest("test1").get()).getFileString("test1").get(),
+                   equalTo("true"));
+        assertThat(((MockManifest) source.getPluginManifest("test2").get()).getFileString("test2").get(),
+                   equalTo("true"));
+    }
+
+    @Test
+    public void failsProjectionWhenConcurrentPluginFails() throws Exception {
+        Map<String, SmithyBuildPlugin> plugins = MapUtils.of(
+                "test1", new Test1Plugin(),
+                "test2", new SmithyBuildPlugin() {
+                    @Override
+                    public String getName() {
+                        return "test2";
+                    }
+
+                    @Override
+                    public void execute(PluginContext context) {
+                        throw new SmithyBuildException("test2 failed");
+                    }
+                });
+
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(plugins.get(name)), () -> factory.apply(name));
+
+        SmithyBuild builder = new SmithyBuild()
+                .pluginFactory(composed)
+                .fileManifestFactory(MockManifest::new)
+                .projectionFilter(name -> name.equals("source"))
+                .pluginParallelism(2)
+                .config(SmithyBuildConfig.builder()
+                        .load(Paths.get(getClass().getResource("applies-plugins.json").toURI()))
+                        .outputDirectory("/foo")
+                        .build());
+
+        SmithyBuildException e = Assertions.assertThrows(SmithyBuildException.class, builder::build);
+
+        assertThat(e.getMessage(), containsString("test2 failed"));
+    }
+
+    @Test
+    public void pluginParallelismMustBePositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SmithyBuild().pluginParallelism(0));
+    }
+
+    @Test
+    public void skipsPluginsWhoseInputsHaveNotChanged() {
+        AtomicInteger runs = new AtomicInteger();
+        SmithyBuildPlugin counting = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "counting";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                runs.incrementAndGet();
+                String value = context.getSettings().expectStringMember("v").getValue();
+                context.getFileManifest().writeFile("a/b.txt", value);
+            }
+        };
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(name.equals("counting") ? counting : null), () -> factory.apply(name));
+        Function<String, SmithyBuild> createBuild = value -> new SmithyBuild()
+                .pluginFactory(composed)
+                .outputDirectory(outputDirectory)
+                .incremental(true)
+                .config(SmithyBuildConfig.builder()
+                        .version(SmithyBuild.VERSION)
+                        .plugins(MapUtils.of("counting", Node.objectNode().withMember("v", value)))
+                        .build());
+
+        createBuild.apply("1").build();
+        ProjectionResult result = createBuild.apply("1").build().getProjectionResult("source").get();
+
+        assertThat(runs.get(), equalTo(1));
+        assertTrue(result.getPluginManifest("counting").get().hasFile("a/b.txt"));
+
+        createBuild.apply("2").build();
+
+        assertThat(runs.get(), equalTo(2));
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("source/counting/a/b.txt")), equalTo("2"));
+    }
+
+    @Test
+    public void rerunsPluginsWhenArtifactsAreMissing() throws IOException {
+        AtomicInteger runs = new AtomicInteger();
+        SmithyBuildPlugin counting = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "counting";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                runs.incrementAndGet();
+                context.getFileManifest().writeFile("a.txt", "hi");
+            }
+        };
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
+                Optional.ofNullable(name.equals("counting") ? counting : null), () -> factory.apply(name));
+        SmithyBuild build = new SmithyBuild()
+                .pluginFactory(composed)
+                .outputDirectory(outputDirectory)
+                .incremental(true)
+                .config(SmithyBuildConfig.builder()
+                        .version(SmithyBuild.VERSION)
+                        .plugins(MapUtils.of("counting", Node.objectNode()))
+                        .build());
+
+        build.build();
+        Files.delete(outputDirectory.resolve("source/counting/a.txt"));
+        build.build();
+
+        assertThat(runs.get(), equalTo(2));
+        assertTrue(Files.exists(outputDirectory.resolve("source/counting/a.txt")));
+    }
+
+    private static final class LatchPlugin implements SmithyBuildPlugin {
+        private final String name;
+        private final CountDownLatch latch;
+
+        LatchPlugin(String name, CountDownLatch latch) {
+            this.name = name;
+            this.latch = latch;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void execute(PluginContext context) {
+            latch.countDown();
+            try {
+                context.getFileManifest().writeFile(name, String.valueOf(latch.await(5, TimeUnit.SECONDS)));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     private long getPluginFileContents(ProjectionResult projection, String pluginName) {
         MockManifest manifest = (MockManifest) projection.getPluginManifest(pluginName).get();
         return Long.parseLong(manifest.getFileString(manifest.getFiles().iterator().next()).get());
@@ -61,9 +61,14 @@ final class BuildCommand extends ClasspathCommand {
     private static final class Options implements ArgumentReceiver {
         private String projection;
         private String plugin;
+        private boolean incremental;
 
         @Override
         public boolean testOption(String name) {
+            if (name.equals("--incremental")) {
+                incremental = true;
+                return true;
+            }
             return false;
         }
 
@@ -83,6 +88,7 @@ final class BuildCommand extends ClasspathCommand {
         public void registerHelp(HelpPrinter printer) {
             printer.param("--projection", null, "PROJECTION_NAME", "Only generate artifacts for this projection.");
             printer.param("--plugin", null, "PLUGIN_NAME", "Only generate artifacts for this plugin.");
+            printer.option("--incremental", null, "Skip plugins whose inputs have not changed since the last build.");
         }
     }
 
@@ -104,7 +110,8 @@ final class BuildCommand extends ClasspathCommand {
 
         SmithyBuild smithyBuild = SmithyBuild.create(classLoader)
                 .config(config)
-                .model(model);
+                .model(model)
+                .incremental(options.incremental);
 
         if (buildOptions.output() != null) {
             smithyBuild.outputDirectory(buildOptions.output());
@@ -35,6 +35,7 @@ import software.amazon.smithy.model.loader.ModelAssembler;
 import software.amazon.smithy.model.validation.ContextualValidationEventFormatter;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEventSummary;
 
 final class CommandUtils {
 
@@ -80,8 +81,12 @@ final class CommandUtils {
         models.forEach(assembler::addImport);
         config.getImports().forEach(assembler::addImport);
 
+        // Events are streamed to the listener above, so only retain the events that fail validation.
+        ValidationEventSummary summary = new ValidationEventSummary(0);
+        assembler.validationEventSummary(summary);
+
         ValidatedResult<Model> result = assembler.assemble();
-        Validator.validate(quietValidation, colors, env.stderr(), result);
+        Validator.validate(quietValidation, colors, env.stderr(), result, summary);
         return result.getResult().orElseThrow(() -> new RuntimeException("Expected Validator to throw"));
     }
 
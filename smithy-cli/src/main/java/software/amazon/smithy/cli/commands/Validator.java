@@ -23,6 +23,7 @@ import software.amazon.smithy.cli.Style;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEventSummary;
 
 /**
  * Shares logic for validating a model and printing out events.
@@ -31,11 +32,18 @@ final class Validator {
 
     private Validator() {}
 
-    static void validate(boolean quiet, ColorFormatter colors, CliPrinter printer, ValidatedResult<Model> result) {
-        int notes = result.getValidationEvents(Severity.NOTE).size();
-        int warnings = result.getValidationEvents(Severity.WARNING).size();
-        int errors = result.getValidationEvents(Severity.ERROR).size();
-        int dangers = result.getValidationEvents(Severity.DANGER).size();
+    static void validate(
+            boolean quiet,
+            ColorFormatter colors,
+            CliPrinter printer,
+            ValidatedResult<Model> result,
+            ValidationEventSummary summary
+    ) {
+        // Events are counted by the summary since the result doesn't retain every event.
+        long notes = summary.getCount(Severity.NOTE);
+        long warnings = summary.getCount(Severity.WARNING);
+        long errors = summary.getCount(Severity.ERROR);
+        long dangers = summary.getCount(Severity.DANGER);
         int shapeCount = result.getResult().isPresent() ? result.getResult().get().toSet().size() : 0;
         boolean isFailed = errors > 0 || dangers > 0;
         boolean hasEvents = warnings > 0 || notes > 0 || isFailed;
@@ -81,7 +89,7 @@ final class Validator {
             StringJoiner joiner,
             ColorFormatter colors,
             String label,
-            int count,
+            long count,
             Style color) {
         joiner.add(colors.style(label, color) + ": " + count);
     }
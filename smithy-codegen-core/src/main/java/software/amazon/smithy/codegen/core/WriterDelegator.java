@@ -122,6 +122,10 @@ public class WriterDelegator<W extends SymbolWriter<W, ? extends ImportContainer
      * <p>This method clears out the managed {@code SymbolWriter}s, meaning a
      * subsequent call to {@link #getWriters()} will return an empty map.
      *
+     * <p>When generating a large number of files, consider using a
+     * {@link software.amazon.smithy.build.BufferedFileManifest} so that
+     * files are written in parallel and unchanged files are not rewritten.
+     *
      * <p>This method may be overridden as needed.
      */
     public void flushWriters() {
@@ -16,28 +16,42 @@
 package software.amazon.smithy.diff;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.utils.Pair;
 
 /**
  * Queryable container for detected structural differences between two models.
+ *
+ * <p>Changed shapes are detected in parallel and indexed by shape type and
+ * by the IDs of their changed traits, so that evaluators can query them
+ * without rescanning every changed shape.
  */
 public final class Differences {
     private final Model oldModel;
     private final Model newModel;
-    private final List<ChangedShape<Shape>> changedShapes = new ArrayList<>();
+    private final List<ChangedShape<Shape>> changedShapes;
     private final List<ChangedMetadata> changedMetadata = new ArrayList<>();
+    private final Map<ShapeId, List<ChangedShape<Shape>>> changedShapesByTrait;
+    private final Map<Class<?>, List<ChangedShape<?>>> changedShapesByType = new ConcurrentHashMap<>();
 
     private Differences(Model oldModel, Model newModel) {
         this.oldModel = oldModel;
         this.newModel = newModel;
         detectMetadataChanges(oldModel, newModel, this);
-        detectShapeChanges(oldModel, newModel, this);
+        changedShapes = detectShapeChanges(oldModel, newModel);
+        changedShapesByTrait = indexChangedTraits(changedShapes);
     }
 
     static Differences detect(Model oldModel, Model newModel) {
@@ -148,11 +162,33 @@ public final class Differences {
      */
     @SuppressWarnings("unchecked")
     public <T extends Shape> Stream<ChangedShape<T>> changedShapes(Class<T> type) {
-        return changedShapes()
-                .filter(change -> type.isInstance(change.getOldShape()) && type.isInstance(change.getNewShape()))
+        return changedShapesByType.computeIfAbsent(type, t -> Collections.unmodifiableList(changedShapes.stream()
+                        .filter(change -> type.isInstance(change.getOldShape())
+                                          && type.isInstance(change.getNewShape()))
+                        .collect(Collectors.toList())))
+                .stream()
                 .map(change -> (ChangedShape<T>) change);
     }
 
+    /**
+     * Gets all changed shapes that added, removed, or modified a specific trait.
+     *
+     * @param traitId Shape ID of the trait to find.
+     * @return Returns a stream of changed shapes with changes to the trait.
+     */
+    public Stream<ChangedShape<Shape>> changedShapesWithTraitChange(ShapeId traitId) {
+        return changedShapesByTrait.getOrDefault(traitId, Collections.emptyList()).stream();
+    }
+
+    /**
+     * Gets the IDs of all traits that were added, removed, or modified on changed shapes.
+     *
+     * @return Returns the changed trait IDs.
+     */
+    public Stream<ShapeId> changedTraitIds() {
+        return changedShapesByTrait.keySet().stream();
+    }
+
     /**
      * Gets a stream of all changed metadata.
      *
@@ -181,14 +217,58 @@ public final class Differences {
         return Objects.hash(getOldModel(), getNewModel());
     }
 
-    private static void detectShapeChanges(Model oldModel, Model newModel, Differences differences) {
-        for (Shape oldShape : oldModel.toSet()) {
-            newModel.getShape(oldShape.getId()).ifPresent(newShape -> {
-                if (!oldShape.equals(newShape)) {
-                    differences.changedShapes.add(new ChangedShape<>(oldShape, newShape));
-                }
-            });
+    private static List<ChangedShape<Shape>> detectShapeChanges(Model oldModel, Model newModel) {
+        // Structural hashes are cached per shape ID so that the hash of a member
+        // is only computed once when it's included in the hash of its container.
+        Map<ShapeId, Integer> oldHashes = new ConcurrentHashMap<>();
+        Map<ShapeId, Integer> newHashes = new ConcurrentHashMap<>();
+
+        return oldModel.shapes().parallel()
+                .map(oldShape -> {
+                    Shape newShape = newModel.getShape(oldShape.getId()).orElse(null);
+                    if (newShape == null || oldShape == newShape) {
+                        return null;
+                    }
+                    // Differing structural hashes prove that a shape changed without
+                    // performing a deep comparison.
+                    if (structuralHash(oldShape, oldHashes) == structuralHash(newShape, newHashes)
+                            && oldShape.equals(newShape)) {
+                        return null;
+                    }
+                    return new ChangedShape<>(oldShape, newShape);
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static int structuralHash(Shape shape, Map<ShapeId, Integer> cache) {
+        Integer cached = cache.get(shape.getId());
+        if (cached != null) {
+            return cached;
+        }
+
+        // Trait hash codes are cached by traits, making this cheaper than comparing shapes.
+        int hash = shape.hashCode() * 31 + shape.getAllTraits().hashCode();
+        hash = hash * 31 + shape.getMixins().hashCode();
+        if (shape instanceof MemberShape) {
+            hash = hash * 31 + ((MemberShape) shape).getTarget().hashCode();
+        }
+        for (MemberShape member : shape.members()) {
+            hash = hash * 31 + structuralHash(member, cache);
+        }
+
+        cache.put(shape.getId(), hash);
+        return hash;
+    }
+
+    private static Map<ShapeId, List<ChangedShape<Shape>>> indexChangedTraits(List<ChangedShape<Shape>> changes) {
+        Map<ShapeId, List<ChangedShape<Shape>>> result = new LinkedHashMap<>();
+        for (ChangedShape<Shape> change : changes) {
+            for (ShapeId traitId : change.getTraitDifferences().keySet()) {
+                result.computeIfAbsent(traitId, id -> new ArrayList<>()).add(change);
+            }
         }
+        return result;
     }
 
     private static void detectMetadataChanges(Model oldModel, Model newModel, Differences differences) {
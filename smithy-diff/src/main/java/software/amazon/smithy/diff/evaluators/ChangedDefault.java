@@ -27,7 +27,9 @@ import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.model.traits.AddedDefaultTrait;
 import software.amazon.smithy.model.traits.DefaultTrait;
+import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 @SmithyInternalApi
@@ -37,16 +39,13 @@ public final class ChangedDefault extends AbstractDiffEvaluator {
         List<ValidationEvent> events = new ArrayList<>();
 
         // Find changes in the DefaultTrait.
-        differences.changedShapes().forEach(change -> {
-            change.getTraitDifferences().forEach((traitId, pair) -> {
-                if (traitId.equals(DefaultTrait.ID)) {
-                    if ((pair.left == null || pair.left instanceof DefaultTrait)
-                            && (pair.right == null || pair.right instanceof DefaultTrait)) {
-                        validateChange(events, differences.getNewModel(), change,
-                                       (DefaultTrait) pair.left, (DefaultTrait) pair.right);
-                    }
-                }
-            });
+        differences.changedShapesWithTraitChange(DefaultTrait.ID).forEach(change -> {
+            Pair<Trait, Trait> pair = change.getTraitDifferences().get(DefaultTrait.ID);
+            if ((pair.left == null || pair.left instanceof DefaultTrait)
+                    && (pair.right == null || pair.right instanceof DefaultTrait)) {
+                validateChange(events, differences.getNewModel(), change,
+                               (DefaultTrait) pair.left, (DefaultTrait) pair.right);
+            }
         });
 
         return events;
@@ -67,7 +67,8 @@ public class ChangedNullability extends AbstractDiffEvaluator {
     }
 
     private Stream<ChangedShape<MemberShape>> changedInputMembers(Differences differences) {
-        return differences.changedShapes(StructureShape.class)
+        return differences.changedShapesWithTraitChange(InputTrait.ID)
+                .filter(change -> change.getOldShape().isStructureShape() && change.getNewShape().isStructureShape())
                 .filter(change -> change.isTraitAdded(InputTrait.ID) || change.isTraitRemoved(InputTrait.ID))
                 // Find all members that existed before and exist now.
                 .flatMap(change -> change.getNewShape().members().stream()
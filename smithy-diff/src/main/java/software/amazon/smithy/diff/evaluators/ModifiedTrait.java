@@ -18,10 +18,12 @@ package software.amazon.smithy.diff.evaluators;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import software.amazon.smithy.diff.ChangedShape;
 import software.amazon.smithy.diff.Differences;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
@@ -43,6 +45,7 @@ import software.amazon.smithy.model.traits.synthetic.SyntheticEnumTrait;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SetUtils;
 import software.amazon.smithy.utils.StringUtils;
 
@@ -107,31 +110,37 @@ public final class ModifiedTrait extends AbstractDiffEvaluator {
         Map<ShapeId, List<DiffStrategy>> strategies = computeDiffStrategies(differences.getNewModel());
         List<ValidationEvent> events = new ArrayList<>();
 
-        differences.changedShapes().forEach(changedShape -> {
-            changedShape.getTraitDifferences().forEach((traitId, oldTraitNewTraitPair) -> {
+        // Only the changed shapes indexed under each changed trait are visited. Events are grouped by changed
+        // shape and then emitted in the order of changed shapes rather than in the order of traits.
+        Map<ChangedShape<Shape>, List<ValidationEvent>> eventsByShape = new IdentityHashMap<>();
+        differences.changedTraitIds().filter(traitId -> !IGNORED_TRAITS.contains(traitId)).forEach(traitId -> {
+            // If we don't know about the trait, warn on any change to it.
+            List<DiffStrategy> diffStrategies = strategies.computeIfAbsent(traitId,
+                    t -> ListUtils.of(new DiffStrategy(DiffType.CONST, Severity.WARNING)));
+
+            differences.changedShapesWithTraitChange(traitId).forEach(changedShape -> {
+                Pair<Trait, Trait> oldTraitNewTraitPair = changedShape.getTraitDifferences().get(traitId);
                 Trait oldTrait = oldTraitNewTraitPair.left;
                 Trait newTrait = oldTraitNewTraitPair.right;
-                // Do not emit for the box trait because it is added and removed for backward compatibility.
-                if (!IGNORED_TRAITS.contains(traitId)) {
-                    // If we don't know about the trait, warn on any change to it.
-                    List<DiffStrategy> diffStrategies = strategies.computeIfAbsent(traitId,
-                            t -> ListUtils.of(new DiffStrategy(DiffType.CONST, Severity.WARNING)));
-
-                    for (DiffStrategy strategy : diffStrategies) {
-                        List<ValidationEvent> diffEvents = strategy.diffType.validate(
-                                differences.getNewModel(),
-                                "",
-                                changedShape.getNewShape(),
-                                traitId,
-                                oldTrait == null ? null : oldTrait.toNode(),
-                                newTrait == null ? null : newTrait.toNode(),
-                                strategy.severity);
-                        events.addAll(diffEvents);
-                    }
+                List<ValidationEvent> shapeEvents = eventsByShape.computeIfAbsent(
+                        changedShape, c -> new ArrayList<>());
+                for (DiffStrategy strategy : diffStrategies) {
+                    shapeEvents.addAll(strategy.diffType.validate(
+                            differences.getNewModel(),
+                            "",
+                            changedShape.getNewShape(),
+                            traitId,
+                            oldTrait == null ? null : oldTrait.toNode(),
+                            newTrait == null ? null : newTrait.toNode(),
+                            strategy.severity));
                 }
             });
         });
 
+        if (!eventsByShape.isEmpty()) {
+            differences.changedShapes().map(eventsByShape::get).filter(Objects::nonNull).forEach(events::addAll);
+        }
+
         return events;
     }
 
@@ -16,14 +16,22 @@
 package software.amazon.smithy.diff;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.model.traits.SensitiveTrait;
 
 public class DifferencesTest {
@@ -96,4 +104,47 @@ public class DifferencesTest {
         assertThat(diff.getOldShape(), equalTo(shape1));
         assertThat(diff.getNewShape(), equalTo(shape2));
     }
+
+    @Test
+    public void detectsChangedMembersAndTheirContainers() {
+        Model previous = Model.assembler()
+                .addUnparsedModel("a.smithy", "$version: \"2.0\"\nnamespace foo.bar\n"
+                        + "structure A { a: String, b: String }\nstructure B { a: String }\n")
+                .assemble()
+                .unwrap();
+        Model current = Model.assembler()
+                .addUnparsedModel("a.smithy", "$version: \"2.0\"\nnamespace foo.bar\n"
+                        + "structure A { a: String, @required b: String }\nstructure B { a: String }\n")
+                .assemble()
+                .unwrap();
+        Differences differences = Differences.detect(previous, current);
+
+        assertThat(differences.changedShapes().map(ChangedShape::getShapeId).collect(Collectors.toSet()),
+                   containsInAnyOrder(ShapeId.from("foo.bar#A"), ShapeId.from("foo.bar#A$b")));
+        assertThat(differences.changedShapes(StructureShape.class).count(), equalTo(1L));
+        assertThat(differences.changedShapes(MemberShape.class).count(), equalTo(1L));
+    }
+
+    @Test
+    public void indexesChangedShapesByTrait() {
+        Shape shape1 = StringShape.builder().id("foo.bar#Baz").build();
+        Shape shape2 = StringShape.builder().id("foo.bar#Baz").addTrait(new SensitiveTrait()).build();
+        Shape shape3 = StringShape.builder().id("foo.bar#Bam").addTrait(new DocumentationTrait("a")).build();
+        Shape shape4 = StringShape.builder().id("foo.bar#Bam").addTrait(new DocumentationTrait("b")).build();
+        Model previous = Model.assembler().addShapes(shape1, shape3).assemble().unwrap();
+        Model current = Model.assembler().addShapes(shape2, shape4).assemble().unwrap();
+        Differences differences = Differences.detect(previous, current);
+
+        assertThat(differences.changedTraitIds().collect(Collectors.toSet()),
+                   containsInAnyOrder(SensitiveTrait.ID, DocumentationTrait.ID));
+        assertThat(differences.changedShapesWithTraitChange(SensitiveTrait.ID)
+                           .map(ChangedShape::getNewShape)
+                           .collect(Collectors.toList()),
+                   contains(shape2));
+        assertThat(differences.changedShapesWithTraitChange(DocumentationTrait.ID)
+                           .map(ChangedShape::getNewShape)
+                           .collect(Collectors.toList()),
+                   contains(shape4));
+        assertThat(differences.changedShapesWithTraitChange(RequiredTrait.ID).count(), equalTo(0L));
+    }
 }
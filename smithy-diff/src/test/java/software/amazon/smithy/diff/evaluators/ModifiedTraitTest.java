@@ -138,6 +138,30 @@ public class ModifiedTraitTest {
         assertThat(TestHelper.findEvents(events, "ModifiedTrait").size(), equalTo(0));
     }
 
+    @Test
+    public void emitsEventsInChangedShapeOrder() {
+        Shape a = StringShape.builder().id("foo.baz#A").build();
+        Shape b = StringShape.builder().id("foo.baz#B").build();
+        Model modelA = Model.assembler().addShapes(a, b).assemble().unwrap();
+        Model modelB = Model.assembler()
+                .addShapes(addTraits(a), addTraits(b))
+                .assemble()
+                .unwrap();
+        List<ValidationEvent> events = TestHelper.findEvents(ModelDiff.compare(modelA, modelB), "ModifiedTrait");
+
+        assertThat(events, hasSize(4));
+        // The events of each shape are emitted together rather than grouped by trait.
+        assertThat(events.get(0).getShapeId(), equalTo(events.get(1).getShapeId()));
+        assertThat(events.get(2).getShapeId(), equalTo(events.get(3).getShapeId()));
+    }
+
+    private static Shape addTraits(Shape shape) {
+        return Shape.shapeToBuilder(shape)
+                .addTrait(new DynamicTrait(ShapeId.from("smithy.example#x"), Node.from("x")))
+                .addTrait(new DynamicTrait(ShapeId.from("smithy.example#y"), Node.from("y")))
+                .build();
+    }
+
     @Test
     public void modifiedShapeNoTag() {
         Model modelA = Model.assembler()
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A JMESPath expression compiled for repeated evaluation against values of
+ * a specific {@link JmespathRuntime}.
+ *
+ * <p>Compiling an expression converts its AST into a tree of closures
+ * specialized for each node. Chains of field accesses are fused into a
+ * single loop, and literals are converted into runtime values once rather
+ * than on every evaluation. Compiled expressions are immutable and can be
+ * evaluated concurrently.
+ *
+ * @param <T> Type of value the expression is evaluated against.
+ * @see JmespathExpression#compile(JmespathRuntime)
+ */
+public final class CompiledExpression<T> {
+
+    private final JmespathExpression expression;
+    private final JmespathRuntime<T> runtime;
+    private final UnaryOperator<T> evaluator;
+
+    CompiledExpression(JmespathExpression expression, JmespathRuntime<T> runtime) {
+        this.expression = expression;
+        this.runtime = runtime;
+        this.evaluator = expression.accept(new ExpressionCompiler<>(runtime));
+    }
+
+    /**
+     * Gets the expression that was compiled.
+     *
+     * @return Returns the expression.
+     */
+    public JmespathExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the runtime the expression was compiled for.
+     *
+     * @return Returns the runtime.
+     */
+    public JmespathRuntime<T> getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param currentNode The value to set as the current node.
+     * @return Returns the result of the expression.
+     * @throws JmespathException if the expression cannot be evaluated.
+     */
+    public T evaluate(T currentNode) {
+        return evaluator.apply(currentNode);
+    }
+
+    @Override
+    public String toString() {
+        return new ExpressionSerializer().serialize(expression);
+    }
+}
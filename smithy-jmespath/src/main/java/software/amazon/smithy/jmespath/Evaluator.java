@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * Evaluates JMESPath expressions against values of a {@link JmespathRuntime}.
+ *
+ * <p>A single evaluator is used for an entire evaluation. The current node
+ * is swapped in place while evaluating the right-hand side of
+ * subexpressions and projections rather than creating a new visitor for
+ * every element, and projections iterate the elements of the left-hand side
+ * directly so that only the projected result is allocated.
+ *
+ * @param <T> Type of value being evaluated.
+ */
+final class Evaluator<T> implements ExpressionVisitor<T> {
+
+    private final RuntimeFunctions<T> functions;
+    private final JmespathRuntime<T> runtime;
+    private T current;
+
+    Evaluator(T current, JmespathRuntime<T> runtime) {
+        this.current = current;
+        this.runtime = runtime;
+        this.functions = new RuntimeFunctions<>(runtime);
+    }
+
+    private T evaluate(JmespathExpression expression, T value) {
+        T previous = current;
+        current = value;
+        try {
+            return expression.accept(this);
+        } finally {
+            current = previous;
+        }
+    }
+
+    @Override
+    public T visitComparator(ComparatorExpression expression) {
+        T left = expression.getLeft().accept(this);
+        T right = expression.getRight().accept(this);
+        return functions.compare(expression.getComparator(), left, right);
+    }
+
+    @Override
+    public T visitCurrentNode(CurrentExpression expression) {
+        return current;
+    }
+
+    @Override
+    public T visitExpressionType(ExpressionTypeExpression expression) {
+        throw new JmespathException("Expression references can only be used as function arguments");
+    }
+
+    @Override
+    public T visitFlatten(FlattenExpression expression) {
+        return functions.flatten(expression.getExpression().accept(this));
+    }
+
+    @Override
+    public T visitField(FieldExpression expression) {
+        return functions.field(current, expression.getName());
+    }
+
+    @Override
+    public T visitIndex(IndexExpression expression) {
+        return functions.index(current, expression.getIndex());
+    }
+
+    @Override
+    public T visitLiteral(LiteralExpression expression) {
+        return functions.fromLiteral(expression.getValue());
+    }
+
+    @Override
+    public T visitMultiSelectList(MultiSelectListExpression expression) {
+        if (functions.isNull(current)) {
+            return current;
+        }
+
+        List<T> values = new ArrayList<>(expression.getExpressions().size());
+        for (JmespathExpression e : expression.getExpressions()) {
+            values.add(e.accept(this));
+        }
+        return runtime.createArray(values);
+    }
+
+    @Override
+    public T visitMultiSelectHash(MultiSelectHashExpression expression) {
+        if (functions.isNull(current)) {
+            return current;
+        }
+
+        Map<String, T> values = new LinkedHashMap<>();
+        for (Map.Entry<String, JmespathExpression> entry : expression.getExpressions().entrySet()) {
+            values.put(entry.getKey(), entry.getValue().accept(this));
+        }
+        return runtime.createObject(values);
+    }
+
+    @Override
+    public T visitAnd(AndExpression expression) {
+        T left = expression.getLeft().accept(this);
+        return functions.isTruthy(left) ? expression.getRight().accept(this) : left;
+    }
+
+    @Override
+    public T visitOr(OrExpression expression) {
+        T left = expression.getLeft().accept(this);
+        return functions.isTruthy(left) ? left : expression.getRight().accept(this);
+    }
+
+    @Override
+    public T visitNot(NotExpression expression) {
+        return runtime.createBoolean(!functions.isTruthy(expression.getExpression().accept(this)));
+    }
+
+    @Override
+    public T visitProjection(ProjectionExpression expression) {
+        T left = expression.getLeft().accept(this);
+
+        if (runtime.typeOf(left) != RuntimeType.ARRAY) {
+            return runtime.createNull();
+        }
+
+        List<T> result = new ArrayList<>(runtime.length(left));
+        for (T element : runtime.elements(left)) {
+            functions.addIfNotNull(result, evaluate(expression.getRight(), element));
+        }
+        return runtime.createArray(result);
+    }
+
+    @Override
+    public T visitFilterProjection(FilterProjectionExpression expression) {
+        T left = expression.getLeft().accept(this);
+
+        if (runtime.typeOf(left) != RuntimeType.ARRAY) {
+            return runtime.createNull();
+        }
+
+        List<T> result = new ArrayList<>();
+        for (T element : runtime.elements(left)) {
+            if (functions.isTruthy(evaluate(expression.getComparison(), element))) {
+                functions.addIfNotNull(result, evaluate(expression.getRight(), element));
+            }
+        }
+        return runtime.createArray(result);
+    }
+
+    @Override
+    public T visitObjectProjection(ObjectProjectionExpression expression) {
+        T left = expression.getLeft().accept(this);
+
+        if (runtime.typeOf(left) != RuntimeType.OBJECT) {
+            return runtime.createNull();
+        }
+
+        List<T> result = new ArrayList<>(runtime.length(left));
+        for (String key : runtime.keys(left)) {
+            functions.addIfNotNull(result, evaluate(expression.getRight(), runtime.value(left, key)));
+        }
+        return runtime.createArray(result);
+    }
+
+    @Override
+    public T visitSlice(SliceExpression expression) {
+        return functions.slice(current,
+                               expression.getStart().isPresent() ? expression.getStart().getAsInt() : null,
+                               expression.getStop().isPresent() ? expression.getStop().getAsInt() : null,
+                               expression.getStep());
+    }
+
+    @Override
+    public T visitSubexpression(Subexpression expression) {
+        T left = expression.getLeft().accept(this);
+        return evaluate(expression.getRight(), left);
+    }
+
+    @Override
+    public T visitFunction(FunctionExpression expression) {
+        List<JmespathExpression> arguments = expression.getArguments();
+        RuntimeFunctions.checkArity(expression.getName(), arguments.size());
+
+        return functions.call(expression.getName(), new RuntimeFunctions.Arguments<T>() {
+            @Override
+            public int size() {
+                return arguments.size();
+            }
+
+            @Override
+            public boolean isExpression(int index) {
+                return arguments.get(index) instanceof ExpressionTypeExpression;
+            }
+
+            @Override
+            public T value(int index) {
+                return arguments.get(index).accept(Evaluator.this);
+            }
+
+            @Override
+            public T apply(int index, T value) {
+                return evaluate(((ExpressionTypeExpression) arguments.get(index)).getExpression(), value);
+            }
+        });
+    }
+}
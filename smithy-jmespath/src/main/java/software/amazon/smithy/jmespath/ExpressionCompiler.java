@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorType;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * Compiles a JMESPath AST into closures that evaluate it against a value.
+ *
+ * <p>The closures have the same semantics as {@link Evaluator}, but work
+ * that only depends on the expression is done once at compile time.
+ *
+ * @param <T> Type of value being evaluated.
+ */
+final class ExpressionCompiler<T> implements ExpressionVisitor<UnaryOperator<T>> {
+
+    private final RuntimeFunctions<T> functions;
+    private final JmespathRuntime<T> runtime;
+    private final T trueValue;
+    private final T falseValue;
+
+    ExpressionCompiler(JmespathRuntime<T> runtime) {
+        this.runtime = runtime;
+        this.functions = new RuntimeFunctions<>(runtime);
+        this.trueValue = runtime.createBoolean(true);
+        this.falseValue = runtime.createBoolean(false);
+    }
+
+    private T bool(boolean value) {
+        return value ? trueValue : falseValue;
+    }
+
+    @Override
+    public UnaryOperator<T> visitComparator(ComparatorExpression expression) {
+        ComparatorType comparator = expression.getComparator();
+
+        // Comparisons against literals are specialized for the type of the literal.
+        if (expression.getRight() instanceof LiteralExpression) {
+            UnaryOperator<T> left = expression.getLeft().accept(this);
+            return compareToLiteral(left, comparator, (LiteralExpression) expression.getRight(), false);
+        } else if (expression.getLeft() instanceof LiteralExpression) {
+            UnaryOperator<T> right = expression.getRight().accept(this);
+            return compareToLiteral(right, comparator, (LiteralExpression) expression.getLeft(), true);
+        }
+
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = expression.getRight().accept(this);
+        return current -> functions.compare(comparator, left.apply(current), right.apply(current));
+    }
+
+    private UnaryOperator<T> compareToLiteral(
+            UnaryOperator<T> operand,
+            ComparatorType comparator,
+            LiteralExpression literal,
+            boolean literalOnLeft
+    ) {
+        boolean equal = comparator == ComparatorType.EQUAL;
+        boolean notEqual = comparator == ComparatorType.NOT_EQUAL;
+
+        if (literal.isStringValue() && (equal || notEqual)) {
+            String expected = literal.expectStringValue();
+            return current -> {
+                T value = operand.apply(current);
+                boolean matches = runtime.typeOf(value) == RuntimeType.STRING
+                                  && runtime.asString(value).equals(expected);
+                return bool(matches == equal);
+            };
+        } else if (literal.isBooleanValue() && (equal || notEqual)) {
+            boolean expected = literal.expectBooleanValue();
+            return current -> {
+                T value = operand.apply(current);
+                boolean matches = runtime.typeOf(value) == RuntimeType.BOOLEAN && runtime.asBoolean(value) == expected;
+                return bool(matches == equal);
+            };
+        } else if (literal.isNumberValue()) {
+            Number expected = literal.expectNumberValue();
+            return current -> {
+                T value = operand.apply(current);
+                if (runtime.typeOf(value) != RuntimeType.NUMBER) {
+                    return equal || notEqual ? bool(notEqual) : runtime.createNull();
+                }
+                int comparison = RuntimeFunctions.compareNumbers(runtime.asNumber(value), expected);
+                if (equal || notEqual) {
+                    return bool((comparison == 0) == equal);
+                }
+                return bool(RuntimeFunctions.order(comparator, literalOnLeft ? -comparison : comparison));
+            };
+        }
+
+        T expected = functions.fromLiteral(literal.getValue());
+        return literalOnLeft
+               ? current -> functions.compare(comparator, expected, operand.apply(current))
+               : current -> functions.compare(comparator, operand.apply(current), expected);
+    }
+
+    @Override
+    public UnaryOperator<T> visitCurrentNode(CurrentExpression expression) {
+        return current -> current;
+    }
+
+    @Override
+    public UnaryOperator<T> visitExpressionType(ExpressionTypeExpression expression) {
+        return current -> {
+            throw new JmespathException("Expression references can only be used as function arguments");
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitFlatten(FlattenExpression expression) {
+        UnaryOperator<T> inner = expression.getExpression().accept(this);
+        return current -> functions.flatten(inner.apply(current));
+    }
+
+    @Override
+    public UnaryOperator<T> visitField(FieldExpression expression) {
+        String name = expression.getName();
+        return current -> functions.field(current, name);
+    }
+
+    @Override
+    public UnaryOperator<T> visitIndex(IndexExpression expression) {
+        int index = expression.getIndex();
+        return current -> functions.index(current, index);
+    }
+
+    @Override
+    public UnaryOperator<T> visitLiteral(LiteralExpression expression) {
+        T value = functions.fromLiteral(expression.getValue());
+        return current -> value;
+    }
+
+    @Override
+    public UnaryOperator<T> visitMultiSelectList(MultiSelectListExpression expression) {
+        List<UnaryOperator<T>> elements = compileAll(expression.getExpressions());
+        return current -> {
+            if (functions.isNull(current)) {
+                return current;
+            }
+            List<T> values = new ArrayList<>(elements.size());
+            for (UnaryOperator<T> element : elements) {
+                values.add(element.apply(current));
+            }
+            return runtime.createArray(values);
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitMultiSelectHash(MultiSelectHashExpression expression) {
+        List<String> keys = new ArrayList<>(expression.getExpressions().keySet());
+        List<UnaryOperator<T>> members = compileAll(expression.getExpressions().values());
+        return current -> {
+            if (functions.isNull(current)) {
+                return current;
+            }
+            Map<String, T> values = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                values.put(keys.get(i), members.get(i).apply(current));
+            }
+            return runtime.createObject(values);
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitAnd(AndExpression expression) {
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = expression.getRight().accept(this);
+        return current -> {
+            T value = left.apply(current);
+            return functions.isTruthy(value) ? right.apply(current) : value;
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitOr(OrExpression expression) {
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = expression.getRight().accept(this);
+        return current -> {
+            T value = left.apply(current);
+            return functions.isTruthy(value) ? value : right.apply(current);
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitNot(NotExpression expression) {
+        UnaryOperator<T> inner = expression.getExpression().accept(this);
+        return current -> bool(!functions.isTruthy(inner.apply(current)));
+    }
+
+    @Override
+    public UnaryOperator<T> visitProjection(ProjectionExpression expression) {
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = projectionRight(expression.getRight());
+        return current -> {
+            T value = left.apply(current);
+            if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+            List<T> result = new ArrayList<>(runtime.length(value));
+            for (T element : runtime.elements(value)) {
+                functions.addIfNotNull(result, right == null ? element : right.apply(element));
+            }
+            return runtime.createArray(result);
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitFilterProjection(FilterProjectionExpression expression) {
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> comparison = expression.getComparison().accept(this);
+        UnaryOperator<T> right = projectionRight(expression.getRight());
+        return current -> {
+            T value = left.apply(current);
+            if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+                return runtime.createNull();
+            }
+            List<T> result = new ArrayList<>();
+            for (T element : runtime.elements(value)) {
+                if (functions.isTruthy(comparison.apply(element))) {
+                    functions.addIfNotNull(result, right == null ? element : right.apply(element));
+                }
+            }
+            return runtime.createArray(result);
+        };
+    }
+
+    @Override
+    public UnaryOperator<T> visitObjectProjection(ObjectProjectionExpression expression) {
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = projectionRight(expression.getRight());
+        return current -> {
+            T value = left.apply(current);
+            if (runtime.typeOf(value) != RuntimeType.OBJECT) {
+                return runtime.createNull();
+            }
+            List<T> result = new ArrayList<>(runtime.length(value));
+            for (String key : runtime.keys(value)) {
+                T member = runtime.value(value, key);
+                functions.addIfNotNull(result, right == null ? member : right.apply(member));
+            }
+            return runtime.createArray(result);
+        };
+    }
+
+    // Returns null when the right side of a projection is the current node, which is the most common case.
+    private UnaryOperator<T> projectionRight(JmespathExpression right) {
+        return right instanceof CurrentExpression ? null : right.accept(this);
+    }
+
+    @Override
+    public UnaryOperator<T> visitSlice(SliceExpression expression) {
+        Integer start = expression.getStart().isPresent() ? expression.getStart().getAsInt() : null;
+        Integer stop = expression.getStop().isPresent() ? expression.getStop().getAsInt() : null;
+        int step = expression.getStep();
+        return current -> functions.slice(current, start, stop, step);
+    }
+
+    @Override
+    public UnaryOperator<T> visitSubexpression(Subexpression expression) {
+        // Fuse chains of field accesses like "a.b.c" into a single loop.
+        List<String> path = new ArrayList<>();
+        if (collectFieldPath(expression, path)) {
+            String[] names = path.toArray(new String[0]);
+            return current -> {
+                T value = current;
+                for (String name : names) {
+                    if (runtime.typeOf(value) != RuntimeType.OBJECT) {
+                        return runtime.createNull();
+                    }
+                    value = runtime.value(value, name);
+                }
+                return value;
+            };
+        }
+
+        UnaryOperator<T> left = expression.getLeft().accept(this);
+        UnaryOperator<T> right = expression.getRight().accept(this);
+        return current -> right.apply(left.apply(current));
+    }
+
+    private static boolean collectFieldPath(JmespathExpression expression, List<String> path) {
+        if (expression instanceof FieldExpression) {
+            path.add(((FieldExpression) expression).getName());
+            return true;
+        } else if (expression instanceof Subexpression) {
+            Subexpression subexpression = (Subexpression) expression;
+            return collectFieldPath(subexpression.getLeft(), path) && collectFieldPath(subexpression.getRight(), path);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public UnaryOperator<T> visitFunction(FunctionExpression expression) {
+        String name = expression.getName();
+        List<JmespathExpression> arguments = expression.getArguments();
+        RuntimeFunctions.checkArity(name, arguments.size());
+
+        int size = arguments.size();
+        boolean[] isExpression = new boolean[size];
+        List<UnaryOperator<T>> compiled = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            JmespathExpression argument = arguments.get(i);
+            isExpression[i] = argument instanceof ExpressionTypeExpression;
+            compiled.add(isExpression[i]
+                         ? ((ExpressionTypeExpression) argument).getExpression().accept(this)
+                         : argument.accept(this));
+        }
+
+        return current -> functions.call(name, new RuntimeFunctions.Arguments<T>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean isExpression(int index) {
+                return isExpression[index];
+            }
+
+            @Override
+            public T value(int index) {
+                return compiled.get(index).apply(current);
+            }
+
+            @Override
+            public T apply(int index, T value) {
+                return compiled.get(index).apply(value);
+            }
+        });
+    }
+
+    private List<UnaryOperator<T>> compileAll(Iterable<JmespathExpression> expressions) {
+        List<UnaryOperator<T>> result = new ArrayList<>();
+        for (JmespathExpression expression : expressions) {
+            result.add(expression.accept(this));
+        }
+        return result;
+    }
+}
@@ -15,8 +15,10 @@
 
 package software.amazon.smithy.jmespath;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.smithy.jmespath.ast.LiteralExpression;
 
 /**
@@ -24,6 +26,9 @@ import software.amazon.smithy.jmespath.ast.LiteralExpression;
  */
 public abstract class JmespathExpression {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+    private static final Map<String, JmespathExpression> PARSE_CACHE = new ConcurrentHashMap<>();
+
     private final int line;
     private final int column;
 
@@ -35,12 +40,26 @@ public abstract class JmespathExpression {
     /**
      * Parse a JMESPath expression.
      *
+     * <p>The result of parsing recently used expressions is cached and
+     * shared, so the returned expression must not be modified.
+     *
      * @param text Expression to parse.
      * @return Returns the parsed expression.
      * @throws JmespathException if the expression is invalid.
      */
     public static JmespathExpression parse(String text) {
-        return Parser.parse(text);
+        JmespathExpression result = PARSE_CACHE.get(text);
+
+        if (result == null) {
+            result = Parser.parse(text);
+            // Rather than tracking usage, the cache is simply reset when it grows too large.
+            if (PARSE_CACHE.size() >= MAX_CACHED_EXPRESSIONS) {
+                PARSE_CACHE.clear();
+            }
+            PARSE_CACHE.put(text, result);
+        }
+
+        return result;
     }
 
     /**
@@ -70,6 +89,59 @@ public abstract class JmespathExpression {
      */
     public abstract <T> T accept(ExpressionVisitor<T> visitor);
 
+    /**
+     * Evaluates the expression against a plain Java value.
+     *
+     * <p>Values use the same representation as {@link LiteralExpression}:
+     * {@code null}, {@link Boolean}, {@link String}, {@link Number},
+     * {@code List<Object>}, and {@code Map<String, Object>}.
+     *
+     * @param currentNode The value to set as the current node.
+     * @return Returns the result of the expression.
+     * @throws JmespathException if the expression cannot be evaluated.
+     */
+    public Object evaluate(Object currentNode) {
+        return evaluate(currentNode, LiteralJmespathRuntime.INSTANCE);
+    }
+
+    /**
+     * Evaluates the expression against a value of the given runtime.
+     *
+     * @param currentNode The value to set as the current node.
+     * @param runtime Runtime used to create and inspect values.
+     * @param <T> Type of value to evaluate.
+     * @return Returns the result of the expression.
+     * @throws JmespathException if the expression cannot be evaluated.
+     */
+    public <T> T evaluate(T currentNode, JmespathRuntime<T> runtime) {
+        return this.accept(new Evaluator<>(currentNode, runtime));
+    }
+
+    /**
+     * Compiles the expression for repeated evaluation against plain Java values.
+     *
+     * @return Returns the compiled expression.
+     * @throws JmespathException if the expression calls an unknown function
+     *   or calls a function with the wrong number of arguments.
+     * @see #evaluate(Object)
+     */
+    public CompiledExpression<Object> compile() {
+        return compile(LiteralJmespathRuntime.INSTANCE);
+    }
+
+    /**
+     * Compiles the expression for repeated evaluation against values of the given runtime.
+     *
+     * @param runtime Runtime used to create and inspect values.
+     * @param <T> Type of value to evaluate.
+     * @return Returns the compiled expression.
+     * @throws JmespathException if the expression calls an unknown function
+     *   or calls a function with the wrong number of arguments.
+     */
+    public <T> CompiledExpression<T> compile(JmespathRuntime<T> runtime) {
+        return new CompiledExpression<>(this, runtime);
+    }
+
     /**
      * Lint the expression using static analysis using "any" as the
      * current node.
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapts a value representation so that JMESPath expressions can be
+ * evaluated against it.
+ *
+ * <p>Implementations only need to create and inspect values; the
+ * semantics of JMESPath are implemented by the evaluator. Values passed to
+ * the inspection methods are guaranteed to have the type reported by
+ * {@link #typeOf}.
+ *
+ * @param <T> Type of value the runtime operates on.
+ * @see JmespathExpression#evaluate(Object, JmespathRuntime)
+ * @see LiteralJmespathRuntime
+ */
+public interface JmespathRuntime<T> {
+
+    /**
+     * Gets the JMESPath type of a value.
+     *
+     * @param value Value to check.
+     * @return Returns the type of the value. Must not return {@link RuntimeType#ANY}
+     *   or {@link RuntimeType#EXPRESSION}.
+     */
+    RuntimeType typeOf(T value);
+
+    /**
+     * Creates a null value.
+     *
+     * @return Returns the null value.
+     */
+    T createNull();
+
+    /**
+     * Creates a boolean value.
+     *
+     * @param value Value to convert.
+     * @return Returns the created value.
+     */
+    T createBoolean(boolean value);
+
+    /**
+     * Creates a string value.
+     *
+     * @param value Value to convert.
+     * @return Returns the created value.
+     */
+    T createString(String value);
+
+    /**
+     * Creates a number value.
+     *
+     * @param value Value to convert.
+     * @return Returns the created value.
+     */
+    T createNumber(Number value);
+
+    /**
+     * Creates an array value.
+     *
+     * <p>The given list is never modified after it is passed to this
+     * method, so implementations can use it without copying it.
+     *
+     * @param values Values of the array.
+     * @return Returns the created value.
+     */
+    T createArray(List<T> values);
+
+    /**
+     * Creates an object value.
+     *
+     * <p>The given map is never modified after it is passed to this
+     * method, so implementations can use it without copying it.
+     *
+     * @param values Ordered members of the object.
+     * @return Returns the created value.
+     */
+    T createObject(Map<String, T> values);
+
+    /**
+     * Gets the value of a boolean.
+     *
+     * @param value Boolean value.
+     * @return Returns the boolean.
+     */
+    boolean asBoolean(T value);
+
+    /**
+     * Gets the value of a string.
+     *
+     * @param value String value.
+     * @return Returns the string.
+     */
+    String asString(T value);
+
+    /**
+     * Gets the value of a number.
+     *
+     * @param value Number value.
+     * @return Returns the number.
+     */
+    Number asNumber(T value);
+
+    /**
+     * Gets the number of elements in an array or members in an object.
+     *
+     * @param value Array or object value.
+     * @return Returns the size of the value.
+     */
+    int length(T value);
+
+    /**
+     * Gets an element of an array.
+     *
+     * @param array Array value.
+     * @param index Index of the element, between 0 and the length of the array.
+     * @return Returns the element.
+     */
+    T element(T array, int index);
+
+    /**
+     * Gets the elements of an array.
+     *
+     * @param array Array value.
+     * @return Returns the elements.
+     */
+    Iterable<T> elements(T array);
+
+    /**
+     * Gets the member names of an object in order.
+     *
+     * @param object Object value.
+     * @return Returns the member names.
+     */
+    Collection<String> keys(T object);
+
+    /**
+     * Gets a member of an object.
+     *
+     * @param object Object value.
+     * @param key Name of the member to get.
+     * @return Returns the member value, or a null value if the member does not exist.
+     */
+    T value(T object, String key);
+}
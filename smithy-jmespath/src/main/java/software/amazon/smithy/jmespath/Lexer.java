@@ -15,7 +15,9 @@
 
 package software.amazon.smithy.jmespath;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +28,7 @@ import software.amazon.smithy.jmespath.ast.LiteralExpression;
 final class Lexer {
 
     private static final int MAX_NESTING_LEVEL = 50;
+    private static final double MAX_EXACT_DOUBLE = 9007199254740992.0; // 2^53
 
     private final String expression;
     private final int length;
@@ -445,10 +448,12 @@ final class Lexer {
         }
 
         consumeUntilNoLongerMatches(Lexer::isDigit);
+        boolean integer = true;
 
         // Consume decimals.
         char peek = peek();
         if (peek == '.') {
+            integer = false;
             skip();
             if (consumeUntilNoLongerMatches(Lexer::isDigit) == 0) {
                 throw syntax(createInvalidNumberString(startPosition, "'.' must be followed by a digit"));
@@ -458,6 +463,7 @@ final class Lexer {
         // Consume scientific notation.
         peek = peek();
         if (peek == 'e' || peek == 'E') {
+            integer = false;
             skip();
             peek = peek();
             if (peek == '+' || peek == '-') {
@@ -471,7 +477,11 @@ final class Lexer {
         String lexeme = sliceFrom(start);
 
         try {
-            double number = Double.parseDouble(lexeme);
+            Number number = Double.parseDouble(lexeme);
+            // Integers that a double can't represent exactly are kept exact so that they compare correctly.
+            if (integer && Math.abs(number.doubleValue()) >= MAX_EXACT_DOUBLE) {
+                number = parseInteger(lexeme);
+            }
             LiteralExpression node = new LiteralExpression(number, currentLine, currentColumn);
             return new Token(TokenType.NUMBER, node, currentLine, currentColumn);
         } catch (NumberFormatException e) {
@@ -479,6 +489,14 @@ final class Lexer {
         }
     }
 
+    private static Number parseInteger(String lexeme) {
+        try {
+            return Long.valueOf(lexeme);
+        } catch (NumberFormatException e) {
+            return new BigInteger(lexeme);
+        }
+    }
+
     private String createInvalidNumberString(int startPosition, String message) {
         String lexeme = sliceFrom(startPosition);
         return String.format("Invalid number '%s': %s", lexeme, message);
@@ -558,7 +576,7 @@ final class Lexer {
         if (peek() == ']') {
             skip();
             decreaseNestingLevel();
-            return values;
+            return Collections.unmodifiableList(values);
         }
 
         while (!eof() && peek() != '`') {
@@ -568,7 +586,7 @@ final class Lexer {
                 ws();
             } else {
                 decreaseNestingLevel();
-                return values;
+                return Collections.unmodifiableList(values);
             }
         }
 
@@ -583,7 +601,7 @@ final class Lexer {
         if (peek() == '}') {
             skip();
             decreaseNestingLevel();
-            return values;
+            return Collections.unmodifiableMap(values);
         }
 
         while (!eof() && peek() != '`') {
@@ -597,7 +615,7 @@ final class Lexer {
                 ws();
             } else {
                 decreaseNestingLevel();
-                return values;
+                return Collections.unmodifiableMap(values);
             }
         }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link JmespathRuntime} for plain Java values, using the same
+ * representation as {@link software.amazon.smithy.jmespath.ast.LiteralExpression}.
+ *
+ * <p>Values are {@code null}, {@link Boolean}, {@link String},
+ * {@link Number}, {@code List<Object>}, and {@code Map<String, Object>}.
+ */
+public final class LiteralJmespathRuntime implements JmespathRuntime<Object> {
+
+    /** Shared instance of the runtime. */
+    public static final LiteralJmespathRuntime INSTANCE = new LiteralJmespathRuntime();
+
+    private LiteralJmespathRuntime() {}
+
+    @Override
+    public RuntimeType typeOf(Object value) {
+        if (value == null) {
+            return RuntimeType.NULL;
+        } else if (value instanceof String) {
+            return RuntimeType.STRING;
+        } else if (value instanceof Number) {
+            return RuntimeType.NUMBER;
+        } else if (value instanceof Boolean) {
+            return RuntimeType.BOOLEAN;
+        } else if (value instanceof List) {
+            return RuntimeType.ARRAY;
+        } else if (value instanceof Map) {
+            return RuntimeType.OBJECT;
+        } else {
+            throw new JmespathException("Unsupported JMESPath value: " + value.getClass().getName());
+        }
+    }
+
+    @Override
+    public Object createNull() {
+        return null;
+    }
+
+    @Override
+    public Object createBoolean(boolean value) {
+        return value;
+    }
+
+    @Override
+    public Object createString(String value) {
+        return value;
+    }
+
+    @Override
+    public Object createNumber(Number value) {
+        return value;
+    }
+
+    @Override
+    public Object createArray(List<Object> values) {
+        return values;
+    }
+
+    @Override
+    public Object createObject(Map<String, Object> values) {
+        return values;
+    }
+
+    @Override
+    public boolean asBoolean(Object value) {
+        return (Boolean) value;
+    }
+
+    @Override
+    public String asString(Object value) {
+        return (String) value;
+    }
+
+    @Override
+    public Number asNumber(Object value) {
+        return (Number) value;
+    }
+
+    @Override
+    public int length(Object value) {
+        return value instanceof List ? ((List<?>) value).size() : ((Map<?, ?>) value).size();
+    }
+
+    @Override
+    public Object element(Object array, int index) {
+        return asList(array).get(index);
+    }
+
+    @Override
+    public Iterable<Object> elements(Object array) {
+        return asList(array);
+    }
+
+    @Override
+    public Collection<String> keys(Object object) {
+        return asMap(object).keySet();
+    }
+
+    @Override
+    public Object value(Object object, String key) {
+        return asMap(object).get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return (List<Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+}
@@ -0,0 +1,827 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jmespath;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import software.amazon.smithy.jmespath.ast.ComparatorType;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+
+/**
+ * Implements the value semantics and built-in functions of JMESPath for a
+ * {@link JmespathRuntime}.
+ *
+ * <p>This is shared by the {@link Evaluator} and the closures created by
+ * {@link ExpressionCompiler}, which only differ in how arguments are
+ * evaluated.
+ *
+ * @param <T> Type of value being evaluated.
+ */
+final class RuntimeFunctions<T> {
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Provides the arguments of a function call.
+     *
+     * @param <T> Type of value being evaluated.
+     */
+    interface Arguments<T> {
+        /**
+         * @return Returns the number of arguments.
+         */
+        int size();
+
+        /**
+         * Checks if an argument is an expression reference.
+         *
+         * @param index Argument to check.
+         * @return Returns true if the argument is an expression reference.
+         */
+        boolean isExpression(int index);
+
+        /**
+         * Evaluates an argument that is not an expression reference.
+         *
+         * @param index Argument to evaluate.
+         * @return Returns the value of the argument.
+         */
+        T value(int index);
+
+        /**
+         * Evaluates an expression reference against the given value.
+         *
+         * @param index Argument to evaluate.
+         * @param current Value to evaluate the expression against.
+         * @return Returns the result of the expression.
+         */
+        T apply(int index, T current);
+    }
+
+    private final JmespathRuntime<T> runtime;
+
+    RuntimeFunctions(JmespathRuntime<T> runtime) {
+        this.runtime = runtime;
+    }
+
+    JmespathRuntime<T> runtime() {
+        return runtime;
+    }
+
+    boolean isNull(T value) {
+        return runtime.typeOf(value) == RuntimeType.NULL;
+    }
+
+    boolean isTruthy(T value) {
+        switch (runtime.typeOf(value)) {
+            case NUMBER:
+                return true;
+            case BOOLEAN:
+                return runtime.asBoolean(value);
+            case STRING:
+                return !runtime.asString(value).isEmpty();
+            case ARRAY:
+            case OBJECT:
+                return runtime.length(value) > 0;
+            default:
+                return false;
+        }
+    }
+
+    boolean isEqual(T left, T right) {
+        RuntimeType type = runtime.typeOf(left);
+        if (type != runtime.typeOf(right)) {
+            return false;
+        }
+
+        switch (type) {
+            case NULL:
+                return true;
+            case BOOLEAN:
+                return runtime.asBoolean(left) == runtime.asBoolean(right);
+            case NUMBER:
+                return compareNumbers(runtime.asNumber(left), runtime.asNumber(right)) == 0;
+            case STRING:
+                return runtime.asString(left).equals(runtime.asString(right));
+            case ARRAY:
+                int length = runtime.length(left);
+                if (length != runtime.length(right)) {
+                    return false;
+                }
+                for (int i = 0; i < length; i++) {
+                    if (!isEqual(runtime.element(left, i), runtime.element(right, i))) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                if (runtime.length(left) != runtime.length(right)) {
+                    return false;
+                }
+                for (String key : runtime.keys(left)) {
+                    if (!runtime.keys(right).contains(key)
+                            || !isEqual(runtime.value(left, key), runtime.value(right, key))) {
+                        return false;
+                    }
+                }
+                return true;
+        }
+    }
+
+    T compare(ComparatorType comparator, T left, T right) {
+        switch (comparator) {
+            case EQUAL:
+                return runtime.createBoolean(isEqual(left, right));
+            case NOT_EQUAL:
+                return runtime.createBoolean(!isEqual(left, right));
+            default:
+                // Ordering comparisons are only defined for numbers.
+                if (runtime.typeOf(left) != RuntimeType.NUMBER || runtime.typeOf(right) != RuntimeType.NUMBER) {
+                    return runtime.createNull();
+                }
+                return runtime.createBoolean(order(comparator,
+                                                   compareNumbers(runtime.asNumber(left), runtime.asNumber(right))));
+        }
+    }
+
+    /**
+     * Compares two numbers.
+     *
+     * <p>Integers are compared exactly, even when they can't be represented
+     * by a double. Numbers are only compared as doubles when either of them
+     * is a floating point number.
+     *
+     * @param left Left number to compare.
+     * @param right Right number to compare.
+     * @return Returns -1, 0, or 1 if left is less than, equal to, or greater than right.
+     */
+    static int compareNumbers(Number left, Number right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return Long.compare(left.longValue(), right.longValue());
+        } else if (isFloatingPoint(left) || isFloatingPoint(right)) {
+            // Adding 0.0 makes -0.0 compare equal to 0.0.
+            return Double.compare(left.doubleValue() + 0.0, right.doubleValue() + 0.0);
+        } else {
+            return toBigDecimal(left).compareTo(toBigDecimal(right));
+        }
+    }
+
+    static boolean order(ComparatorType comparator, int comparison) {
+        switch (comparator) {
+            case GREATER_THAN:
+                return comparison > 0;
+            case GREATER_THAN_EQUAL:
+                return comparison >= 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case LESS_THAN_EQUAL:
+                return comparison <= 0;
+            default:
+                throw new IllegalArgumentException("Unreachable comparator " + comparator);
+        }
+    }
+
+    T field(T value, String name) {
+        return runtime.typeOf(value) == RuntimeType.OBJECT ? runtime.value(value, name) : runtime.createNull();
+    }
+
+    T index(T value, int index) {
+        if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+            return runtime.createNull();
+        }
+
+        int length = runtime.length(value);
+        int position = index < 0 ? length + index : index;
+        return position >= 0 && position < length ? runtime.element(value, position) : runtime.createNull();
+    }
+
+    T flatten(T value) {
+        if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+            return runtime.createNull();
+        }
+
+        List<T> flattened = new ArrayList<>(runtime.length(value));
+        for (T element : runtime.elements(value)) {
+            if (runtime.typeOf(element) == RuntimeType.ARRAY) {
+                for (T inner : runtime.elements(element)) {
+                    flattened.add(inner);
+                }
+            } else {
+                flattened.add(element);
+            }
+        }
+
+        return runtime.createArray(flattened);
+    }
+
+    T slice(T value, Integer start, Integer stop, int step) {
+        if (runtime.typeOf(value) != RuntimeType.ARRAY) {
+            return runtime.createNull();
+        }
+
+        if (step == 0) {
+            throw new JmespathException("Slice step cannot be 0");
+        }
+
+        int length = runtime.length(value);
+        int from = start != null ? sliceBound(start, length, step) : step > 0 ? 0 : length - 1;
+        int to = stop != null ? sliceBound(stop, length, step) : step > 0 ? length : -1;
+
+        List<T> result = new ArrayList<>();
+        for (int i = from; step > 0 ? i < to : i > to; i += step) {
+            result.add(runtime.element(value, i));
+        }
+        return runtime.createArray(result);
+    }
+
+    private static int sliceBound(int value, int length, int step) {
+        if (value < 0) {
+            value += length;
+            return value < 0 ? (step < 0 ? -1 : 0) : value;
+        }
+        return value >= length ? (step < 0 ? length - 1 : length) : value;
+    }
+
+    void addIfNotNull(List<T> values, T value) {
+        if (runtime.typeOf(value) != RuntimeType.NULL) {
+            values.add(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T fromLiteral(Object value) {
+        if (value instanceof LiteralExpression) {
+            value = ((LiteralExpression) value).getValue();
+        }
+
+        // Literal values already use the representation of the literal runtime. Arrays and objects are
+        // still copied so that callers can't modify the literals of a shared, possibly cached, expression.
+        if (runtime == LiteralJmespathRuntime.INSTANCE && !(value instanceof List) && !(value instanceof Map)) {
+            return (T) value;
+        }
+
+        if (value == null) {
+            return runtime.createNull();
+        } else if (value instanceof String) {
+            return runtime.createString((String) value);
+        } else if (value instanceof Number) {
+            return runtime.createNumber((Number) value);
+        } else if (value instanceof Boolean) {
+            return runtime.createBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            List<T> values = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                values.add(fromLiteral(element));
+            }
+            return runtime.createArray(Collections.unmodifiableList(values));
+        } else if (value instanceof Map) {
+            Map<String, T> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                values.put(entry.getKey(), fromLiteral(entry.getValue()));
+            }
+            return runtime.createObject(Collections.unmodifiableMap(values));
+        } else {
+            throw new JmespathException("Unsupported JMESPath literal: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Checks that a function exists and is given the right number of arguments.
+     *
+     * @param name Name of the function.
+     * @param arguments Number of arguments given to the function.
+     * @throws JmespathException if the function is unknown or the arity is wrong.
+     */
+    static void checkArity(String name, int arguments) {
+        FunctionDefinition def = TypeChecker.FUNCTIONS.get(name);
+
+        if (def == null) {
+            throw new JmespathException("Unknown function: " + name);
+        }
+
+        if (arguments < def.arguments.size() || (def.variadic == null && arguments > def.arguments.size())) {
+            throw new JmespathException(name + " function expected " + def.arguments.size()
+                                        + " arguments, but was given " + arguments);
+        }
+    }
+
+    /**
+     * Calls a built-in function.
+     *
+     * @param name Name of the function. The arity of the call must have been checked.
+     * @param args Arguments of the function.
+     * @return Returns the result of the function.
+     */
+    T call(String name, Arguments<T> args) {
+        switch (name) {
+            case "abs":
+                return abs(number(name, args, 0));
+            case "avg":
+                return avg(name, args);
+            case "ceil":
+                return integral(Math.ceil(number(name, args, 0).doubleValue()));
+            case "contains":
+                return contains(name, args);
+            case "ends_with":
+                return runtime.createBoolean(string(name, args, 0).endsWith(string(name, args, 1)));
+            case "floor":
+                return integral(Math.floor(number(name, args, 0).doubleValue()));
+            case "join":
+                return join(name, args);
+            case "keys":
+                return keys(argument(name, args, 0, RuntimeType.OBJECT));
+            case "length":
+                return length(name, args);
+            case "map":
+                return map(name, args);
+            case "max":
+                return extreme(name, args, 1);
+            case "max_by":
+                return extremeBy(name, args, 1);
+            case "merge":
+                return merge(name, args);
+            case "min":
+                return extreme(name, args, -1);
+            case "min_by":
+                return extremeBy(name, args, -1);
+            case "not_null":
+                return notNull(name, args);
+            case "reverse":
+                return reverse(name, args);
+            case "sort":
+                return sort(name, args);
+            case "sort_by":
+                return sortBy(name, args);
+            case "starts_with":
+                return runtime.createBoolean(string(name, args, 0).startsWith(string(name, args, 1)));
+            case "sum":
+                return sum(name, argument(name, args, 0, RuntimeType.ARRAY));
+            case "to_array":
+                return toArray(name, args);
+            case "to_string":
+                return toStringValue(name, args);
+            case "to_number":
+                return toNumber(name, args);
+            case "type":
+                return runtime.createString(runtime.typeOf(argument(name, args, 0)).toString());
+            case "values":
+                return values(argument(name, args, 0, RuntimeType.OBJECT));
+            default:
+                throw new JmespathException("Unsupported function: " + name);
+        }
+    }
+
+    private T argument(String name, Arguments<T> args, int index) {
+        if (args.isExpression(index)) {
+            throw invalidArgument(name, index, "a value", RuntimeType.EXPRESSION);
+        }
+        return args.value(index);
+    }
+
+    private T argument(String name, Arguments<T> args, int index, RuntimeType type) {
+        T value = argument(name, args, index);
+        RuntimeType actual = runtime.typeOf(value);
+        if (actual != type) {
+            throw invalidArgument(name, index, type.toString(), actual);
+        }
+        return value;
+    }
+
+    private void expectExpression(String name, Arguments<T> args, int index) {
+        if (!args.isExpression(index)) {
+            throw invalidArgument(name, index, "an expression reference", runtime.typeOf(args.value(index)));
+        }
+    }
+
+    private Number number(String name, Arguments<T> args, int index) {
+        return runtime.asNumber(argument(name, args, index, RuntimeType.NUMBER));
+    }
+
+    private String string(String name, Arguments<T> args, int index) {
+        return runtime.asString(argument(name, args, index, RuntimeType.STRING));
+    }
+
+    private static JmespathException invalidArgument(String name, int index, String expected, RuntimeType actual) {
+        return new JmespathException(String.format("%s function argument %d expected %s, but found %s",
+                                                   name, index, expected, actual));
+    }
+
+    private T abs(Number value) {
+        if (isIntegral(value)) {
+            long longValue = value.longValue();
+            // The absolute value of Long.MIN_VALUE can't be represented as a long.
+            return longValue == Long.MIN_VALUE
+                   ? runtime.createNumber(BigInteger.valueOf(longValue).negate())
+                   : runtime.createNumber(Math.abs(longValue));
+        } else if (value instanceof BigInteger) {
+            return runtime.createNumber(((BigInteger) value).abs());
+        } else if (value instanceof BigDecimal) {
+            return runtime.createNumber(((BigDecimal) value).abs());
+        } else {
+            return runtime.createNumber(Math.abs(value.doubleValue()));
+        }
+    }
+
+    private T avg(String name, Arguments<T> args) {
+        T array = argument(name, args, 0, RuntimeType.ARRAY);
+        int length = runtime.length(array);
+        if (length == 0) {
+            return runtime.createNull();
+        }
+        return runtime.createNumber(runtime.asNumber(sum(name, array)).doubleValue() / length);
+    }
+
+    private T sum(String name, T array) {
+        boolean integral = true;
+        long longSum = 0;
+        double doubleSum = 0;
+        for (T element : runtime.elements(array)) {
+            if (runtime.typeOf(element) != RuntimeType.NUMBER) {
+                throw invalidArgument(name, 0, "an array of numbers", runtime.typeOf(element));
+            }
+            Number value = runtime.asNumber(element);
+            if (integral && isIntegral(value)) {
+                try {
+                    longSum = Math.addExact(longSum, value.longValue());
+                } catch (ArithmeticException e) {
+                    integral = false;
+                }
+            } else {
+                integral = false;
+            }
+            doubleSum += value.doubleValue();
+        }
+        return integral ? runtime.createNumber(longSum) : runtime.createNumber(doubleSum);
+    }
+
+    private T integral(double value) {
+        return value >= Long.MIN_VALUE && value <= Long.MAX_VALUE
+               ? runtime.createNumber((long) value)
+               : runtime.createNumber(value);
+    }
+
+    private T contains(String name, Arguments<T> args) {
+        T subject = argument(name, args, 0);
+        T search = argument(name, args, 1);
+
+        switch (runtime.typeOf(subject)) {
+            case STRING:
+                return runtime.createBoolean(runtime.typeOf(search) == RuntimeType.STRING
+                                             && runtime.asString(subject).contains(runtime.asString(search)));
+            case ARRAY:
+                for (T element : runtime.elements(subject)) {
+                    if (isEqual(element, search)) {
+                        return runtime.createBoolean(true);
+                    }
+                }
+                return runtime.createBoolean(false);
+            default:
+                throw invalidArgument(name, 0, "an array or string", runtime.typeOf(subject));
+        }
+    }
+
+    private T join(String name, Arguments<T> args) {
+        String glue = string(name, args, 0);
+        T array = argument(name, args, 1, RuntimeType.ARRAY);
+        StringBuilder result = new StringBuilder();
+        boolean first = true;
+        for (T element : runtime.elements(array)) {
+            if (runtime.typeOf(element) != RuntimeType.STRING) {
+                throw invalidArgument(name, 1, "an array of strings", runtime.typeOf(element));
+            }
+            if (!first) {
+                result.append(glue);
+            }
+            first = false;
+            result.append(runtime.asString(element));
+        }
+        return runtime.createString(result.toString());
+    }
+
+    private T keys(T object) {
+        List<T> keys = new ArrayList<>(runtime.length(object));
+        for (String key : runtime.keys(object)) {
+            keys.add(runtime.createString(key));
+        }
+        return runtime.createArray(keys);
+    }
+
+    private T values(T object) {
+        List<T> values = new ArrayList<>(runtime.length(object));
+        for (String key : runtime.keys(object)) {
+            values.add(runtime.value(object, key));
+        }
+        return runtime.createArray(values);
+    }
+
+    private T length(String name, Arguments<T> args) {
+        T value = argument(name, args, 0);
+        switch (runtime.typeOf(value)) {
+            case STRING:
+                String string = runtime.asString(value);
+                return runtime.createNumber(string.codePointCount(0, string.length()));
+            case ARRAY:
+            case OBJECT:
+                return runtime.createNumber(runtime.length(value));
+            default:
+                throw invalidArgument(name, 0, "a string, array, or object", runtime.typeOf(value));
+        }
+    }
+
+    private T map(String name, Arguments<T> args) {
+        expectExpression(name, args, 0);
+        T array = argument(name, args, 1, RuntimeType.ARRAY);
+        List<T> result = new ArrayList<>(runtime.length(array));
+        for (T element : runtime.elements(array)) {
+            result.add(args.apply(0, element));
+        }
+        return runtime.createArray(result);
+    }
+
+    private T extreme(String name, Arguments<T> args, int direction) {
+        T array = argument(name, args, 0, RuntimeType.ARRAY);
+        T result = null;
+        RuntimeType type = null;
+        for (T element : runtime.elements(array)) {
+            type = sortableType(name, 0, type, runtime.typeOf(element));
+            if (result == null || direction * compareSortable(element, result, type) > 0) {
+                result = element;
+            }
+        }
+        return result == null ? runtime.createNull() : result;
+    }
+
+    private T extremeBy(String name, Arguments<T> args, int direction) {
+        T array = argument(name, args, 0, RuntimeType.ARRAY);
+        expectExpression(name, args, 1);
+        T result = null;
+        T resultKey = null;
+        RuntimeType type = null;
+        for (T element : runtime.elements(array)) {
+            T key = args.apply(1, element);
+            type = sortableType(name, 1, type, runtime.typeOf(key));
+            if (result == null || direction * compareSortable(key, resultKey, type) > 0) {
+                result = element;
+                resultKey = key;
+            }
+        }
+        return result == null ? runtime.createNull() : result;
+    }
+
+    private T merge(String name, Arguments<T> args) {
+        Map<String, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < args.size(); i++) {
+            T object = argument(name, args, i, RuntimeType.OBJECT);
+            for (String key : runtime.keys(object)) {
+                result.put(key, runtime.value(object, key));
+            }
+        }
+        return runtime.createObject(result);
+    }
+
+    private T notNull(String name, Arguments<T> args) {
+        for (int i = 0; i < args.size(); i++) {
+            T value = argument(name, args, i);
+            if (runtime.typeOf(value) != RuntimeType.NULL) {
+                return value;
+            }
+        }
+        return runtime.createNull();
+    }
+
+    private T reverse(String name, Arguments<T> args) {
+        T value = argument(name, args, 0);
+        switch (runtime.typeOf(value)) {
+            case STRING:
+                return runtime.createString(new StringBuilder(runtime.asString(value)).reverse().toString());
+            case ARRAY:
+                List<T> result = copyElements(value);
+                Collections.reverse(result);
+                return runtime.createArray(result);
+            default:
+                throw invalidArgument(name, 0, "an array or string", runtime.typeOf(value));
+        }
+    }
+
+    private T sort(String name, Arguments<T> args) {
+        T array = argument(name, args, 0, RuntimeType.ARRAY);
+        RuntimeType type = null;
+        for (T element : runtime.elements(array)) {
+            type = sortableType(name, 0, type, runtime.typeOf(element));
+        }
+        List<T> result = copyElements(array);
+        RuntimeType sortType = type;
+        result.sort((a, b) -> compareSortable(a, b, sortType));
+        return runtime.createArray(result);
+    }
+
+    private T sortBy(String name, Arguments<T> args) {
+        T array = argument(name, args, 0, RuntimeType.ARRAY);
+        expectExpression(name, args, 1);
+
+        // Compute each key once, then stable sort the elements by their key.
+        List<T> elements = copyElements(array);
+        List<T> keys = new ArrayList<>(elements.size());
+        List<Integer> order = new ArrayList<>(elements.size());
+        RuntimeType type = null;
+        for (T element : elements) {
+            T key = args.apply(1, element);
+            type = sortableType(name, 1, type, runtime.typeOf(key));
+            order.add(keys.size());
+            keys.add(key);
+        }
+
+        RuntimeType sortType = type;
+        order.sort(Comparator.comparing(keys::get, (a, b) -> compareSortable(a, b, sortType)));
+        List<T> result = new ArrayList<>(elements.size());
+        for (int i : order) {
+            result.add(elements.get(i));
+        }
+        return runtime.createArray(result);
+    }
+
+    private static RuntimeType sortableType(String name, int index, RuntimeType previous, RuntimeType type) {
+        if ((type != RuntimeType.NUMBER && type != RuntimeType.STRING) || (previous != null && previous != type)) {
+            throw invalidArgument(name, index, "only numbers or only strings", type);
+        }
+        return type;
+    }
+
+    private int compareSortable(T left, T right, RuntimeType type) {
+        return type == RuntimeType.NUMBER
+               ? compareNumbers(runtime.asNumber(left), runtime.asNumber(right))
+               : runtime.asString(left).compareTo(runtime.asString(right));
+    }
+
+    private T toArray(String name, Arguments<T> args) {
+        T value = argument(name, args, 0);
+        return runtime.typeOf(value) == RuntimeType.ARRAY
+               ? value
+               : runtime.createArray(Collections.singletonList(value));
+    }
+
+    private T toStringValue(String name, Arguments<T> args) {
+        T value = argument(name, args, 0);
+        if (runtime.typeOf(value) == RuntimeType.STRING) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder();
+        writeJson(result, value);
+        return runtime.createString(result.toString());
+    }
+
+    private T toNumber(String name, Arguments<T> args) {
+        T value = argument(name, args, 0);
+        switch (runtime.typeOf(value)) {
+            case NUMBER:
+                return value;
+            case STRING:
+                String string = runtime.asString(value);
+                if (!NUMBER_PATTERN.matcher(string).matches()) {
+                    return runtime.createNull();
+                }
+                try {
+                    return runtime.createNumber(Long.parseLong(string));
+                } catch (NumberFormatException e) {
+                    return runtime.createNumber(Double.parseDouble(string));
+                }
+            default:
+                return runtime.createNull();
+        }
+    }
+
+    private void writeJson(StringBuilder result, T value) {
+        switch (runtime.typeOf(value)) {
+            case NULL:
+                result.append("null");
+                break;
+            case BOOLEAN:
+                result.append(runtime.asBoolean(value));
+                break;
+            case NUMBER:
+                result.append(runtime.asNumber(value));
+                break;
+            case STRING:
+                writeJsonString(result, runtime.asString(value));
+                break;
+            case ARRAY:
+                result.append('[');
+                boolean firstElement = true;
+                for (T element : runtime.elements(value)) {
+                    if (!firstElement) {
+                        result.append(',');
+                    }
+                    firstElement = false;
+                    writeJson(result, element);
+                }
+                result.append(']');
+                break;
+            default:
+                result.append('{');
+                boolean firstMember = true;
+                for (String key : runtime.keys(value)) {
+                    if (!firstMember) {
+                        result.append(',');
+                    }
+                    firstMember = false;
+                    writeJsonString(result, key);
+                    result.append(':');
+                    writeJson(result, runtime.value(value, key));
+                }
+                result.append('}');
+                break;
+        }
+    }
+
+    private static void writeJsonString(StringBuilder result, String value) {
+        result.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        result.append('"');
+    }
+
+    private List<T> copyElements(T array) {
+        List<T> result = new ArrayList<>(runtime.length(array));
+        for (T element : runtime.elements(array)) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    private static boolean isFloatingPoint(Number value) {
+        return !(isIntegral(value) || value instanceof BigInteger || value instanceof BigDecimal);
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else {
+            return BigDecimal.valueOf(value.longValue());
+        }
+    }
+
+    // Checks if a number is an integer that can be represented exactly as a long.
+    private static boolean isIntegral(Number value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return true;
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() < Long.SIZE;
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return decimal.signum() == 0
+                   || (decimal.scale() <= 0 || decimal.stripTrailingZeros().scale() <= 0)
+                      && decimal.compareTo(LONG_MIN) >= 0
+                      && decimal.compareTo(LONG_MAX) <= 0;
+        } else {
+            return false;
+        }
+    }
+}
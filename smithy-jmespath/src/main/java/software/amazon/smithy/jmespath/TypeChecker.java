@@ -56,7 +56,7 @@ import software.amazon.smithy.jmespath.ast.Subexpression;
 
 final class TypeChecker implements ExpressionVisitor<LiteralExpression> {
 
-    private static final Map<String, FunctionDefinition> FUNCTIONS = new HashMap<>();
+    static final Map<String, FunctionDefinition> FUNCTIONS = new HashMap<>();
 
     static {
         FunctionDefinition.ArgValidator isAny = isType(RuntimeType.ANY);
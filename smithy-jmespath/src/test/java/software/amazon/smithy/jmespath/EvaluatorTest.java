@@ -0,0 +1,229 @@
+package software.amazon.smithy.jmespath;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+
+public class EvaluatorTest {
+
+    private static final String DATA = "{"
+            + "\"foo\": {\"bar\": {\"baz\": \"correct\"}},"
+            + "\"people\": ["
+            + "  {\"name\": \"a\", \"age\": 30, \"tags\": [\"x\", \"y\"]},"
+            + "  {\"name\": \"b\", \"age\": 20, \"tags\": [\"z\"]},"
+            + "  {\"name\": \"c\", \"age\": 40}"
+            + "],"
+            + "\"numbers\": [3, 1, 2, 5, 4],"
+            + "\"nested\": [[1, 2], 3, [4, [5]]],"
+            + "\"strings\": [\"b\", \"a\", \"c\"],"
+            + "\"status\": {\"one\": {\"state\": \"ok\"}, \"two\": {\"state\": \"bad\"}, \"three\": {}},"
+            + "\"empty\": [],"
+            + "\"text\": \"hello\""
+            + "}";
+
+    public static Stream<Arguments> expressions() {
+        return Stream.of(
+                Arguments.of("foo.bar.baz", "\"correct\""),
+                Arguments.of("foo.missing.baz", "null"),
+                Arguments.of("numbers[0]", "3"),
+                Arguments.of("numbers[-1]", "4"),
+                Arguments.of("numbers[10]", "null"),
+                Arguments.of("numbers[1:3]", "[1, 2]"),
+                Arguments.of("numbers[::-1]", "[4, 5, 2, 1, 3]"),
+                Arguments.of("numbers[::2]", "[3, 2, 4]"),
+                Arguments.of("numbers[-2:]", "[5, 4]"),
+                Arguments.of("numbers[:-10]", "[]"),
+                Arguments.of("people[*].name", "[\"a\", \"b\", \"c\"]"),
+                Arguments.of("people[*].tags[0]", "[\"x\", \"z\"]"),
+                Arguments.of("people[].tags[]", "[\"x\", \"y\", \"z\"]"),
+                Arguments.of("nested[]", "[1, 2, 3, 4, [5]]"),
+                Arguments.of("nested[][]", "[1, 2, 3, 4, 5]"),
+                Arguments.of("status.*.state", "[\"ok\", \"bad\"]"),
+                Arguments.of("people[?age > `25`].name", "[\"a\", \"c\"]"),
+                Arguments.of("people[?name == 'b'].age | [0]", "20"),
+                Arguments.of("people[*].name | [1]", "\"b\""),
+                Arguments.of("people[0].[name, age]", "[\"a\", 30]"),
+                Arguments.of("people[0].{n: name, a: age}", "{\"n\": \"a\", \"a\": 30}"),
+                Arguments.of("missing.[a, b]", "null"),
+                Arguments.of("empty || text", "\"hello\""),
+                Arguments.of("text && numbers[0]", "3"),
+                Arguments.of("!empty", "true"),
+                Arguments.of("`1` == `1.0`", "true"),
+                Arguments.of("foo == foo", "true"),
+                Arguments.of("text < `1`", "null"),
+                Arguments.of("@.text", "\"hello\""),
+                Arguments.of("abs(`-2`)", "2"),
+                Arguments.of("avg(numbers)", "3.0"),
+                Arguments.of("avg(empty)", "null"),
+                Arguments.of("ceil(`1.2`)", "2"),
+                Arguments.of("floor(`1.8`)", "1"),
+                Arguments.of("contains(strings, 'a')", "true"),
+                Arguments.of("contains(text, 'ell')", "true"),
+                Arguments.of("ends_with(text, 'lo')", "true"),
+                Arguments.of("starts_with(text, 'lo')", "false"),
+                Arguments.of("join(', ', strings)", "\"b, a, c\""),
+                Arguments.of("keys(foo.bar)", "[\"baz\"]"),
+                Arguments.of("values(foo.bar)", "[\"correct\"]"),
+                Arguments.of("length(text)", "5"),
+                Arguments.of("length(people)", "3"),
+                Arguments.of("map(&age, people)", "[30, 20, 40]"),
+                Arguments.of("map(&tags, people)", "[[\"x\", \"y\"], [\"z\"], null]"),
+                Arguments.of("max(numbers)", "5"),
+                Arguments.of("min(strings)", "\"a\""),
+                Arguments.of("max(empty)", "null"),
+                Arguments.of("max_by(people, &age).name", "\"c\""),
+                Arguments.of("min_by(people, &age).name", "\"b\""),
+                Arguments.of("merge(`{\"a\": 1}`, `{\"b\": 2, \"a\": 3}`)", "{\"a\": 3, \"b\": 2}"),
+                Arguments.of("not_null(missing, empty, text)", "[]"),
+                Arguments.of("reverse(text)", "\"olleh\""),
+                Arguments.of("reverse(strings)", "[\"c\", \"a\", \"b\"]"),
+                Arguments.of("sort(numbers)", "[1, 2, 3, 4, 5]"),
+                Arguments.of("sort_by(people, &age)[*].name", "[\"b\", \"a\", \"c\"]"),
+                Arguments.of("sum(numbers)", "15"),
+                Arguments.of("sum(empty)", "0"),
+                Arguments.of("to_array(text)", "[\"hello\"]"),
+                Arguments.of("to_array(strings)", "[\"b\", \"a\", \"c\"]"),
+                Arguments.of("to_string(foo)", "\"{\\\"bar\\\":{\\\"baz\\\":\\\"correct\\\"}}\""),
+                Arguments.of("to_string(text)", "\"hello\""),
+                Arguments.of("to_number('12')", "12"),
+                Arguments.of("to_number('1.5')", "1.5"),
+                Arguments.of("to_number('abc')", "null"),
+                Arguments.of("type(people)", "\"array\""),
+                Arguments.of("type(missing)", "\"null\""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    public void evaluatesExpressions(String expression, String expected) {
+        Object result = JmespathExpression.parse(expression).evaluate(json(DATA));
+
+        assertThat(new LiteralExpression(result), equalTo(new LiteralExpression(json(expected))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    public void compiledExpressionsMatchEvaluator(String expression, String expected) {
+        CompiledExpression<Object> compiled = JmespathExpression.parse(expression).compile();
+
+        // Evaluate twice to ensure compiled expressions don't retain state between evaluations.
+        compiled.evaluate(json(DATA));
+        Object result = compiled.evaluate(json(DATA));
+
+        assertThat(new LiteralExpression(result), equalTo(new LiteralExpression(json(expected))));
+    }
+
+    @Test
+    public void compiledLiteralComparisonsMatchEvaluator() {
+        String[] expressions = {
+                "a == 'x'", "'x' != a", "a == `true`", "a != `false`",
+                "a == `1`", "a != `1`", "a < `2`", "`2` < a", "a >= `1.5`", "`1` <= a", "a == `[1]`"};
+        Object[] values = {"x", "y", true, false, 1, 1.0, 2L, 3.5, null, Collections.emptyMap(), Collections.singletonList(1)};
+
+        for (String expression : expressions) {
+            JmespathExpression parsed = JmespathExpression.parse(expression);
+            CompiledExpression<Object> compiled = parsed.compile();
+            for (Object value : values) {
+                Map<String, Object> data = Collections.singletonMap("a", value);
+                assertThat(expression + " with " + value,
+                           new LiteralExpression(compiled.evaluate(data)),
+                           equalTo(new LiteralExpression(parsed.evaluate(data))));
+            }
+        }
+    }
+
+    @Test
+    public void cachesParsedExpressions() {
+        assertThat(JmespathExpression.parse("foo.bar[0]"), sameInstance(JmespathExpression.parse("foo.bar[0]")));
+    }
+
+    @Test
+    public void literalValuesCannotBeModified() {
+        JmespathExpression expression = JmespathExpression.parse("`{\"a\": [1]}`");
+        Map<String, Object> evaluated = (Map<String, Object>) expression.evaluate(null);
+        Map<String, Object> compiled = (Map<String, Object>) expression.compile().evaluate(null);
+
+        assertThrows(UnsupportedOperationException.class, () -> evaluated.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) evaluated.get("a")).add(2));
+        assertThrows(UnsupportedOperationException.class, () -> compiled.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) compiled.get("a")).add(2));
+        assertThat(((LiteralExpression) expression).expectObjectValue(), equalTo(json("{\"a\": [1]}")));
+    }
+
+    @Test
+    public void handlesLargeIntegralNumbers() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("min", Long.MIN_VALUE);
+        data.put("big", new BigInteger("-100000000000000000000"));
+        data.put("decimal", new BigDecimal("-2.50"));
+        data.put("whole", Arrays.asList(new BigDecimal("1.0"), BigInteger.ONE, Long.MAX_VALUE));
+
+        assertThat(JmespathExpression.parse("abs(min)").evaluate(data),
+                   equalTo(BigInteger.valueOf(Long.MIN_VALUE).negate()));
+        assertThat(JmespathExpression.parse("abs(big)").evaluate(data),
+                   equalTo(new BigInteger("100000000000000000000")));
+        assertThat(JmespathExpression.parse("abs(decimal)").evaluate(data), equalTo(new BigDecimal("2.50")));
+        assertThat(JmespathExpression.parse("sum(whole[:2])").evaluate(data), equalTo(2L));
+        assertThat(JmespathExpression.parse("sum(whole)").evaluate(data), equalTo(2.0 + Long.MAX_VALUE));
+    }
+
+    @Test
+    public void comparesIntegersNearLongMaxValueExactly() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("max", Long.MAX_VALUE);
+        data.put("below", Long.MAX_VALUE - 1);
+        data.put("big", BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+        data.put("values", Arrays.asList(Long.MAX_VALUE, Long.MAX_VALUE - 1));
+
+        String[] trueExpressions = {
+                "max != below", "below < max", "max > below", "big > max", "max == `9223372036854775807`",
+                "below == `9223372036854775806`", "max < `9223372036854775808`", "max == `9.223372036854775807e18`"};
+        String[] falseExpressions = {"max == below", "max == `9223372036854775806`", "below >= max"};
+
+        for (String expression : trueExpressions) {
+            JmespathExpression parsed = JmespathExpression.parse(expression);
+            assertThat(expression, parsed.evaluate(data), equalTo(true));
+            assertThat(expression, parsed.compile().evaluate(data), equalTo(true));
+        }
+
+        for (String expression : falseExpressions) {
+            JmespathExpression parsed = JmespathExpression.parse(expression);
+            assertThat(expression, parsed.evaluate(data), equalTo(false));
+            assertThat(expression, parsed.compile().evaluate(data), equalTo(false));
+        }
+
+        assertThat(JmespathExpression.parse("sort(values)").evaluate(data),
+                   equalTo(Arrays.asList(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+        assertThat(JmespathExpression.parse("max_by(values[].{v: @}, &v).v").evaluate(data),
+                   equalTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void failsOnInvalidFunctionArguments() {
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("length(`1`)").evaluate(null));
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("sort(`[1, \"a\"]`)").evaluate(null));
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("map(@, `[]`)").evaluate(null));
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("abs(`1`, `2`)").evaluate(null));
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("nope(`1`)").evaluate(null));
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("nope(`1`)").compile());
+        assertThrows(JmespathException.class, () -> JmespathExpression.parse("map(@, `[]`)").compile().evaluate(null));
+    }
+
+    private static Object json(String value) {
+        return JmespathExpression.parse("`" + value + "`").evaluate(null);
+    }
+}
@@ -100,7 +100,7 @@ public final class AbbreviationNameValidator extends AbstractValidator {
             return Stream.empty();
         }
 
-        return Stream.of(danger(shape, format(
+        return Stream.of(danger(shape, () -> format(
                 "%s name, `%s`, contains invalid abbreviations. Change this %s name to `%s`",
                 descriptor, name, descriptor, recommendedName)));
     }
@@ -140,7 +140,7 @@ public final class CamelCaseValidator extends AbstractValidator {
                 .filter(FunctionalUtils.not(Shape::isMemberShape))
                 .filter(shape -> !shape.hasTrait(TraitDefinition.class))
                 .filter(shape -> !MemberNameHandling.UPPER.getRegex().matcher(shape.getId().getName()).find())
-                .map(shape -> danger(shape, format(
+                .map(shape -> danger(shape, () -> format(
                         "%s shape name, `%s`, is not %s camel case",
                         shape.getType(), shape.getId().getName(), MemberNameHandling.UPPER)))
                 .forEach(events::add);
@@ -151,7 +151,7 @@ public final class CamelCaseValidator extends AbstractValidator {
                 .filter(shape -> !shape.hasTrait(AuthDefinitionTrait.class))
                 .filter(shape -> !shape.hasTrait(ProtocolDefinitionTrait.class))
                 .filter(shape -> !MemberNameHandling.LOWER.getRegex().matcher(shape.getId().getName()).find())
-                .map(shape -> danger(shape, format(
+                .map(shape -> danger(shape, () -> format(
                         "%s trait definition, `%s`, is not lower camel case",
                         shape.getType(), shape.getId().getName())))
                 .forEach(events::add);
@@ -227,7 +227,7 @@ public final class CamelCaseValidator extends AbstractValidator {
 
         String finalMemberNameHandling = memberNameHandling;
         return violatingMemberShapes.stream()
-                .map(shape -> danger(shape, format(
+                .map(shape -> danger(shape, () -> format(
                         "Member shape member name, `%s`, is not %s camel case;"
                                 + " members in the %s must all use %s camel case.",
                         shape.getMemberName(), finalMemberNameHandling, scope, finalMemberNameHandling)))
@@ -93,11 +93,11 @@ public final class RepeatedShapeNameValidator extends AbstractValidator {
     private ValidationEvent repeatedMemberName(Model model, Shape shape, String shapeName, String memberName) {
         Shape member = model.expectShape(shape.getId().withMember(memberName));
         if (config.getExactMatch()) {
-            return warning(member, String.format(
+            return warning(member, () -> String.format(
                     "The `%s` %s shape repeats its name in the member `%s`; %2$s member names should not be "
                             + "equal to the %2$s name.", shapeName, shape.getType(), memberName));
         } else {
-            return warning(member, String.format(
+            return warning(member, () -> String.format(
                     "The `%s` %s shape repeats its name in the member `%s`; %2$s member names should not be "
                             + "prefixed with the %2$s name.", shapeName, shape.getType(), memberName));
         }
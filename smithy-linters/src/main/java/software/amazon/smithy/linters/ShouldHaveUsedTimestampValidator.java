@@ -194,7 +194,7 @@ public final class ShouldHaveUsedTimestampValidator extends AbstractValidator {
     }
 
     private ValidationEvent buildEvent(Shape context, String name, ShapeType type) {
-        return danger(context, context.isMemberShape()
+        return danger(context, () -> context.isMemberShape()
                 ? String.format("Member `%s` is named like a timestamp but references a `%s` shape", name, type)
                 : String.format("Shape `%s` is named like a timestamp but is a `%s` shape.", name, type));
     }
@@ -59,7 +59,7 @@ public final class StutteredShapeNameValidator extends AbstractValidator {
     private ValidationEvent stutteredMemberName(Model model, Shape shape, String shapeName, String memberName) {
         Shape member = model.getShape(shape.getId().withMember(memberName)).orElseThrow(
                 () -> new RuntimeException("Invalid member name for shape: " + shape + ", " + memberName));
-        return warning(member, String.format(
+        return warning(member, () -> String.format(
                 "The `%s` %s shape stutters its name in the member `%s`; %2$s member names should not be "
                 + "prefixed with the %2$s name.", shapeName, shape.getType(), memberName));
     }
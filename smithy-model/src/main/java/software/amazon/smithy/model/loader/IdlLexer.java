@@ -0,0 +1,299 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+/**
+ * Table-driven lexer used by the IDL parsers to scan lexemes directly from
+ * the model source.
+ *
+ * <p>Each scan method takes an offset into the source and returns the offset
+ * where the lexeme ends, without moving the parser. This allows a parser to
+ * advance over an entire lexeme at once rather than character by character.
+ * Scan methods return -1 when the source doesn't match the lexeme, leaving
+ * the parser to report the error.
+ *
+ * <p>Identifiers and shape IDs are interned per file, so a name that is
+ * referenced many times only allocates a single String.
+ */
+final class IdlLexer {
+
+    private static final byte IDENTIFIER_START = 1;
+    private static final byte DIGIT = 2;
+    private static final byte IDENTIFIER_CHARS = IDENTIFIER_START | DIGIT;
+    private static final byte WHITESPACE = 4;
+    private static final byte SPACE = 8;
+    private static final byte QUOTED_CHAR = 16;
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHARACTER_CLASSES[c] |= IDENTIFIER_START;
+            CHARACTER_CLASSES[Character.toUpperCase(c)] |= IDENTIFIER_START;
+        }
+        CHARACTER_CLASSES['_'] |= IDENTIFIER_START;
+        for (char c = '0'; c <= '9'; c++) {
+            CHARACTER_CLASSES[c] |= DIGIT;
+        }
+        // Commas are considered whitespace in the IDL.
+        for (char c : new char[] {' ', '\t', ','}) {
+            CHARACTER_CLASSES[c] |= WHITESPACE | SPACE;
+        }
+        CHARACTER_CLASSES['\r'] |= WHITESPACE;
+        CHARACTER_CLASSES['\n'] |= WHITESPACE;
+        // Characters that can appear in quoted_text without escaping or normalization.
+        CHARACTER_CLASSES['\t'] |= QUOTED_CHAR;
+        CHARACTER_CLASSES['\n'] |= QUOTED_CHAR;
+        for (char c = 0x20; c < 128; c++) {
+            if (c != '"' && c != '\\') {
+                CHARACTER_CLASSES[c] |= QUOTED_CHAR;
+            }
+        }
+    }
+
+    private final String source;
+    private final int length;
+    private String[] interned = new String[256];
+    private int internedCount;
+
+    IdlLexer(String source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    private static boolean is(char c, byte characterClass) {
+        return c < 128 && (CHARACTER_CLASSES[c] & characterClass) != 0;
+    }
+
+    static boolean isIdentifierStart(char c) {
+        return is(c, IDENTIFIER_START);
+    }
+
+    static boolean isDigit(char c) {
+        return is(c, DIGIT);
+    }
+
+    private char charAt(int position) {
+        return position < length ? source.charAt(position) : Character.MIN_VALUE;
+    }
+
+    // identifier       = identifier_start *identifier_chars
+    // identifier_start = *"_" ALPHA
+    // identifier_chars = ALPHA / DIGIT / "_"
+    int scanIdentifier(int position) {
+        char c = charAt(position);
+        if (c == '_') {
+            while (charAt(position) == '_') {
+                position++;
+            }
+            if (!is(charAt(position), IDENTIFIER_CHARS)) {
+                return -1;
+            }
+        } else if (!is(c, IDENTIFIER_START)) {
+            return -1;
+        }
+
+        position++;
+        while (is(charAt(position), IDENTIFIER_CHARS)) {
+            position++;
+        }
+
+        return position;
+    }
+
+    // namespace = identifier *("." identifier)
+    int scanNamespace(int position) {
+        position = scanIdentifier(position);
+        while (position >= 0 && charAt(position) == '.') {
+            position = scanIdentifier(position + 1);
+        }
+        return position;
+    }
+
+    // shape_id = namespace ["#" identifier] ["$" identifier]
+    int scanShapeId(int position, boolean parseMember) {
+        position = scanNamespace(position);
+        if (position >= 0 && charAt(position) == '#') {
+            position = scanIdentifier(position + 1);
+        }
+        if (parseMember && position >= 0 && charAt(position) == '$') {
+            position = scanIdentifier(position + 1);
+        }
+        return position;
+    }
+
+    // -?(?:0|[1-9]\d*)(?:\.\d+)?(?:[eE][+-]?\d+)?
+    int scanNumber(int position) {
+        if (charAt(position) == '-') {
+            position++;
+            if (!is(charAt(position), DIGIT)) {
+                return -1;
+            }
+        }
+
+        position = scanDigits(position);
+
+        if (charAt(position) == '.') {
+            int start = ++position;
+            position = scanDigits(position);
+            if (position == start) {
+                return -1;
+            }
+        }
+
+        char c = charAt(position);
+        if (c == 'e' || c == 'E') {
+            c = charAt(++position);
+            if (c == '+' || c == '-') {
+                position++;
+            }
+            int start = position;
+            position = scanDigits(position);
+            if (position == start) {
+                return -1;
+            }
+        }
+
+        return position;
+    }
+
+    private int scanDigits(int position) {
+        while (is(charAt(position), DIGIT)) {
+            position++;
+        }
+        return position;
+    }
+
+    // Scans whitespace, including commas, but not comments.
+    int scanWhitespace(int position) {
+        while (is(charAt(position), WHITESPACE)) {
+            position++;
+        }
+        return position;
+    }
+
+    // Scans spaces, tabs, and commas.
+    int scanSpaces(int position) {
+        while (is(charAt(position), SPACE)) {
+            position++;
+        }
+        return position;
+    }
+
+    // Scans until the next line break or the end of the file.
+    int scanLine(int position) {
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Scans the contents of quoted_text or a text_block up to the closing
+     * quote, skipping over escaped characters.
+     *
+     * @param position Position after the opening quotes.
+     * @param triple Whether to scan a text_block that is closed by three quotes.
+     * @return Returns the position of the closing quotes, or -1 if the end of the file is reached.
+     */
+    int scanQuotedText(int position, boolean triple) {
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '"' && (!triple || (charAt(position + 1) == '"' && charAt(position + 2) == '"'))) {
+                return position;
+            } else if (c == '\\') {
+                // Skip the escaped character. An escaped CRLF is a single line break.
+                position += charAt(position + 1) == '\r' && charAt(position + 2) == '\n' ? 3 : 2;
+            } else {
+                position++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the value of quoted_text that needs no escape processing or line
+     * ending normalization.
+     *
+     * @param start Start of the text, after the opening quote.
+     * @param end Position of the closing quote.
+     * @return Returns the text, or null if the text requires further processing.
+     */
+    String simpleQuotedText(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            // Non-ASCII characters are valid unescaped characters.
+            if (c < 128 && (CHARACTER_CLASSES[c] & QUOTED_CHAR) == 0) {
+                return null;
+            }
+        }
+        return source.substring(start, end);
+    }
+
+    /**
+     * Gets the String for a range of the source, reusing a previously
+     * interned String if the same lexeme was already seen.
+     *
+     * @param start Start of the lexeme.
+     * @param end End of the lexeme.
+     * @return Returns the interned lexeme.
+     */
+    String intern(int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+
+        int mask = interned.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        int lexemeLength = end - start;
+        String candidate;
+        while ((candidate = interned[slot]) != null) {
+            if (candidate.hashCode() == hash
+                    && candidate.length() == lexemeLength
+                    && source.regionMatches(start, candidate, 0, lexemeLength)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String result = source.substring(start, end);
+        interned[slot] = result;
+        if (++internedCount * 2 > interned.length) {
+            growInternTable();
+        }
+        return result;
+    }
+
+    private void growInternTable() {
+        String[] previous = interned;
+        interned = new String[previous.length * 2];
+        int mask = interned.length - 1;
+        for (String value : previous) {
+            if (value != null) {
+                int hash = value.hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (interned[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                interned[slot] = value;
+            }
+        }
+    }
+}
@@ -115,6 +115,7 @@ final class IdlModelParser extends SimpleParser {
     }
 
     private final String filename;
+    private final IdlLexer lexer;
     private final Map<String, ShapeId> useShapes = new HashMap<>();
     private Consumer<LoadOperation> operations;
     private Version modelVersion = Version.VERSION_1_0;
@@ -141,6 +142,7 @@ final class IdlModelParser extends SimpleParser {
     IdlModelParser(String filename, String model) {
         super(model, MAX_NESTING_LEVEL);
         this.filename = filename;
+        this.lexer = new IdlLexer(model);
     }
 
     void parse(Consumer<LoadOperation> operationConsumer) {
@@ -213,7 +215,7 @@ final class IdlModelParser extends SimpleParser {
                 case '\r':
                 case '\n':
                 case ',':
-                    skip();
+                    advanceTo(lexer.scanWhitespace(position()));
                     break;
                 default:
                      return;
@@ -242,13 +244,81 @@ final class IdlModelParser extends SimpleParser {
 
     @Override
     public void sp() {
-        while (isSpaceOrComma(peek())) {
-            skip();
+        advanceOnLine(lexer.scanSpaces(position()));
+    }
+
+    @Override
+    public void consumeRemainingCharactersOnLine() {
+        advanceOnLine(lexer.scanLine(position()));
+    }
+
+    IdlLexer lexer() {
+        return lexer;
+    }
+
+    /**
+     * Advances the parser to a position scanned by the lexer, updating the
+     * current line and column.
+     *
+     * @param end Position to advance to.
+     */
+    void advanceTo(int end) {
+        String source = expression();
+        int line = line();
+        int column = column();
+        int position = position();
+
+        while (position < end) {
+            char c = source.charAt(position++);
+            if (c == '\n') {
+                line++;
+                column = 1;
+            } else if (c == '\r') {
+                // CRLF is a single line break.
+                if (position < source.length() && source.charAt(position) == '\n') {
+                    position++;
+                }
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
         }
+
+        rewind(position, line, column);
     }
 
-    private boolean isSpaceOrComma(char c) {
-        return c == ' ' || c == '\t' || c == ',';
+    // Advances to a position on the current line.
+    private void advanceOnLine(int end) {
+        rewind(end, line(), column() + end - position());
+    }
+
+    // Consumes a lexeme that ends at the given position and returns its interned value.
+    private String consumeInterned(int end) {
+        String lexeme = lexer.intern(position(), end);
+        advanceOnLine(end);
+        return lexeme;
+    }
+
+    String parseIdentifier() {
+        int end = lexer.scanIdentifier(position());
+        // Invalid identifiers are parsed using ParserUtils to report the error.
+        return end < 0 ? ParserUtils.parseIdentifier(this) : consumeInterned(end);
+    }
+
+    String parseShapeId() {
+        int end = lexer.scanShapeId(position(), true);
+        return end < 0 ? ParserUtils.parseShapeId(this) : consumeInterned(end);
+    }
+
+    private String parseNamespace() {
+        int end = lexer.scanNamespace(position());
+        if (end >= 0) {
+            return consumeInterned(end);
+        }
+        int start = position();
+        ParserUtils.consumeNamespace(this);
+        return sliceFrom(start);
     }
 
     @Override
@@ -367,9 +437,7 @@ final class IdlModelParser extends SimpleParser {
             rsp();
 
             // Parse the namespace.
-            int start = position();
-            ParserUtils.consumeNamespace(this);
-            namespace = sliceFrom(start);
+            namespace = parseNamespace();
             // Clear out any erroneous documentation comments.
             clearPendingDocs();
             br();
@@ -392,12 +460,24 @@ final class IdlModelParser extends SimpleParser {
             expect('e');
             rsp();
 
-            int start = position();
             SourceLocation location = currentLocation();
-            ParserUtils.consumeNamespace(this);
-            expect('#');
-            ParserUtils.consumeIdentifier(this);
-            String lexeme = sliceFrom(start);
+            int end = lexer.scanNamespace(position());
+            if (end >= 0 && peek(end - position()) == '#') {
+                end = lexer.scanIdentifier(end + 1);
+            } else {
+                end = -1;
+            }
+            String lexeme;
+            if (end >= 0) {
+                lexeme = consumeInterned(end);
+            } else {
+                // Parse invalid use statements using ParserUtils to report the error.
+                int start = position();
+                ParserUtils.consumeNamespace(this);
+                expect('#');
+                ParserUtils.consumeIdentifier(this);
+                lexeme = sliceFrom(start);
+            }
             // Clear out any erroneous documentation comments.
             clearPendingDocs();
             br();
@@ -477,7 +557,7 @@ final class IdlModelParser extends SimpleParser {
         SourceLocation location = currentLocation();
 
         // Do a check here to give better parsing error messages.
-        String shapeType = ParserUtils.parseIdentifier(this);
+        String shapeType = parseIdentifier();
         if (!SHAPE_TYPES.contains(shapeType)) {
             switch (shapeType) {
                 case "use":
@@ -576,7 +656,7 @@ final class IdlModelParser extends SimpleParser {
 
     private ShapeId parseShapeName() {
         SourceLocation currentLocation = currentLocation();
-        String name = ParserUtils.parseIdentifier(this);
+        String name = parseIdentifier();
         ShapeId id = ShapeId.fromRelative(expectNamespace(), name);
 
         if (useShapes.containsKey(name)) {
@@ -606,7 +686,7 @@ final class IdlModelParser extends SimpleParser {
         while (!eof() && peek() != '}') {
             List<TraitEntry> memberTraits = parseDocsAndTraits();
             SourceLocation memberLocation = currentLocation();
-            String memberName = ParserUtils.parseIdentifier(this);
+            String memberName = parseIdentifier();
             MemberShape.Builder memberBuilder = MemberShape.builder()
                     .id(id.withMember(memberName))
                     .source(memberLocation)
@@ -681,7 +761,7 @@ final class IdlModelParser extends SimpleParser {
             sp();
             expect(':');
             sp();
-            addForwardReference(ParserUtils.parseShapeId(this), memberBuilder::target);
+            addForwardReference(parseShapeId(), memberBuilder::target);
         }
 
         operation.addMember(memberBuilder);
@@ -747,7 +827,7 @@ final class IdlModelParser extends SimpleParser {
         ws();
 
         do {
-            String target = ParserUtils.parseShapeId(this);
+            String target = parseShapeId();
             addForwardReference(target, resolved -> {
                 operation.addDependency(resolved);
                 operation.addModifier(new ApplyMixin(resolved));
@@ -821,7 +901,7 @@ final class IdlModelParser extends SimpleParser {
             expect('$');
         }
 
-        String memberName = ParserUtils.parseIdentifier(this);
+        String memberName = parseIdentifier();
 
         if (defined.contains(memberName)) {
             // This is a duplicate member name.
@@ -844,7 +924,7 @@ final class IdlModelParser extends SimpleParser {
             sp();
             expect(':');
             sp();
-            addForwardReference(ParserUtils.parseShapeId(this), memberBuilder::target);
+            addForwardReference(parseShapeId(), memberBuilder::target);
         }
 
         // Skip spaces to check if there is default trait sugar.
@@ -906,7 +986,7 @@ final class IdlModelParser extends SimpleParser {
     private void parseProperties(ShapeId id, Consumer<String> valueParser) {
         Set<String> defined = new HashSet<>();
         while (!eof() && peek() != '}') {
-            String key = ParserUtils.parseIdentifier(this);
+            String key = parseIdentifier();
             if (defined.contains(key)) {
                 throw syntax(id, String.format("Duplicate operation %s property for %s", key, id));
             }
@@ -936,7 +1016,7 @@ final class IdlModelParser extends SimpleParser {
             consumer.accept(parseInlineStructure(id.getName() + suffix, defaultTrait));
         } else {
             ws();
-            addForwardReference(ParserUtils.parseShapeId(this), consumer);
+            addForwardReference(parseShapeId(), consumer);
         }
     }
 
@@ -976,7 +1056,7 @@ final class IdlModelParser extends SimpleParser {
 
         rsp();
 
-        addForwardReference(ParserUtils.parseShapeId(this), shapeId -> {
+        addForwardReference(parseShapeId(), shapeId -> {
             operation.addDependency(shapeId);
             operation.addModifier(new ApplyResourceBasedTargets(shapeId));
         });
@@ -989,7 +1069,7 @@ final class IdlModelParser extends SimpleParser {
         ws();
 
         while (!eof() && peek() != ']') {
-            addForwardReference(ParserUtils.parseShapeId(this), consumer);
+            addForwardReference(parseShapeId(), consumer);
             ws();
         }
 
@@ -1131,7 +1211,7 @@ final class IdlModelParser extends SimpleParser {
         expect('y');
         rsp();
 
-        String name = ParserUtils.parseShapeId(this);
+        String name = parseShapeId();
         rws();
 
         // Account for singular or block apply statements.
@@ -1210,7 +1290,15 @@ final class IdlModelParser extends SimpleParser {
     }
 
     NumberNode parseNumberNode(SourceLocation location) {
-        String lexeme = ParserUtils.parseNumber(this);
+        int end = lexer.scanNumber(position());
+        String lexeme;
+        if (end < 0) {
+            // Invalid numbers are parsed using ParserUtils to report the error.
+            lexeme = ParserUtils.parseNumber(this);
+        } else {
+            lexeme = expression().substring(position(), end);
+            advanceOnLine(end);
+        }
 
         if (lexeme.contains("e") || lexeme.contains("E")  || lexeme.contains(".")) {
             double value = Double.parseDouble(lexeme);
@@ -67,7 +67,7 @@ final class IdlNodeParser {
             case '-':
                 return parser.parseNumberNode(location);
             default: {
-                return parseNodeTextWithKeywords(parser, location, ParserUtils.parseShapeId(parser));
+                return parseNodeTextWithKeywords(parser, location, parser.parseShapeId());
             }
         }
     }
@@ -160,7 +160,7 @@ final class IdlNodeParser {
         if (parser.peek() == '"') {
             return IdlTextParser.parseQuotedString(parser);
         } else {
-            return ParserUtils.parseIdentifier(parser);
+            return parser.parseIdentifier();
         }
     }
 
@@ -36,15 +36,19 @@ final class IdlTextParser {
     // Parses both quoted_text and text_block
     static String parseQuotedTextAndTextBlock(IdlModelParser parser, boolean triple) {
         int start = parser.position();
-
-        while (!parser.eof()) {
-            char next = parser.peek();
-            if (next == '"' && (!triple || (parser.peek(1) == '"' && parser.peek(2) == '"'))) {
-                // Found closing quotes of quoted_text and/or text_block
-                break;
+        int end = parser.lexer().scanQuotedText(start, triple);
+
+        if (end >= 0) {
+            parser.advanceTo(end);
+            // Most quoted_text needs no escape processing or line ending normalization.
+            String simple = triple ? null : parser.lexer().simpleQuotedText(start, end);
+            if (simple != null) {
+                parser.expect('"');
+                return simple;
             }
-            parser.skip();
-            if (next == '\\') {
+        } else {
+            // Consume the unclosed string so that the error is reported at the end of the file.
+            while (!parser.eof()) {
                 parser.skip();
             }
         }
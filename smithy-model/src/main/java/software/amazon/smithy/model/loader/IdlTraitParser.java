@@ -44,7 +44,7 @@ final class IdlTraitParser {
         // "@" shape_id
         SourceLocation location = parser.currentLocation();
         parser.expect('@');
-        String id = ParserUtils.parseShapeId(parser);
+        String id = parser.parseShapeId();
 
         // No (): it's an annotation trait.
         if (parser.peek() != '(') {
@@ -89,7 +89,7 @@ final class IdlTraitParser {
                     return parser.parseNumberNode(location);
                 } else {
                     // Parse unquoted strings or possibly a structured trait.
-                    String key = ParserUtils.parseIdentifier(parser);
+                    String key = parser.parseIdentifier();
                     return parseTraitValueBodyIdentifierOrQuotedString(parser, location, key, true);
                 }
             }
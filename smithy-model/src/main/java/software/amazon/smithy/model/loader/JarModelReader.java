@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streams manifests and models stored in JAR files on the local file
+ * system, opening each JAR only once.
+ *
+ * <p>JARs are opened the first time one of their entries is read and stay
+ * open until the reader is closed, so reading the manifest of a JAR and
+ * then its models opens the JAR once. Model contents are streamed from the
+ * JAR rather than read onto the heap. Models that aren't stored in a local
+ * JAR, or that can't be read this way, are read through their original
+ * supplier, which reports a more specific error.
+ *
+ * <p>Entries can be read concurrently. A reader can be used again after it
+ * is closed, in which case JARs are opened again.
+ */
+final class JarModelReader implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(JarModelReader.class.getName());
+
+    // JARs that couldn't be opened are stored as null so that they aren't opened again.
+    private final Map<Path, ZipFile> jars = new HashMap<>();
+
+    /**
+     * Creates a supplier that streams a model from its local JAR if possible.
+     *
+     * @param url Model URL (e.g., "jar:file:/example.jar!/META-INF/smithy/example.smithy").
+     * @param fallback Supplier used when the model can't be read from a local JAR.
+     * @return Returns the created supplier.
+     */
+    Supplier<InputStream> supplier(String url, Supplier<InputStream> fallback) {
+        Path jar = ModelDiscovery.getLocalJarPath(url);
+
+        if (jar == null) {
+            return fallback;
+        }
+
+        String entryName = ModelDiscovery.getJarEntryName(url);
+        return () -> {
+            InputStream stream = open(jar, entryName);
+            return stream != null ? stream : fallback.get();
+        };
+    }
+
+    /**
+     * Opens an entry of a local JAR.
+     *
+     * @param url URL of the JAR entry (e.g., "jar:file:/example.jar!/META-INF/smithy/manifest").
+     * @return Returns the entry contents, or null if the entry can't be read from a local JAR.
+     */
+    InputStream open(String url) {
+        Path jar = ModelDiscovery.getLocalJarPath(url);
+        return jar == null ? null : open(jar, ModelDiscovery.getJarEntryName(url));
+    }
+
+    private InputStream open(Path jar, String entryName) {
+        ZipFile zip = getZipFile(jar);
+
+        if (zip != null) {
+            try {
+                ZipEntry entry = zip.getEntry(entryName);
+                if (entry != null) {
+                    return zip.getInputStream(entry);
+                }
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.finer(() -> "Unable to read " + entryName + " from JAR " + jar + ": " + e.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    private synchronized ZipFile getZipFile(Path jar) {
+        if (jars.containsKey(jar)) {
+            return jars.get(jar);
+        }
+
+        ZipFile zip = null;
+        try {
+            zip = new ZipFile(jar.toFile());
+        } catch (IOException e) {
+            LOGGER.finer(() -> "Unable to open JAR " + jar + ": " + e.getMessage());
+        }
+
+        jars.put(jar, zip);
+        return zip;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Map.Entry<Path, ZipFile> entry : jars.entrySet()) {
+            if (entry.getValue() != null) {
+                try {
+                    entry.getValue().close();
+                } catch (IOException e) {
+                    LOGGER.finer(() -> "Unable to close JAR " + entry.getKey() + ": " + e.getMessage());
+                }
+            }
+        }
+        jars.clear();
+    }
+}
@@ -27,12 +27,16 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -49,6 +53,7 @@ import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidationEventSummary;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.utils.Pair;
@@ -103,6 +108,10 @@ public final class ModelAssembler {
     private final Map<String, Object> properties = new HashMap<>();
     private boolean disablePrelude;
     private Consumer<ValidationEvent> validationEventListener = DEFAULT_EVENT_LISTENER;
+    private ValidationEventSummary validationEventSummary;
+
+    // JARs opened to read the manifests of discovered models stay open until their models are loaded.
+    private final JarModelReader jars = new JarModelReader();
 
     // Lazy initialization holder class idiom to hold a default trait factory.
     static final class LazyTraitFactoryHolder {
@@ -129,6 +138,7 @@ public final class ModelAssembler {
         assembler.properties.putAll(properties);
         assembler.disableValidation = disableValidation;
         assembler.validationEventListener = validationEventListener;
+        assembler.validationEventSummary = validationEventSummary;
         return assembler;
     }
 
@@ -148,6 +158,7 @@ public final class ModelAssembler {
      *     <li>Metadata registered via {@link #putMetadata}</li>
      *     <li>Validation is re-enabled if it was disabled.</li>
      *     <li>Validation event listener via {@link #validationEventListener(Consumer)}</li>
+     *     <li>Validation event summary via {@link #validationEventSummary(ValidationEventSummary)}</li>
      * </ul>
      *
      * <p>The state of {@link #disablePrelude} is reset such that the prelude
@@ -166,6 +177,8 @@ public final class ModelAssembler {
         disablePrelude = false;
         disableValidation = false;
         validationEventListener = DEFAULT_EVENT_LISTENER;
+        validationEventSummary = null;
+        jars.close();
         return this;
     }
 
@@ -269,7 +282,7 @@ public final class ModelAssembler {
             // Use an absolute path for better de-duping of the same file.
             inputStreamModels.put(importPath.toAbsolutePath().toString(), () -> {
                 try {
-                    return Files.newInputStream(importPath);
+                    return ModelLoader.openFile(importPath);
                 } catch (IOException e) {
                     throw new ModelImportException(
                             "Unable to import Smithy model from " + importPath + ": " + e.getMessage(), e);
@@ -409,7 +422,7 @@ public final class ModelAssembler {
      * @return Returns the model assembler.
      */
     public ModelAssembler discoverModels(ClassLoader loader) {
-        return addDiscoveredModels(ModelDiscovery.findModels(loader));
+        return addDiscoveredModels(ModelDiscovery.findModels(loader, jars));
     }
 
     /**
@@ -419,7 +432,7 @@ public final class ModelAssembler {
      * @return Returns the model assembler.
      */
     public ModelAssembler discoverModels() {
-        return addDiscoveredModels(ModelDiscovery.findModels());
+        return discoverModels(Thread.currentThread().getContextClassLoader());
     }
 
     private ModelAssembler addDiscoveredModels(List<URL> urls) {
@@ -496,6 +509,30 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Sets a summary that counts every validation event and limits how many
+     * events are retained in the {@link ValidatedResult} returned from
+     * {@link #assemble()}.
+     *
+     * <p>Every event is still sent to the
+     * {@link #validationEventListener(Consumer) validation event listener}.
+     * Using a summary with a small limit and streaming events to a listener
+     * allows models that produce a very large number of validation events
+     * to be validated with bounded memory.
+     *
+     * <p>The summary is not reset by {@link #assemble()}. Assembling more
+     * than once with the same summary accumulates the counts of every
+     * call, and the retention limit applies to all of the calls combined.
+     * Use a new summary for each call to count each model separately.
+     *
+     * @param summary Summary used to count and retain events, or null to retain every event.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler validationEventSummary(ValidationEventSummary summary) {
+        validationEventSummary = summary;
+        return this;
+    }
+
     /**
      * Assembles the model and returns the validated result.
      *
@@ -540,13 +577,7 @@ public final class ModelAssembler {
         }
 
         // Load model files into the processor.
-        for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
-            try {
-                ModelLoader.load(traitFactory, properties, entry.getKey(), processor, entry.getValue());
-            } catch (SourceException e) {
-                processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
-            }
-        }
+        loadInputStreamModels(processor);
 
         Model processedModel = processor.buildModel();
         Model transformed;
@@ -559,7 +590,7 @@ public final class ModelAssembler {
             // The transformation shouldn't throw, but if it does, return here with the original model.
             LOGGER.log(Level.SEVERE, "Error in ModelInteropTransformer: ", e);
             events.add(ValidationEvent.fromSourceException(e));
-            return new ValidatedResult<>(processedModel, events);
+            return createResult(processedModel, events);
         }
 
         // If ERROR validation events occur while loading, then performing more
@@ -569,14 +600,148 @@ public final class ModelAssembler {
         }
 
         if (disableValidation) {
-            return new ValidatedResult<>(transformed, events);
+            return createResult(transformed, events);
         }
 
         try {
             return validate(transformed, events);
         } catch (SourceException e) {
+            // Validation only counts loading events in the summary once it can no longer fail, so they're
+            // counted here exactly once. Events that were already streamed to the listener stay counted.
             events.add(ValidationEvent.fromSourceException(e));
-            return new ValidatedResult<>(transformed, events);
+            return createResult(transformed, events);
+        }
+    }
+
+    // Model files are parsed in parallel, with a bounded number of files parsed ahead of the file whose load
+    // operations are being applied to the processor. Files are applied in order. Models stored in local JARs
+    // are streamed from the JAR, and each JAR is only opened once, including by model discovery. JARs are
+    // closed once every file is loaded.
+    private void loadInputStreamModels(LoadOperationProcessor processor) {
+        try {
+            if (inputStreamModels.size() == 1) {
+                Map.Entry<String, Supplier<InputStream>> entry = inputStreamModels.entrySet().iterator().next();
+                loadInputStreamModel(processor, entry.getKey(), jars.supplier(entry.getKey(), entry.getValue()));
+                return;
+            }
+
+            int maxPending = Runtime.getRuntime().availableProcessors();
+            Deque<BufferedModelLoad> pending = new ArrayDeque<>();
+            Iterator<Map.Entry<String, Supplier<InputStream>>> entries = inputStreamModels.entrySet().iterator();
+
+            try {
+                while (entries.hasNext() || !pending.isEmpty()) {
+                    while (entries.hasNext() && pending.size() < maxPending) {
+                        Map.Entry<String, Supplier<InputStream>> entry = entries.next();
+                        BufferedModelLoad load = new BufferedModelLoad(
+                                entry.getKey(), jars.supplier(entry.getKey(), entry.getValue()));
+                        load.start();
+                        pending.add(load);
+                    }
+                    pending.removeFirst().join().replay(processor);
+                }
+            } finally {
+                // Files still pending when a file fails to load must not read from JARs after they're closed.
+                for (BufferedModelLoad load : pending) {
+                    load.cancel();
+                }
+            }
+        } finally {
+            jars.close();
+        }
+    }
+
+    private void loadInputStreamModel(LoadOperationProcessor processor, String filename, Supplier<InputStream> in) {
+        try {
+            ModelLoader.load(traitFactory, properties, filename, processor, in);
+        } catch (SourceException e) {
+            processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException(e)));
+        }
+    }
+
+    private final class BufferedModelLoad implements Consumer<LoadOperation> {
+        private final String filename;
+        private final Supplier<InputStream> contents;
+        private List<LoadOperation> operations = new ArrayList<>();
+        private Consumer<LoadOperation> processor;
+        private RuntimeException error;
+        private CompletableFuture<BufferedModelLoad> future;
+        private boolean loading;
+        private boolean cancelled;
+
+        BufferedModelLoad(String filename, Supplier<InputStream> contents) {
+            this.filename = filename;
+            this.contents = contents;
+        }
+
+        // Parses the file asynchronously.
+        void start() {
+            future = CompletableFuture.supplyAsync(this::load);
+        }
+
+        BufferedModelLoad join() {
+            return future.join();
+        }
+
+        // Parses the file into buffered load operations.
+        private BufferedModelLoad load() {
+            synchronized (this) {
+                if (cancelled) {
+                    return this;
+                }
+                loading = true;
+            }
+
+            try {
+                ModelLoader.load(traitFactory, properties, filename, this, contents);
+            } catch (RuntimeException e) {
+                // Errors are reported after the operations emitted before the error are applied.
+                error = e;
+            } finally {
+                synchronized (this) {
+                    loading = false;
+                    notifyAll();
+                }
+            }
+
+            return this;
+        }
+
+        // Cancels the parse if it hasn't started, or waits for it to finish if it has.
+        synchronized void cancel() {
+            cancelled = true;
+            future.cancel(false);
+            while (loading) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        // Operations emitted after replaying, like those emitted when forward references are resolved, go
+        // directly to the processor. Errors are raised at the same point as loading each file sequentially.
+        void replay(LoadOperationProcessor processor) {
+            operations.forEach(processor);
+            operations = null;
+            this.processor = processor;
+
+            if (error instanceof SourceException) {
+                processor.accept(new LoadOperation.Event(ValidationEvent.fromSourceException((SourceException) error)));
+            } else if (error != null) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void accept(LoadOperation operation) {
+            if (processor != null) {
+                processor.accept(operation);
+            } else {
+                operations.add(operation);
+            }
         }
     }
 
@@ -587,11 +752,18 @@ public final class ModelAssembler {
     }
 
     private ValidatedResult<Model> returnOnlyErrors(Model model, List<ValidationEvent> events) {
-        return new ValidatedResult<>(model, events.stream()
+        return createResult(model, events.stream()
                 .filter(event -> event.getSeverity() == Severity.ERROR)
                 .collect(Collectors.toList()));
     }
 
+    private ValidatedResult<Model> createResult(Model model, List<ValidationEvent> events) {
+        if (validationEventSummary != null) {
+            events = events.stream().filter(validationEventSummary::add).collect(Collectors.toList());
+        }
+        return new ValidatedResult<>(model, events);
+    }
+
     private ValidatedResult<Model> validate(Model model, List<ValidationEvent> events) {
         // Validate the model based on the explicit validators and model metadata.
         // Note the ModelValidator handles emitting events to the validationEventListener.
@@ -599,6 +771,7 @@ public final class ModelAssembler {
                 .validators(validators)
                 .validatorFactory(validatorFactory)
                 .eventListener(validationEventListener)
+                .eventSummary(validationEventSummary)
                 .includeEvents(events)
                 .createValidator()
                 .validate(model);
@@ -21,16 +21,22 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Discovers Smithy models by finding all {@code META-INF/smithy/manifest}
@@ -96,6 +102,10 @@ import java.util.regex.Pattern;
  * namespace that is defined within the file. Files that define multiple
  * namespaces are free to use whatever naming scheming they choose, but
  * model files should be globally unique in an application.
+ *
+ * <p>Manifests found on the class path are read in parallel. Manifests
+ * stored in JAR files on the local file system are read directly from the
+ * JAR.
  */
 public final class ModelDiscovery {
     private static final Logger LOGGER = Logger.getLogger(ModelDiscovery.class.getName());
@@ -103,6 +113,8 @@ public final class ModelDiscovery {
     private static final String MANIFEST = "manifest";
     private static final String MANIFEST_PATH = ROOT_RESOURCE_PATH + MANIFEST;
     private static final Pattern PROHIBITED_RESOURCE_SEGMENT_CHARS = Pattern.compile("[\t\\\\?%*:|\"'><# ]+");
+    private static final String JAR_FILE_SCHEME = "jar:file:";
+    private static final String JAR_SEPARATOR = "!/";
 
     private ModelDiscovery() {}
 
@@ -122,13 +134,19 @@ public final class ModelDiscovery {
      * @return Returns the URLs of each model referenced by manifests.
      */
     public static List<URL> findModels(ClassLoader loader) {
+        try (JarModelReader jars = new JarModelReader()) {
+            return findModels(loader, jars);
+        }
+    }
+
+    // Finds models using a reader that keeps the JARs of manifests open to later read their models.
+    static List<URL> findModels(ClassLoader loader, JarModelReader jars) {
         try {
-            List<URL> result = new ArrayList<>();
-            Enumeration<URL> manifests = loader.getResources(MANIFEST_PATH);
-            while (manifests.hasMoreElements()) {
-                result.addAll(findModels(manifests.nextElement()));
-            }
-            return result;
+            // Manifests are read in parallel, but models are returned in class path order.
+            return Collections.list(loader.getResources(MANIFEST_PATH)).parallelStream()
+                    .map(manifest -> findModels(manifest, jars))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
         } catch (IOException e) {
             throw new ModelManifestException("Error locating Smithy model manifests", e);
         }
@@ -145,13 +163,19 @@ public final class ModelDiscovery {
      * @return Returns the URLs of each model referenced by the manifest.
      */
     public static List<URL> findModels(URL jarManifestUrl) {
+        try (JarModelReader jars = new JarModelReader()) {
+            return findModels(jarManifestUrl, jars);
+        }
+    }
+
+    static List<URL> findModels(URL jarManifestUrl, JarModelReader jars) {
         List<URL> result = new ArrayList<>();
         LOGGER.finer(() -> "Found ModelDiscovery manifest at " + jarManifestUrl);
         String modelUrlPrefix = jarManifestUrl.toString();
         modelUrlPrefix = modelUrlPrefix.substring(0, modelUrlPrefix.length() - MANIFEST.length());
 
         try {
-            for (String model : parseManifest(jarManifestUrl)) {
+            for (String model : parseManifest(jarManifestUrl, jars)) {
                 URL modelUrl = new URL(modelUrlPrefix + model);
                 LOGGER.finest(() -> format("Found Smithy model `%s` in manifest", modelUrl));
                 result.add(modelUrl);
@@ -212,13 +236,26 @@ public final class ModelDiscovery {
         }
     }
 
-    private static Set<String> parseManifest(URL location) throws IOException {
-        Set<String> models = new LinkedHashSet<>();
+    private static Set<String> parseManifest(URL location, JarModelReader jars) throws IOException {
+        InputStream local = jars.open(location.toString());
+
+        if (local != null) {
+            try (InputStream input = local) {
+                return parseManifest(location, input);
+            }
+        }
+
         URLConnection connection = location.openConnection();
         connection.setUseCaches(false);
+        try (InputStream input = connection.getInputStream()) {
+            return parseManifest(location, input);
+        }
+    }
+
+    private static Set<String> parseManifest(URL location, InputStream input) throws IOException {
+        Set<String> models = new LinkedHashSet<>();
 
-        try (InputStream input = connection.getInputStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
             for (;;) {
                 String line = reader.readLine();
                 if (line == null) {
@@ -239,6 +276,31 @@ public final class ModelDiscovery {
         return models;
     }
 
+    // Gets the path of a JAR on the local file system from a URL that points to an entry of the JAR.
+    static Path getLocalJarPath(String url) {
+        if (!url.startsWith(JAR_FILE_SCHEME)) {
+            return null;
+        }
+
+        int separator = url.indexOf(JAR_SEPARATOR);
+        // Nested JARs can only be read through their URL.
+        if (separator == -1 || url.indexOf(JAR_SEPARATOR, separator + 2) != -1) {
+            return null;
+        }
+
+        try {
+            Path path = Paths.get(new URI(url.substring(4, separator)));
+            return Files.isRegularFile(path) ? path : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Gets the name of the JAR entry that a JAR URL points to.
+    static String getJarEntryName(String url) {
+        return url.substring(url.indexOf(JAR_SEPARATOR) + 2);
+    }
+
     private static boolean isValidateResourceLine(String line) {
         for (String segment : line.split("/")) {
             // Ensure each segment is valid.
@@ -15,10 +15,15 @@
 
 package software.amazon.smithy.model.loader;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -38,8 +43,32 @@ final class ModelLoader {
 
     private static final Logger LOGGER = Logger.getLogger(ModelLoader.class.getName());
 
+    // The largest array that can be safely allocated on most JVMs.
+    private static final long MAX_ARRAY = Integer.MAX_VALUE - 8;
+
     private ModelLoader() {}
 
+    /**
+     * Opens a model file from the local file system.
+     *
+     * <p>The file is streamed rather than mapped into memory, so it isn't
+     * kept open or locked after the stream is closed. The size of the file
+     * is recorded so that IDL files can be read into a single array.
+     *
+     * @param path Path to the file to open.
+     * @return Returns the opened input stream.
+     * @throws IOException if the file cannot be opened.
+     */
+    static InputStream openFile(Path path) throws IOException {
+        InputStream stream = Files.newInputStream(path);
+        try {
+            return new LocalFileInputStream(stream, Files.size(path));
+        } catch (IOException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
     /**
      * Parses models and pushes {@link LoadOperation}s to the given consumer.
      *
@@ -65,7 +94,7 @@ final class ModelLoader {
     ) {
         try (InputStream inputStream = contentSupplier.get()) {
             if (filename.endsWith(".smithy")) {
-                String contents = IoUtils.toUtf8String(inputStream);
+                String contents = readUtf8String(inputStream);
                 new IdlModelParser(filename, contents).parse(operationConsumer);
             } else if (filename.endsWith(".jar")) {
                 loadJar(traitFactory, properties, filename, operationConsumer);
@@ -80,6 +109,35 @@ final class ModelLoader {
         }
     }
 
+    private static String readUtf8String(InputStream inputStream) throws IOException {
+        if (!(inputStream instanceof LocalFileInputStream) || ((LocalFileInputStream) inputStream).size > MAX_ARRAY) {
+            return IoUtils.toUtf8String(inputStream);
+        }
+
+        // The size of a local file is known, so its bytes are read into a single array.
+        byte[] bytes = new byte[(int) ((LocalFileInputStream) inputStream).size];
+        int total = 0;
+        int read;
+        while (total < bytes.length && (read = inputStream.read(bytes, total, bytes.length - total)) != -1) {
+            total += read;
+        }
+
+        int next = total == bytes.length ? inputStream.read() : -1;
+        if (next == -1) {
+            return new String(bytes, 0, total, StandardCharsets.UTF_8);
+        }
+
+        // The file grew after it was opened, so read the rest of it too.
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length * 2);
+        output.write(bytes, 0, total);
+        output.write(next);
+        byte[] buffer = new byte[8192];
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     // Loads all supported JSON formats. Each JSON format is expected to have
     // a top-level version property that contains a string. This version
     // is then used to delegate loading to different versions of the
@@ -109,24 +167,35 @@ final class ModelLoader {
         URL manifestUrl = ModelDiscovery.createSmithyJarManifestUrl(filename);
         LOGGER.fine(() -> "Loading Smithy model imports from JAR: " + manifestUrl);
 
-        for (URL model : ModelDiscovery.findModels(manifestUrl)) {
-            try {
-                URLConnection connection = model.openConnection();
-
-                if (properties.containsKey(ModelAssembler.DISABLE_JAR_CACHE)) {
-                    connection.setUseCaches(false);
-                }
-
-                load(traitFactory, properties, model.toExternalForm(), operationConsumer, () -> {
-                    try {
-                        return connection.getInputStream();
-                    } catch (IOException e) {
-                        throw throwIoJarException(model, e);
-                    }
-                });
-            } catch (IOException e) {
-                throw throwIoJarException(model, e);
+        // The manifest and each model are streamed from the JAR, which is only opened once.
+        try (JarModelReader jar = new JarModelReader()) {
+            for (URL model : ModelDiscovery.findModels(manifestUrl, jar)) {
+                load(traitFactory, properties, model.toExternalForm(), operationConsumer,
+                     jar.supplier(model.toExternalForm(), () -> openJarModel(properties, model)));
+            }
+        }
+    }
+
+    private static InputStream openJarModel(Map<String, Object> properties, URL model) {
+        try {
+            URLConnection connection = model.openConnection();
+
+            if (properties.containsKey(ModelAssembler.DISABLE_JAR_CACHE)) {
+                connection.setUseCaches(false);
             }
+
+            return connection.getInputStream();
+        } catch (IOException e) {
+            throw throwIoJarException(model, e);
+        }
+    }
+
+    private static final class LocalFileInputStream extends FilterInputStream {
+        private final long size;
+
+        LocalFileInputStream(InputStream delegate, long size) {
+            super(delegate);
+            this.size = size;
         }
     }
 
@@ -20,18 +20,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.ObjectNode;
-import software.amazon.smithy.model.traits.SuppressTrait;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidationEventSummary;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.model.validation.suppressions.Suppression;
@@ -69,6 +69,7 @@ final class ModelValidator {
     private final List<ValidationEvent> includeEvents = new ArrayList<>();
     private ValidatorFactory validatorFactory;
     private Consumer<ValidationEvent> eventListener;
+    private ValidationEventSummary eventSummary;
 
     /**
      * Sets the custom {@link Validator}s to use when running the ModelValidator.
@@ -141,6 +142,18 @@ final class ModelValidator {
         return this;
     }
 
+    /**
+     * Sets a summary that counts every event and limits the events that
+     * are retained in the result.
+     *
+     * @param eventSummary Summary used to count and retain events.
+     * @return Returns the ModelValidator.
+     */
+    ModelValidator eventSummary(ValidationEventSummary eventSummary) {
+        this.eventSummary = eventSummary;
+        return this;
+    }
+
     /**
      * Includes a set of events that were already encountered in the result.
      *
@@ -169,12 +182,14 @@ final class ModelValidator {
         }
 
         List<Validator> staticValidators = resolveStaticValidators();
+        Predicate<ValidationEvent> retain = eventSummary == null ? event -> true : eventSummary::add;
 
         return model -> {
             List<ValidationEvent> coreEvents = new ArrayList<>();
 
-            // Add suppressions found in the model via metadata.
-            List<Suppression> modelSuppressions = new ArrayList<>(suppressions);
+            // Index the suppressions found in the model via traits and metadata.
+            SuppressionIndex modelSuppressions = new SuppressionIndex(model);
+            suppressions.forEach(modelSuppressions::addSuppression);
             loadModelSuppressions(modelSuppressions, model, coreEvents);
 
             // Add validators defined in the model through metadata.
@@ -190,25 +205,39 @@ final class ModelValidator {
             coreEvents.forEach(eventListener);
 
             if (LoaderUtils.containsErrorEvents(coreEvents)) {
-                return coreEvents;
+                return coreEvents.stream().filter(retain).collect(Collectors.toList());
             }
 
             List<ValidationEvent> result = modelValidators.parallelStream()
                     .flatMap(validator -> validator.validate(model).stream())
                     .filter(ModelValidator::filterPrelude)
-                    .map(event -> suppressEvent(model, event, modelSuppressions))
+                    .map(event -> suppressEvent(event, modelSuppressions))
                     // Emit events as they occur during validation.
                     .peek(eventListener)
+                    // Events that aren't retained are only streamed to the listener.
+                    .filter(retain)
                     .collect(Collectors.toList());
 
+            List<ValidationEvent> remaining = new ArrayList<>();
             for (ValidationEvent event : includeEvents) {
                 if (ModelValidator.filterPrelude(event)) {
-                    result.add(suppressEvent(model, event, modelSuppressions));
+                    remaining.add(suppressEvent(event, modelSuppressions));
                 }
             }
 
+            // Report suppressions that no longer match any events so they can be cleaned up.
+            modelSuppressions.logMetadataSuppressionHits();
+
             // Add in events encountered while building up validators and suppressions.
-            result.addAll(coreEvents);
+            remaining.addAll(coreEvents);
+
+            // Included and core events are only counted once nothing else can fail. If validation throws,
+            // the caller reports the included events itself, and they must not have been counted already.
+            for (ValidationEvent event : remaining) {
+                if (retain.test(event)) {
+                    result.add(event);
+                }
+            }
 
             return result;
         };
@@ -237,7 +266,7 @@ final class ModelValidator {
             List<Validator> validators,
             Model model,
             List<ValidationEvent> events,
-            List<Suppression> suppressions
+            SuppressionIndex suppressions
     ) {
         // Load validators defined in metadata.
         ValidatedResult<List<ValidatorDefinition>> loaded = ValidationLoader
@@ -253,7 +282,7 @@ final class ModelValidator {
             events.addAll(result.getValidationEvents());
             if (result.getValidationEvents().isEmpty() && !result.getResult().isPresent()) {
                 ValidationEvent event = unknownValidatorError(val.name, val.sourceLocation);
-                events.add(suppressEvent(model, event, suppressions));
+                events.add(suppressEvent(event, suppressions));
             }
         }
     }
@@ -270,7 +299,7 @@ final class ModelValidator {
     }
 
     private static void loadModelSuppressions(
-            List<Suppression> suppressions,
+            SuppressionIndex suppressions,
             Model model,
             List<ValidationEvent> events
     ) {
@@ -278,7 +307,7 @@ final class ModelValidator {
             List<ObjectNode> values = value.expectArrayNode().getElementsAs(ObjectNode.class);
             for (ObjectNode rule : values) {
                 try {
-                    suppressions.add(Suppression.fromMetadata(rule));
+                    suppressions.addMetadataSuppression(rule);
                 } catch (SourceException e) {
                     events.add(ValidationEvent.fromSourceException(e));
                 }
@@ -286,13 +315,13 @@ final class ModelValidator {
         });
     }
 
-    private static ValidationEvent suppressEvent(Model model, ValidationEvent event, List<Suppression> suppressions) {
+    private static ValidationEvent suppressEvent(ValidationEvent event, SuppressionIndex suppressions) {
         // ERROR and SUPPRESSED events cannot be suppressed.
         if (!event.getSeverity().canSuppress()) {
             return event;
         }
 
-        Suppression matchedSuppression = findMatchingSuppression(model, event, suppressions);
+        Suppression matchedSuppression = suppressions.findMatchingSuppression(event);
 
         if (matchedSuppression == null) {
             return event;
@@ -305,28 +334,4 @@ final class ModelValidator {
 
         return builder.build();
     }
-
-    private static Suppression findMatchingSuppression(
-            Model model,
-            ValidationEvent event,
-            List<Suppression> suppressions
-    ) {
-        return event.getShapeId()
-                .flatMap(model::getShape)
-                // First check for trait based suppressions.
-                .flatMap(shape -> shape.hasTrait(SuppressTrait.class)
-                                  ? Optional.of(Suppression.fromSuppressTrait(shape))
-                                  : Optional.empty())
-                // Try to suppress it.
-                .flatMap(suppression -> suppression.test(event) ? Optional.of(suppression) : Optional.empty())
-                // If it wasn't suppressed, then try the rules loaded from metadata.
-                .orElseGet(() -> {
-                    for (Suppression suppression : suppressions) {
-                        if (suppression.test(event)) {
-                            return suppression;
-                        }
-                    }
-                    return null;
-                });
-    }
 }
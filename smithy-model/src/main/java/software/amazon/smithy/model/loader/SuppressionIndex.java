@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.SuppressTrait;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.suppressions.Suppression;
+
+/**
+ * Finds the suppression that applies to a validation event without testing
+ * every suppression of the model.
+ *
+ * <p>Suppressions defined in metadata are indexed by event ID and then by
+ * namespace, so an event only looks up the IDs that its event ID
+ * hierarchically contains. Suppressions created from the suppress trait
+ * are created once per shape. Other suppressions are tested in order.
+ * When several suppressions match an event, the first one that was added
+ * is used, just like testing every suppression in order.
+ *
+ * <p>The index counts how many events each suppression matched so that
+ * unused suppressions can be found and removed. The index is thread-safe
+ * once all suppressions are added.
+ */
+final class SuppressionIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(SuppressionIndex.class.getName());
+    private static final String ID = "id";
+    private static final String NAMESPACE = "namespace";
+    private static final String ANY_NAMESPACE = "*";
+
+    private final Map<ShapeId, Suppression> traitSuppressions = new HashMap<>();
+    private final Map<String, Map<String, Entry>> metadataSuppressions = new HashMap<>();
+    private final List<Entry> otherSuppressions = new ArrayList<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    SuppressionIndex(Model model) {
+        for (Shape shape : model.getShapesWithTrait(SuppressTrait.class)) {
+            traitSuppressions.put(shape.getId(), Suppression.fromSuppressTrait(shape));
+        }
+    }
+
+    /**
+     * Adds a suppression that is tested against each event in order.
+     *
+     * @param suppression Suppression to add.
+     */
+    void addSuppression(Suppression suppression) {
+        Entry entry = new Entry(entries.size(), suppression, null);
+        entries.add(entry);
+        otherSuppressions.add(entry);
+    }
+
+    /**
+     * Adds a suppression defined in the "suppressions" metadata of a model.
+     *
+     * @param rule Metadata suppression node to add.
+     * @throws software.amazon.smithy.model.SourceException if the suppression is invalid.
+     */
+    void addMetadataSuppression(ObjectNode rule) {
+        Suppression suppression = Suppression.fromMetadata(rule);
+        String id = rule.expectStringMember(ID).getValue();
+        String namespace = rule.expectStringMember(NAMESPACE).getValue();
+        Entry entry = new Entry(entries.size(), suppression, "`" + id + "` in namespace `" + namespace + "`");
+        entries.add(entry);
+        // Only the first suppression with the same ID and namespace can ever match an event.
+        metadataSuppressions.computeIfAbsent(id, i -> new HashMap<>()).putIfAbsent(namespace, entry);
+    }
+
+    /**
+     * Finds the first suppression that applies to the given event.
+     *
+     * @param event Event to test.
+     * @return Returns the matching suppression, or null if no suppression applies.
+     */
+    Suppression findMatchingSuppression(ValidationEvent event) {
+        ShapeId shapeId = event.getShapeId().orElse(null);
+
+        // First check for trait based suppressions.
+        if (shapeId != null) {
+            Suppression suppression = traitSuppressions.get(shapeId);
+            if (suppression != null && suppression.test(event)) {
+                return suppression;
+            }
+        }
+
+        Entry match = metadataSuppressions.isEmpty() ? null : findMetadataSuppression(event.getId(), shapeId);
+
+        // Suppressions that aren't indexed only need to be tested if they were added before the match.
+        for (Entry entry : otherSuppressions) {
+            if (match != null && entry.position > match.position) {
+                break;
+            } else if (entry.suppression.test(event)) {
+                match = entry;
+                break;
+            }
+        }
+
+        if (match == null) {
+            return null;
+        }
+
+        match.hits.incrementAndGet();
+        return match.suppression;
+    }
+
+    private Entry findMetadataSuppression(String eventId, ShapeId shapeId) {
+        Entry match = null;
+
+        // An event ID contains itself and each prefix of it that is followed by a ".".
+        for (int i = 0; i <= eventId.length(); i++) {
+            if (i == eventId.length() || eventId.charAt(i) == '.') {
+                Map<String, Entry> namespaces = metadataSuppressions.get(eventId.substring(0, i));
+                if (namespaces != null) {
+                    match = earliest(match, namespaces.get(ANY_NAMESPACE));
+                    if (shapeId != null) {
+                        match = earliest(match, namespaces.get(shapeId.getNamespace()));
+                    }
+                }
+            }
+        }
+
+        return match;
+    }
+
+    private static Entry earliest(Entry current, Entry candidate) {
+        return current == null || (candidate != null && candidate.position < current.position) ? candidate : current;
+    }
+
+    /**
+     * Gets the number of events matched by each metadata suppression,
+     * keyed by a description of the suppression, in the order the
+     * suppressions were added.
+     *
+     * @return Returns the hit counts of metadata suppressions.
+     */
+    Map<String, Integer> getMetadataSuppressionHits() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            if (entry.description != null) {
+                result.merge(entry.description, entry.hits.get(), Integer::sum);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Logs how many events each metadata suppression matched.
+     */
+    void logMetadataSuppressionHits() {
+        if (metadataSuppressions.isEmpty()) {
+            return;
+        }
+
+        LOGGER.fine(() -> {
+            StringBuilder builder = new StringBuilder("Metadata suppression hit counts:");
+            getMetadataSuppressionHits().forEach((description, hits) -> {
+                builder.append(System.lineSeparator()).append("  ").append(description).append(": ").append(hits);
+                if (hits == 0) {
+                    builder.append(" (unused)");
+                }
+            });
+            return builder.toString();
+        });
+    }
+
+    private static final class Entry {
+        private final int position;
+        private final Suppression suppression;
+        private final String description;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        Entry(int position, Suppression suppression, String description) {
+            this.position = position;
+            this.suppression = suppression;
+            this.description = description;
+        }
+    }
+}
@@ -17,7 +17,12 @@ package software.amazon.smithy.model.node;
 
 import static java.lang.String.format;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -35,7 +40,6 @@ import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.loader.ModelSyntaxException;
 import software.amazon.smithy.model.node.internal.NodeHandler;
-import software.amazon.smithy.utils.IoUtils;
 
 /**
  * Base class of for all Smithy model nodes.
@@ -104,7 +108,12 @@ public abstract class Node implements FromSourceLocation, ToNode {
      * @throws ModelSyntaxException if the JSON text is invalid.
      */
     public static Node parse(InputStream json, String file) {
-        return parse(IoUtils.toUtf8String(json), file);
+        // Decode the stream while parsing rather than first reading it into a String.
+        try (Reader reader = new InputStreamReader(json, StandardCharsets.UTF_8)) {
+            return NodeHandler.parse(file, reader, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -17,15 +17,20 @@ package software.amazon.smithy.model.node;
 
 import static java.lang.String.format;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,30 +46,113 @@ import software.amazon.smithy.utils.ToSmithyBuilder;
 
 /**
  * Represents an object node.
+ *
+ * <p>Members are stored in insertion order in parallel key and value arrays.
+ * Small objects are searched linearly, while larger objects also keep an
+ * open-addressing index of member names. Both {@link #getMembers()} and
+ * {@link #getStringMap()} are read-only views over the same arrays.
  */
 public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode> {
+    private static final StringNode[] NO_KEYS = new StringNode[0];
+    private static final Node[] NO_VALUES = new Node[0];
     static final ObjectNode EMPTY = new ObjectNode(MapUtils.of(), SourceLocation.none(), false);
     private static final Logger LOGGER = Logger.getLogger(ObjectNode.class.getName());
 
-    private final Map<StringNode, Node> nodeMap;
-    /** A cache of computed string to Node values. */
+    /** Objects with more members than this also build a hash index of member names. */
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final StringNode[] keys;
+    private final Node[] values;
+
+    /** Open-addressing table of member positions plus one, or null for small objects. */
+    private final int[] index;
+
+    /** Lazily created, read-only views over the member arrays. */
+    private transient Map<StringNode, Node> memberView;
     private transient Map<String, Node> stringMap;
 
     public ObjectNode(Map<StringNode, Node> members, SourceLocation sourceLocation) {
         this(members, sourceLocation, true);
     }
 
-    // Constructor used internally to reduce copies.
+    // Constructor used internally. The members are always copied into arrays, so there's no need to defensively
+    // copy the given map first.
     ObjectNode(Map<StringNode, Node> nodeMap, SourceLocation sourceLocation, boolean defensiveCopy) {
         super(sourceLocation);
-        this.nodeMap = defensiveCopy
-                ? Collections.unmodifiableMap(new LinkedHashMap<>(nodeMap))
-                : Collections.unmodifiableMap(nodeMap);
+        int size = nodeMap.size();
+        if (size == 0) {
+            keys = NO_KEYS;
+            values = NO_VALUES;
+        } else {
+            keys = new StringNode[size];
+            values = new Node[size];
+            int i = 0;
+            for (Map.Entry<StringNode, Node> entry : nodeMap.entrySet()) {
+                keys[i] = Objects.requireNonNull(entry.getKey());
+                values[i++] = Objects.requireNonNull(entry.getValue());
+            }
+        }
+        index = createIndex(keys);
     }
 
     private ObjectNode(Builder builder) {
-        super(builder.sourceLocation);
-        this.nodeMap = builder.nodeMap.copy();
+        this(builder.nodeMap.hasValue() ? builder.nodeMap.peek() : MapUtils.of(), builder.sourceLocation, false);
+    }
+
+    // Constructor used internally to take ownership of already copied arrays.
+    private ObjectNode(StringNode[] keys, Node[] values, SourceLocation sourceLocation) {
+        super(sourceLocation);
+        this.keys = keys;
+        this.values = values;
+        this.index = createIndex(keys);
+    }
+
+    private static int[] createIndex(StringNode[] keys) {
+        if (keys.length <= INDEX_THRESHOLD) {
+            return null;
+        }
+
+        // Keep the table at most half full so that probe sequences stay short.
+        int[] table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i].getValue().hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int indexOf(Object memberName) {
+        if (!(memberName instanceof String)) {
+            return -1;
+        }
+
+        if (index == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].getValue().equals(memberName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        int slot = spread(memberName.hashCode()) & mask;
+        int position;
+        while ((position = index[slot]) != 0) {
+            if (keys[position - 1].getValue().equals(memberName)) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
     }
 
     public static ObjectNode fromStringMap(Map<String, String> map) {
@@ -109,10 +197,20 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a new object node.
      */
     public <T extends ToNode> ObjectNode withMember(StringNode key, T value) {
-        Map<StringNode, Node> nodeMapCopy = new LinkedHashMap<>(nodeMap);
-        nodeMapCopy.put(Objects.requireNonNull(key), Objects.requireNonNull(value).toNode());
-        // Use the constructor that doesn't re-copy.
-        return new ObjectNode(nodeMapCopy, getSourceLocation(), false);
+        Node node = Objects.requireNonNull(value).toNode();
+        int position = indexOf(Objects.requireNonNull(key).getValue());
+        if (position >= 0) {
+            // Like a map put, replacing a member keeps its original key and position.
+            Node[] valuesCopy = values.clone();
+            valuesCopy[position] = node;
+            return new ObjectNode(keys, valuesCopy, getSourceLocation());
+        }
+
+        StringNode[] keysCopy = Arrays.copyOf(keys, keys.length + 1);
+        Node[] valuesCopy = Arrays.copyOf(values, values.length + 1);
+        keysCopy[keys.length] = key;
+        valuesCopy[values.length] = node;
+        return new ObjectNode(keysCopy, valuesCopy, getSourceLocation());
     }
 
     /**
@@ -180,13 +278,17 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a new object node.
      */
     public ObjectNode withoutMember(String memberName) {
-        if (!getStringMap().containsKey(memberName)) {
+        int position = indexOf(memberName);
+        if (position < 0) {
             return this;
         }
-        Map<StringNode, Node> copiedMembers = new LinkedHashMap<>(nodeMap);
-        copiedMembers.keySet().removeIf(k -> k.getValue().equals(memberName));
-        // Use the constructor that doesn't re-copy.
-        return new ObjectNode(copiedMembers, getSourceLocation(), false);
+
+        int remaining = keys.length - position - 1;
+        StringNode[] keysCopy = Arrays.copyOf(keys, keys.length - 1);
+        Node[] valuesCopy = Arrays.copyOf(values, values.length - 1);
+        System.arraycopy(keys, position + 1, keysCopy, position, remaining);
+        System.arraycopy(values, position + 1, valuesCopy, position, remaining);
+        return new ObjectNode(keysCopy, valuesCopy, getSourceLocation());
     }
 
     /**
@@ -195,7 +297,12 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a map of nodes.
      */
     public Map<StringNode, Node> getMembers() {
-        return nodeMap;
+        Map<StringNode, Node> view = memberView;
+        if (view == null) {
+            view = new MemberView<>(false);
+            memberView = view;
+        }
+        return view;
     }
 
     /**
@@ -205,7 +312,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns true if this member is in the ObjectNode.
      */
     public boolean containsMember(String memberName) {
-        return getStringMap().containsKey(memberName);
+        return indexOf(memberName) >= 0;
     }
 
     /**
@@ -215,7 +322,8 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the optional node with the given member name.
      */
     public Optional<Node> getMember(String memberName) {
-        return Optional.ofNullable(getStringMap().get(memberName));
+        int position = indexOf(memberName);
+        return position < 0 ? Optional.empty() : Optional.of(values[position]);
     }
 
     /**
@@ -236,16 +344,12 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the immutable map.
      */
     public Map<String, Node> getStringMap() {
-        Map<String, Node> map = stringMap;
-        if (map == null) {
-            map = new LinkedHashMap<>(nodeMap.size());
-            for (Map.Entry<StringNode, Node> entry : nodeMap.entrySet()) {
-                map.put(entry.getKey().getValue(), entry.getValue());
-            }
-            stringMap = Collections.unmodifiableMap(map);
+        Map<String, Node> view = stringMap;
+        if (view == null) {
+            view = new MemberView<>(true);
+            stringMap = view;
         }
-
-        return stringMap;
+        return view;
     }
 
     /**
@@ -690,7 +794,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns if this object is empty.
      */
     public boolean isEmpty() {
-        return nodeMap.isEmpty();
+        return keys.length == 0;
     }
 
     /**
@@ -699,7 +803,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the number of members.
      */
     public int size() {
-        return nodeMap.size();
+        return keys.length;
     }
 
     /**
@@ -714,7 +818,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      */
     public ObjectNode merge(ObjectNode other) {
         Map<StringNode, Node> result = new LinkedHashMap<>(getMembers());
-        result.putAll(other.nodeMap);
+        result.putAll(other.getMembers());
         return new ObjectNode(
                 result,
                 getSourceLocation() != SourceLocation.NONE ? getSourceLocation() : other.getSourceLocation(),
@@ -762,12 +866,34 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof ObjectNode && nodeMap.equals(((ObjectNode) other).nodeMap);
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ObjectNode)) {
+            return false;
+        }
+
+        // Like map equality, member order is not significant.
+        ObjectNode o = (ObjectNode) other;
+        if (keys.length != o.keys.length) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int position = o.indexOf(keys[i].getValue());
+            if (position < 0 || !values[i].equals(o.values[position])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return getType().hashCode() * 7 + nodeMap.hashCode();
+        // Computed the same way as Map#hashCode for the members.
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += keys[i].hashCode() ^ values[i].hashCode();
+        }
+        return getType().hashCode() * 7 + hash;
     }
 
     @Override
@@ -775,6 +901,99 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
         return new Builder().merge(this);
     }
 
+    /**
+     * Read-only map view over the member arrays, keyed by either the
+     * {@link StringNode} keys or their string values.
+     *
+     * @param <K> Type of key exposed by the view.
+     */
+    private final class MemberView<K> extends AbstractMap<K, Node> {
+        private final boolean stringKeys;
+        private Set<Map.Entry<K, Node>> entrySet;
+
+        MemberView(boolean stringKeys) {
+            this.stringKeys = stringKeys;
+        }
+
+        @SuppressWarnings("unchecked")
+        private K keyAt(int position) {
+            return (K) (stringKeys ? keys[position].getValue() : keys[position]);
+        }
+
+        private int find(Object key) {
+            if (stringKeys) {
+                return indexOf(key);
+            } else if (key instanceof StringNode) {
+                return indexOf(((StringNode) key).getValue());
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return keys.length == 0;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return find(key) >= 0;
+        }
+
+        @Override
+        public Node get(Object key) {
+            int position = find(key);
+            return position < 0 ? null : values[position];
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super Node> action) {
+            for (int i = 0; i < keys.length; i++) {
+                action.accept(keyAt(i), values[i]);
+            }
+        }
+
+        @Override
+        public Set<Map.Entry<K, Node>> entrySet() {
+            Set<Map.Entry<K, Node>> result = entrySet;
+            if (result == null) {
+                result = new AbstractSet<Map.Entry<K, Node>>() {
+                    @Override
+                    public int size() {
+                        return keys.length;
+                    }
+
+                    @Override
+                    public Iterator<Map.Entry<K, Node>> iterator() {
+                        return new Iterator<Map.Entry<K, Node>>() {
+                            private int position;
+
+                            @Override
+                            public boolean hasNext() {
+                                return position < keys.length;
+                            }
+
+                            @Override
+                            public Map.Entry<K, Node> next() {
+                                if (position >= keys.length) {
+                                    throw new NoSuchElementException();
+                                }
+                                int current = position++;
+                                return new AbstractMap.SimpleImmutableEntry<>(keyAt(current), values[current]);
+                            }
+                        };
+                    }
+                };
+                entrySet = result;
+            }
+            return result;
+        }
+    }
+
     /**
      * Builder used to efficiently create an ObjectNode.
      */
@@ -42,6 +42,8 @@ final class JsonParser {
     private static final int MAX_NESTING_LEVEL = 1000;
     private static final int MIN_BUFFER_SIZE = 10;
     private static final int DEFAULT_BUFFER_SIZE = 1024;
+    // Added by Smithy team to grow the buffer when parsing large inputs.
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
 
     // Added by Smithy team to show SourceLocation.
     // All instances of Location from the old class were converted to
@@ -131,7 +133,8 @@ final class JsonParser {
      * valid JSON value, optionally padded with whitespace.
      * <p>
      * Characters are read in chunks into an input buffer of the given size. Hence, wrapping a reader
-     * in an additional <code>BufferedReader</code> likely won't improve reading performance.
+     * in an additional <code>BufferedReader</code> likely won't improve reading performance. The buffer
+     * grows each time a read fills it, up to 64K chars, so that large inputs are read in fewer chunks.
      * </p>
      *
      * @param reader the reader to read the input from
@@ -478,6 +481,10 @@ final class JsonParser {
                 captureStart = 0;
             }
             bufferOffset += fill;
+            // Added by Smithy team: grow the buffer when the input is larger than the buffer.
+            if (fill == buffer.length && buffer.length < MAX_BUFFER_SIZE) {
+                buffer = new char[Math.min(buffer.length * 2, MAX_BUFFER_SIZE)];
+            }
             fill = reader.read(buffer, 0, buffer.length);
             index = 0;
             if (fill == -1) {
@@ -15,7 +15,10 @@
 
 package software.amazon.smithy.model.node.internal;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import software.amazon.smithy.model.SourceLocation;
@@ -40,6 +43,17 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
         return handler.value;
     }
 
+    @SmithyInternalApi
+    public static Node parse(String filename, Reader content, boolean allowComments) {
+        NodeHandler handler = new NodeHandler();
+        try {
+            new JsonParser(filename, handler, allowComments).parse(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return handler.value;
+    }
+
     @SmithyInternalApi
     public static String print(Node node) {
         StringWriter writer = new StringWriter();
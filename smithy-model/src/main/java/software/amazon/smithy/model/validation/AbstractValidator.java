@@ -15,6 +15,13 @@
 
 package software.amazon.smithy.model.validation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.shapes.Shape;
 
@@ -22,6 +29,9 @@ import software.amazon.smithy.model.shapes.Shape;
  * Abstract Validator class that has helpful methods for emitting events.
  */
 public abstract class AbstractValidator implements Validator {
+    // The number of shapes validated together by a single thread.
+    private static final int SHAPE_CHUNK_SIZE = 256;
+
     private final String defaultName = ValidatorService.determineValidatorName(getClass());
 
     public String getName() {
@@ -69,6 +79,105 @@ public abstract class AbstractValidator implements Validator {
                                    .shapeId(shape.getId()).sourceLocation(loc.getSourceLocation()));
     }
 
+    protected final ValidationEvent error(Shape shape, Supplier<String> message) {
+        return createEvent(Severity.ERROR, shape, shape.getSourceLocation(), message);
+    }
+
+    protected final ValidationEvent error(Shape shape, FromSourceLocation location, Supplier<String> message) {
+        return createEvent(Severity.ERROR, shape, location, message);
+    }
+
+    protected final ValidationEvent danger(Shape shape, Supplier<String> message) {
+        return createEvent(Severity.DANGER, shape, shape.getSourceLocation(), message);
+    }
+
+    protected final ValidationEvent danger(Shape shape, FromSourceLocation location, Supplier<String> message) {
+        return createEvent(Severity.DANGER, shape, location, message);
+    }
+
+    protected final ValidationEvent warning(Shape shape, Supplier<String> message) {
+        return createEvent(Severity.WARNING, shape, shape.getSourceLocation(), message);
+    }
+
+    protected final ValidationEvent warning(Shape shape, FromSourceLocation location, Supplier<String> message) {
+        return createEvent(Severity.WARNING, shape, location, message);
+    }
+
+    protected final ValidationEvent note(Shape shape, Supplier<String> message) {
+        return createEvent(Severity.NOTE, shape, shape.getSourceLocation(), message);
+    }
+
+    protected final ValidationEvent note(Shape shape, FromSourceLocation location, Supplier<String> message) {
+        return createEvent(Severity.NOTE, shape, location, message);
+    }
+
+    /**
+     * Creates an event with a message that is only formatted when it's needed.
+     *
+     * <p>Use this for messages that are expensive to format, like messages
+     * that render paths or lists of shapes, so that events that are
+     * suppressed or never rendered don't pay to format them.
+     *
+     * @param severity Severity of the event.
+     * @param shape Shape the event is for.
+     * @param loc Location of the event.
+     * @param msg Supplier of the event message.
+     * @return Returns the created event.
+     */
+    protected final ValidationEvent createEvent(
+            Severity severity,
+            Shape shape,
+            FromSourceLocation loc,
+            Supplier<String> msg
+    ) {
+        return createEvent(ValidationEvent.builder().severity(severity).message(msg)
+                                   .shapeId(shape.getId()).sourceLocation(loc.getSourceLocation()));
+    }
+
+    /**
+     * Validates each of the given shapes, splitting the shapes into chunks
+     * that are validated in parallel.
+     *
+     * <p>Each chunk of shapes emits events into its own list, and the lists
+     * are merged in order. The returned events are therefore the same, and
+     * in the same order, as validating each shape sequentially in the
+     * iteration order of {@code shapes}. The given function is called
+     * concurrently and must be thread-safe.
+     *
+     * @param shapes Shapes to validate.
+     * @param validator Function that validates a shape and adds events to the given list.
+     * @param <S> Type of shape to validate.
+     * @return Returns the validation events.
+     */
+    protected final <S extends Shape> List<ValidationEvent> validateShapes(
+            Collection<S> shapes,
+            BiConsumer<S, List<ValidationEvent>> validator
+    ) {
+        List<S> shapeList = new ArrayList<>(shapes);
+        int chunks = (shapeList.size() + SHAPE_CHUNK_SIZE - 1) / SHAPE_CHUNK_SIZE;
+
+        if (chunks <= 1) {
+            List<ValidationEvent> events = new ArrayList<>();
+            for (S shape : shapeList) {
+                validator.accept(shape, events);
+            }
+            return events;
+        }
+
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    List<ValidationEvent> events = new ArrayList<>();
+                    int end = Math.min(shapeList.size(), (chunk + 1) * SHAPE_CHUNK_SIZE);
+                    for (int i = chunk * SHAPE_CHUNK_SIZE; i < end; i++) {
+                        validator.accept(shapeList.get(i), events);
+                    }
+                    return events;
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
     private ValidationEvent createEvent(ValidationEvent.Builder builder) {
         return builder.id(getName()).build();
     }
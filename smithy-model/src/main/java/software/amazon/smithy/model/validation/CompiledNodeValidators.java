@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.knowledge.NullableIndex;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.node.NodeValidatorPlugin;
+import software.amazon.smithy.model.validation.node.TimestampValidationStrategy;
+
+/**
+ * Caches the compiled validation logic of each shape of a model so that
+ * the values of a shape can be validated without re-resolving member
+ * targets, nullability, or the plugins that apply to the shape.
+ *
+ * <p>This index is thread-safe and shared by every
+ * {@link NodeValidationVisitor} created for the same model.
+ */
+final class CompiledNodeValidators implements KnowledgeIndex {
+
+    private static final List<NodeValidatorPlugin> BUILTIN = NodeValidatorPlugin.getBuiltins();
+    private static final TimestampValidationStrategy[] TIMESTAMP_STRATEGIES = TimestampValidationStrategy.values();
+
+    private final Model model;
+    private final Map<ShapeId, CompiledShape> shapes = new ConcurrentHashMap<>();
+
+    private CompiledNodeValidators(Model model) {
+        this.model = model;
+    }
+
+    static CompiledNodeValidators of(Model model) {
+        return model.getKnowledge(CompiledNodeValidators.class, CompiledNodeValidators::new);
+    }
+
+    /**
+     * Gets the compiled validation logic of a shape.
+     *
+     * <p>Only shapes contained in the model are cached.
+     *
+     * @param shape Shape to get.
+     * @return Returns the compiled shape.
+     */
+    CompiledShape get(Shape shape) {
+        CompiledShape result = shapes.get(shape.getId());
+        if (result != null && result.shape == shape) {
+            return result;
+        }
+
+        result = new CompiledShape(shape, model);
+        if (model.getShape(shape.getId()).orElse(null) == shape) {
+            shapes.put(shape.getId(), result);
+        }
+        return result;
+    }
+
+    /**
+     * The validation logic of a shape that doesn't depend on the value being validated.
+     */
+    static final class CompiledShape {
+        private final Shape shape;
+        private final List<NodeValidatorPlugin> plugins;
+        private final NodeValidatorPlugin[] timestampPlugins;
+        private final Shape target;
+        private final boolean nullableMember;
+
+        private CompiledShape(Shape shape, Model model) {
+            this.shape = shape;
+            this.plugins = compilePlugins(shape, model);
+            this.timestampPlugins = new NodeValidatorPlugin[TIMESTAMP_STRATEGIES.length];
+            for (TimestampValidationStrategy strategy : TIMESTAMP_STRATEGIES) {
+                timestampPlugins[strategy.ordinal()] = strategy.compile(shape, model);
+            }
+
+            MemberShape member = shape.asMemberShape().orElse(null);
+            if (member == null) {
+                target = null;
+                nullableMember = true;
+            } else {
+                target = model.getShape(member.getTarget()).orElse(null);
+                nullableMember = NullableIndex.of(model).isMemberNullable(member);
+            }
+        }
+
+        private static List<NodeValidatorPlugin> compilePlugins(Shape shape, Model model) {
+            List<NodeValidatorPlugin> result = null;
+            for (NodeValidatorPlugin plugin : BUILTIN) {
+                NodeValidatorPlugin compiled = plugin.compile(shape, model);
+                if (compiled != null) {
+                    if (result == null) {
+                        result = new ArrayList<>(2);
+                    }
+                    result.add(compiled);
+                }
+            }
+            return result == null ? Collections.emptyList() : result;
+        }
+
+        /**
+         * @return Gets the plugins that apply to values of the shape.
+         */
+        List<NodeValidatorPlugin> getPlugins() {
+            return plugins;
+        }
+
+        /**
+         * Gets the timestamp validation plugin that applies to values of the shape.
+         *
+         * @param strategy Timestamp validation strategy being used.
+         * @return Returns the plugin, or null if the strategy doesn't apply to the shape.
+         */
+        NodeValidatorPlugin getTimestampPlugin(TimestampValidationStrategy strategy) {
+            return timestampPlugins[strategy.ordinal()];
+        }
+
+        /**
+         * @return Gets the resolved target of a member, or null if not a member or the target is missing.
+         */
+        Shape getTarget() {
+            return target;
+        }
+
+        /**
+         * @return Returns true if the shape is not a member or is a nullable member.
+         */
+        boolean isNullable() {
+            return nullableMember;
+        }
+    }
+}
@@ -23,7 +23,6 @@ import java.util.Objects;
 import java.util.Set;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
-import software.amazon.smithy.model.knowledge.NullableIndex;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.NodeType;
 import software.amazon.smithy.model.node.StringNode;
@@ -70,8 +69,6 @@ import software.amazon.smithy.utils.SmithyInternalApi;
  */
 public final class NodeValidationVisitor implements ShapeVisitor<List<ValidationEvent>> {
 
-    private static final List<NodeValidatorPlugin> BUILTIN = NodeValidatorPlugin.getBuiltins();
-
     private final Model model;
     private final TimestampValidationStrategy timestampValidationStrategy;
     private final boolean allowOptionalNull;
@@ -79,22 +76,34 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
     private Node value;
     private ShapeId eventShapeId;
     private String startingContext;
-    private NodeValidatorPlugin.Context validationContext;
-    private final NullableIndex nullableIndex;
+    private final NodeValidatorPlugin.Context validationContext;
+    private final CompiledNodeValidators compiledShapes;
 
     private NodeValidationVisitor(Builder builder) {
         this.model = SmithyBuilder.requiredState("model", builder.model);
-        this.nullableIndex = NullableIndex.of(model);
+        this.compiledShapes = CompiledNodeValidators.of(model);
         this.validationContext = new NodeValidatorPlugin.Context(model, builder.features.copy());
         this.timestampValidationStrategy = builder.timestampValidationStrategy;
         this.allowOptionalNull = builder.allowOptionalNull;
         setValue(SmithyBuilder.requiredState("value", builder.value));
         setStartingContext(builder.contextText);
-        setValue(builder.value);
         setEventShapeId(builder.eventShapeId);
         setEventId(builder.eventId);
     }
 
+    private NodeValidationVisitor(NodeValidationVisitor parent, String segment, Node value) {
+        this.model = parent.model;
+        this.compiledShapes = parent.compiledShapes;
+        // Use the same validation context.
+        this.validationContext = parent.validationContext;
+        this.timestampValidationStrategy = parent.timestampValidationStrategy;
+        this.allowOptionalNull = parent.allowOptionalNull;
+        this.eventId = parent.eventId;
+        this.eventShapeId = parent.eventShapeId;
+        this.startingContext = parent.startingContext.isEmpty() ? segment : (parent.startingContext + "." + segment);
+        setValue(value);
+    }
+
     /**
      * Features to use when validating.
      */
@@ -151,18 +160,7 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
     }
 
     private NodeValidationVisitor traverse(String segment, Node node) {
-        Builder builder = builder();
-        builder.eventShapeId(eventShapeId);
-        builder.eventId(eventId);
-        builder.value(node);
-        builder.model(model);
-        builder.startingContext(startingContext.isEmpty() ? segment : (startingContext + "." + segment));
-        builder.timestampValidationStrategy(timestampValidationStrategy);
-        builder.allowOptionalNull(allowOptionalNull);
-        NodeValidationVisitor visitor = new NodeValidationVisitor(builder);
-        // Use the same validation context.
-        visitor.validationContext = this.validationContext;
-        return visitor;
+        return new NodeValidationVisitor(this, segment, node);
     }
 
     @Override
@@ -354,10 +352,12 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
 
     @Override
     public List<ValidationEvent> memberShape(MemberShape shape) {
-        List<ValidationEvent> events = applyPlugins(shape);
-        events.addAll(model.getShape(shape.getTarget())
-                              .map(member -> member.accept(this))
-                              .orElse(ListUtils.of()));
+        CompiledNodeValidators.CompiledShape compiled = compiledShapes.get(shape);
+        List<ValidationEvent> events = applyPlugins(shape, compiled);
+        Shape target = compiled.getTarget();
+        if (target != null) {
+            events.addAll(target.accept(this));
+        }
         return events;
     }
 
@@ -380,7 +380,7 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
         // Nullable shapes allow null values.
         if (allowOptionalNull && value.isNullNode()) {
             // Non-members are nullable. Members are nullable based on context.
-            if (!shape.isMemberShape() || shape.asMemberShape().filter(nullableIndex::isMemberNullable).isPresent()) {
+            if (!shape.isMemberShape() || compiledShapes.get(shape).isNullable()) {
                 return Collections.emptyList();
             }
         }
@@ -421,15 +421,25 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
     }
 
     private List<ValidationEvent> applyPlugins(Shape shape) {
+        return applyPlugins(shape, compiledShapes.get(shape));
+    }
+
+    private List<ValidationEvent> applyPlugins(Shape shape, CompiledNodeValidators.CompiledShape compiled) {
         List<ValidationEvent> events = new ArrayList<>();
-        timestampValidationStrategy.apply(shape, value, validationContext, (location, severity, message) -> {
-            events.add(event(message, severity, location.getSourceLocation()));
-        });
+        NodeValidatorPlugin timestampPlugin = compiled.getTimestampPlugin(timestampValidationStrategy);
+        List<NodeValidatorPlugin> plugins = compiled.getPlugins();
 
-        for (NodeValidatorPlugin plugin : BUILTIN) {
-            plugin.apply(shape, value, validationContext, (location, severity, message) -> {
+        // Only the plugins that can emit events for the shape were compiled.
+        if (timestampPlugin != null || !plugins.isEmpty()) {
+            NodeValidatorPlugin.Emitter emitter = (location, severity, message) -> {
                 events.add(event(message, severity, location.getSourceLocation()));
-            });
+            };
+            if (timestampPlugin != null) {
+                timestampPlugin.apply(shape, value, validationContext, emitter);
+            }
+            for (NodeValidatorPlugin plugin : plugins) {
+                plugin.apply(shape, value, validationContext, emitter);
+            }
         }
 
         return events;
@@ -20,6 +20,7 @@ import static software.amazon.smithy.model.validation.Validator.MODEL_ERROR;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
@@ -38,15 +39,21 @@ import software.amazon.smithy.utils.ToSmithyBuilder;
  * <p>Validation events are collection while assembling and validating a model.
  * Events with a severity less than ERROR can be suppressed. All events contain
  * a message, severity, and eventId.
+ *
+ * <p>The message of an event can be provided using a {@link Supplier} so that
+ * formatting it is deferred until the message is needed. Events that are
+ * suppressed, dropped, or only counted never need to format their message.
  */
 public final class ValidationEvent implements Comparable<ValidationEvent>, ToNode, ToSmithyBuilder<ValidationEvent> {
     private static final ValidationEventFormatter DEFAULT_FORMATTER = new LineValidationEventFormatter();
     private final SourceLocation sourceLocation;
-    private final String message;
     private final String eventId;
     private final Severity severity;
     private final ShapeId shapeId;
     private final String suppressionReason;
+    // The supplier is released once the message is formatted so that captured state can be collected.
+    private volatile String message;
+    private volatile Supplier<String> messageSupplier;
     private int hash;
 
     private ValidationEvent(Builder builder) {
@@ -55,7 +62,12 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
         }
 
         this.sourceLocation = SmithyBuilder.requiredState("sourceLocation", builder.sourceLocation);
-        this.message = SmithyBuilder.requiredState("message", builder.message);
+        if (builder.message == null && builder.messageSupplier == null) {
+            throw new IllegalStateException("message was not set on the builder");
+        }
+
+        this.message = builder.message;
+        this.messageSupplier = builder.messageSupplier;
         this.severity = SmithyBuilder.requiredState("severity", builder.severity);
         this.eventId = SmithyBuilder.requiredState("id", builder.eventId);
         this.shapeId = builder.shapeId;
@@ -135,7 +147,14 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
     public Builder toBuilder() {
         Builder builder = new Builder();
         builder.sourceLocation = sourceLocation;
-        builder.message = message;
+        // Read the supplier first: if it was released, the formatted message is visible.
+        Supplier<String> supplier = messageSupplier;
+        String current = message;
+        if (current != null) {
+            builder.message = current;
+        } else {
+            builder.messageSupplier = supplier;
+        }
         builder.severity = severity;
         builder.eventId = eventId;
         builder.shapeId = shapeId;
@@ -153,7 +172,7 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
 
         ValidationEvent other = (ValidationEvent) o;
         return sourceLocation.equals(other.sourceLocation)
-                && message.equals(other.message)
+                && getMessage().equals(other.getMessage())
                 && severity.equals(other.severity)
                 && eventId.equals(other.eventId)
                 && getShapeId().equals(other.getShapeId())
@@ -164,7 +183,7 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
     public int hashCode() {
         int result = hash;
         if (result == 0) {
-            result = Objects.hash(eventId, shapeId, severity, sourceLocation, message, suppressionReason);
+            result = Objects.hash(eventId, shapeId, severity, sourceLocation, getMessage(), suppressionReason);
             hash = result;
         }
         return result;
@@ -219,7 +238,19 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
      * @return The human-readable event message.
      */
     public String getMessage() {
-        return message;
+        String result = message;
+        if (result == null) {
+            // Formatting is idempotent, so a racy computation only costs duplicate work.
+            Supplier<String> supplier = messageSupplier;
+            if (supplier == null) {
+                // Another thread formatted the message and released the supplier.
+                return message;
+            }
+            result = Objects.requireNonNull(supplier.get(), "message supplier returned null");
+            message = result;
+            messageSupplier = null;
+        }
+        return result;
     }
 
     /**
@@ -300,6 +331,7 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
 
         private SourceLocation sourceLocation = SourceLocation.none();
         private String message;
+        private Supplier<String> messageSupplier;
         private Severity severity;
         private String eventId;
         private ShapeId shapeId;
@@ -315,6 +347,24 @@ public final class ValidationEvent implements Comparable<ValidationEvent>, ToNod
          */
         public Builder message(String eventMessage) {
             message = Objects.requireNonNull(eventMessage);
+            messageSupplier = null;
+            return this;
+        }
+
+        /**
+         * Sets the required message of the event using a supplier that is
+         * only invoked when the message is first needed.
+         *
+         * <p>The supplier must return the same message each time it's
+         * invoked and must not depend on state that changes after the
+         * event is created.
+         *
+         * @param eventMessage Supplier of the message to set.
+         * @return Returns the builder.
+         */
+        public Builder message(Supplier<String> eventMessage) {
+            messageSupplier = Objects.requireNonNull(eventMessage);
+            message = null;
             return this;
         }
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts validation events by severity and event ID, and limits how many
+ * events are retained.
+ *
+ * <p>Validating a model with noisy linters can produce more events than
+ * can be held in memory. A summary keeps aggregate counts of every event
+ * while only retaining a limited number of NOTE, WARNING, and SUPPRESSED
+ * events. ERROR and DANGER events are always retained so that a
+ * {@link ValidatedResult} built from the retained events is still broken
+ * when the model is broken. Events are typically streamed to a listener,
+ * like {@link software.amazon.smithy.model.loader.ModelAssembler#validationEventListener},
+ * while the summary is used to report totals.
+ *
+ * <pre>{@code
+ * ValidationEventSummary summary = new ValidationEventSummary(100);
+ * ValidatedResult<Model> result = Model.assembler()
+ *         .addImport(path)
+ *         .validationEventListener(printer)
+ *         .validationEventSummary(summary)
+ *         .assemble();
+ * long warnings = summary.getCount(Severity.WARNING);
+ * }</pre>
+ *
+ * <p>A summary is never reset, so a summary that is used to validate
+ * several models accumulates the counts of every model.
+ *
+ * <p>This class is thread-safe. When events are added concurrently, which
+ * events are retained once the limit is reached is not deterministic.
+ */
+public final class ValidationEventSummary {
+
+    private final int maxRetainedEvents;
+    private final AtomicInteger retainedEvents = new AtomicInteger();
+    private final LongAdder[] severityCounts = new LongAdder[Severity.values().length];
+    private final Map<String, LongAdder> idCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a summary that retains every event.
+     */
+    public ValidationEventSummary() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a summary that retains a limited number of events that don't
+     * cause validation to fail.
+     *
+     * @param maxRetainedEvents Maximum number of NOTE, WARNING, and SUPPRESSED events to retain.
+     */
+    public ValidationEventSummary(int maxRetainedEvents) {
+        if (maxRetainedEvents < 0) {
+            throw new IllegalArgumentException("maxRetainedEvents must be greater than or equal to 0");
+        }
+
+        this.maxRetainedEvents = maxRetainedEvents;
+        for (int i = 0; i < severityCounts.length; i++) {
+            severityCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts an event and determines if it should be retained.
+     *
+     * @param event Event to add.
+     * @return Returns true if the event should be retained.
+     */
+    public boolean add(ValidationEvent event) {
+        Severity severity = event.getSeverity();
+        severityCounts[severity.ordinal()].increment();
+        idCounts.computeIfAbsent(event.getId(), id -> new LongAdder()).increment();
+
+        if (severity == Severity.ERROR || severity == Severity.DANGER) {
+            return true;
+        }
+
+        // Avoid incrementing past the limit so the counter can't overflow.
+        int retained;
+        do {
+            retained = retainedEvents.get();
+            if (retained >= maxRetainedEvents) {
+                return false;
+            }
+        } while (!retainedEvents.compareAndSet(retained, retained + 1));
+
+        return true;
+    }
+
+    /**
+     * Gets the number of events of a specific severity.
+     *
+     * @param severity Severity of events to count.
+     * @return Returns the number of events.
+     */
+    public long getCount(Severity severity) {
+        return severityCounts[severity.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of events added to the summary.
+     *
+     * @return Returns the total number of events.
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (LongAdder count : severityCounts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of events of each event ID, sorted by event ID.
+     *
+     * @return Returns the number of events by event ID.
+     */
+    public Map<String, Long> getCountsById() {
+        Map<String, Long> result = new TreeMap<>();
+        idCounts.forEach((id, count) -> result.put(id, count.sum()));
+        return result;
+    }
+
+    /**
+     * Gets the number of events that were not retained.
+     *
+     * @return Returns the number of dropped events.
+     */
+    public long getDroppedCount() {
+        return getCount(Severity.NOTE) + getCount(Severity.WARNING) + getCount(Severity.SUPPRESSED)
+               - retainedEvents.get();
+    }
+}
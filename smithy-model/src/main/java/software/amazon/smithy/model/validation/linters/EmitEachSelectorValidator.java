@@ -146,7 +146,7 @@ public final class EmitEachSelectorValidator extends AbstractValidator {
             return Optional.empty();
         }
 
-        return Optional.of(danger(shape, location, "Selector capture matched selector: " + config.getSelector()));
+        return Optional.of(danger(shape, location, () -> "Selector capture matched selector: " + config.getSelector()));
     }
 
     // Determine where to bind the event. Only emit an event when `bindToTrait` is
@@ -176,8 +176,10 @@ public final class EmitEachSelectorValidator extends AbstractValidator {
 
         // Create an AttributeValue from the matched shape and context vars.
         // This is then used to expand message template scoped attributes.
+        // Matches capture their own copy of the variables, so expanding the
+        // template can be deferred until the message is needed.
         AttributeValue value = AttributeValue.shape(match.getShape(), match);
-        return Optional.of(danger(match.getShape(), location, config.messageTemplate.expand(value)));
+        return Optional.of(danger(match.getShape(), location, () -> config.messageTemplate.expand(value)));
     }
 
     /**
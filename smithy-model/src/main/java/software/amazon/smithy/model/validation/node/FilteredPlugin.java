@@ -15,6 +15,7 @@
 
 package software.amazon.smithy.model.validation.node;
 
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.Shape;
 
@@ -35,5 +36,10 @@ abstract class FilteredPlugin<S extends Shape, N extends Node> implements NodeVa
         }
     }
 
+    @Override
+    public NodeValidatorPlugin compile(Shape shape, Model model) {
+        return shapeClass.isInstance(shape) ? this : null;
+    }
+
     abstract void check(S shape, N node, Context context, Emitter emitter);
 }
@@ -43,6 +43,11 @@ abstract class MemberAndShapeTraitPlugin<S extends Shape, N extends Node, T exte
         }
     }
 
+    @Override
+    public final NodeValidatorPlugin compile(Shape shape, Model model) {
+        return shape.hasTrait(traitClass) && isMatchingShape(shape, model) ? this : null;
+    }
+
     private boolean isMatchingShape(Shape shape, Model model) {
         // Is the shape the expected shape type?
         if (targetShapeClass.isInstance(shape)) {
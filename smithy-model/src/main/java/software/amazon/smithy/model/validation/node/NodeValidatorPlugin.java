@@ -16,9 +16,7 @@
 package software.amazon.smithy.model.validation.node;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.Model;
@@ -48,6 +46,22 @@ public interface NodeValidatorPlugin {
      */
     void apply(Shape shape, Node value, Context context, Emitter emitter);
 
+    /**
+     * Creates a plugin that validates values of a specific shape.
+     *
+     * <p>Node validators compile the plugins that apply to a shape once and
+     * reuse the result for every value validated against the shape. Plugins
+     * can return a plugin specialized for the shape, or null when the plugin
+     * never emits events for values of the shape.
+     *
+     * @param shape Shape that values will be validated against.
+     * @param model Model that contains the shape.
+     * @return Returns the plugin to apply to values of the shape, or null if the plugin doesn't apply.
+     */
+    default NodeValidatorPlugin compile(Shape shape, Model model) {
+        return this;
+    }
+
     /**
      * @return Gets the built-in Node validation plugins.
      */
@@ -71,16 +85,7 @@ public interface NodeValidatorPlugin {
     final class Context {
         private final Model model;
         private final Set<NodeValidationVisitor.Feature> features;
-
-        // Use an LRU cache to ensure the Selector cache doesn't grow too large
-        // when given bad inputs.
-        private final Map<Selector, Set<Shape>> selectorResults = new LinkedHashMap<Selector, Set<Shape>>(
-                50 + 1, .75F, true) {
-            @Override
-            public boolean removeEldestEntry(Map.Entry<Selector, Set<Shape>> eldest) {
-                return size() > 50;
-            }
-        };
+        private final SelectorResults selectorResults;
 
         /**
          * @param model Model being evaluated.
@@ -92,6 +97,7 @@ public interface NodeValidatorPlugin {
         public Context(Model model, Set<NodeValidationVisitor.Feature> features) {
             this.model = model;
             this.features = features;
+            this.selectorResults = model.getKnowledge(SelectorResults.class, m -> new SelectorResults());
         }
 
         /**
@@ -106,15 +112,15 @@ public interface NodeValidatorPlugin {
         /**
          * Select and memoize shapes from the model using a Selector.
          *
-         * <p>The cache used by this method is not thread-safe, though that's
-         * fine because NodeValidatorPlugins using the same Context all run
-         * within the same thread.
+         * <p>Results are shared by every Context created for the same model,
+         * allowing values to be validated in parallel without re-evaluating
+         * selectors.
          *
          * @param selector Selector to evaluate.
          * @return Returns the matching shapes.
          */
         public Set<Shape> select(Selector selector) {
-            return selectorResults.computeIfAbsent(selector, s -> s.select(model));
+            return selectorResults.select(selector, model);
         }
 
         public boolean hasFeature(NodeValidationVisitor.Feature feature) {
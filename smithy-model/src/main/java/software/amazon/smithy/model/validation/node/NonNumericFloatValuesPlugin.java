@@ -16,6 +16,7 @@
 package software.amazon.smithy.model.validation.node;
 
 import java.util.Set;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.Node.NonNumericFloat;
 import software.amazon.smithy.model.shapes.Shape;
@@ -39,4 +40,9 @@ final class NonNumericFloatValuesPlugin implements NodeValidatorPlugin  {
             ));
         }
     }
+
+    @Override
+    public NodeValidatorPlugin compile(Shape shape, Model model) {
+        return shape.isFloatShape() || shape.isDoubleShape() ? this : null;
+    }
 }
@@ -16,6 +16,7 @@
 package software.amazon.smithy.model.validation.node;
 
 import java.math.BigDecimal;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.Node.NonNumericFloat;
 import software.amazon.smithy.model.node.NumberNode;
@@ -43,6 +44,11 @@ class RangeTraitPlugin implements NodeValidatorPlugin {
         }
     }
 
+    @Override
+    public final NodeValidatorPlugin compile(Shape shape, Model model) {
+        return shape.hasTrait(RangeTrait.class) ? this : null;
+    }
+
     private void checkNonNumeric(Shape shape, RangeTrait trait, StringNode node, Emitter emitter) {
         NonNumericFloat.fromStringRepresentation(node.getValue()).ifPresent(value -> {
             if (value.equals(NonNumericFloat.NAN)) {
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation.node;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * Thread-safe cache of selector results shared by each
+ * {@link NodeValidatorPlugin.Context} of a model.
+ */
+final class SelectorResults implements KnowledgeIndex {
+    // Bound the cache to ensure it doesn't grow too large when given bad inputs.
+    private static final int MAX_SIZE = 50;
+    private final Map<Selector, Set<Shape>> results = new ConcurrentHashMap<>();
+
+    Set<Shape> select(Selector selector, Model model) {
+        Set<Shape> result = results.get(selector);
+        if (result == null) {
+            result = selector.select(model);
+            if (results.size() >= MAX_SIZE) {
+                results.clear();
+            }
+            results.put(selector, result);
+        }
+        return result;
+    }
+}
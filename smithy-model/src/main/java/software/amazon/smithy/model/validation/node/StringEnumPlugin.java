@@ -15,8 +15,12 @@
 
 package software.amazon.smithy.model.validation.node;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.StringShape;
 import software.amazon.smithy.model.traits.EnumTrait;
 import software.amazon.smithy.model.validation.ValidationUtils;
@@ -35,10 +39,31 @@ final class StringEnumPlugin extends FilteredPlugin<StringShape, StringNode> {
         shape.getTrait(EnumTrait.class).ifPresent(trait -> {
             List<String> values = trait.getEnumDefinitionValues();
             if (!values.contains(node.getValue())) {
-                emitter.accept(node, String.format(
-                        "String value provided for `%s` must be one of the following values: %s",
-                        shape.getId(), ValidationUtils.tickedList(values)));
+                emitter.accept(node, createMessage(shape, values));
             }
         });
     }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public NodeValidatorPlugin compile(Shape shape, Model model) {
+        EnumTrait trait = shape.isStringShape() ? shape.getTrait(EnumTrait.class).orElse(null) : null;
+        if (trait == null) {
+            return null;
+        }
+
+        // Hash the enum values once rather than scanning them for every value.
+        List<String> values = trait.getEnumDefinitionValues();
+        Set<String> valueSet = new HashSet<>(values);
+        return (s, value, context, emitter) -> {
+            if (value.isStringNode() && !valueSet.contains(value.expectStringNode().getValue())) {
+                emitter.accept(value, createMessage(s, values));
+            }
+        };
+    }
+
+    private static String createMessage(Shape shape, List<String> values) {
+        return String.format("String value provided for `%s` must be one of the following values: %s",
+                             shape.getId(), ValidationUtils.tickedList(values));
+    }
 }
@@ -18,6 +18,7 @@ package software.amazon.smithy.model.validation.node;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.logging.Logger;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -47,6 +48,17 @@ final class TimestampFormatPlugin implements NodeValidatorPlugin {
         }
     }
 
+    @Override
+    public NodeValidatorPlugin compile(Shape shape, Model model) {
+        if (shape instanceof TimestampShape) {
+            return this;
+        } else if (shape instanceof MemberShape && shape.hasTrait(TimestampFormatTrait.class)) {
+            return this;
+        } else {
+            return null;
+        }
+    }
+
     private void validate(Shape shape, TimestampFormatTrait trait, Node value, Emitter emitter) {
         if (trait == null) {
             defaultValidation(shape, value, emitter);
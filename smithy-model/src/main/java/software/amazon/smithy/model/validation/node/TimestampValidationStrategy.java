@@ -34,7 +34,12 @@ public enum TimestampValidationStrategy implements NodeValidatorPlugin {
     FORMAT {
         @Override
         public void apply(Shape shape, Node value, Context context, Emitter emitter) {
-            new TimestampFormatPlugin().apply(shape, value, context, emitter);
+            FORMAT_PLUGIN.apply(shape, value, context, emitter);
+        }
+
+        @Override
+        public NodeValidatorPlugin compile(Shape shape, Model model) {
+            return FORMAT_PLUGIN.compile(shape, model);
         }
     },
 
@@ -51,8 +56,15 @@ public enum TimestampValidationStrategy implements NodeValidatorPlugin {
                                       + "seconds with optional millisecond precision");
             }
         }
+
+        @Override
+        public NodeValidatorPlugin compile(Shape shape, Model model) {
+            return isTimestampMember(model, shape) ? this : null;
+        }
     };
 
+    private static final TimestampFormatPlugin FORMAT_PLUGIN = new TimestampFormatPlugin();
+
     private static boolean isTimestampMember(Model model, Shape shape) {
         return shape.asMemberShape()
                 .map(MemberShape::getTarget)
@@ -15,7 +15,6 @@
 
 package software.amazon.smithy.model.validation.validators;
 
-import java.util.ArrayList;
 import java.util.List;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
@@ -37,59 +36,52 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 public final class DefaultTraitValidator extends AbstractValidator {
     @Override
     public List<ValidationEvent> validate(Model model) {
-        List<ValidationEvent> events = new ArrayList<>();
-        NodeValidationVisitor visitor = null;
         NeighborProvider reverse = NeighborProviderIndex.of(model).getReverseProvider();
 
-        for (Shape shape : model.getShapesWithTrait(DefaultTrait.class)) {
-            // Validates both root level constraints and member constraints against the default value.
-            DefaultTrait trait = shape.expectTrait(DefaultTrait.class);
-            visitor = validateShapeValue(model, shape, trait, visitor, events);
-            Node value = trait.toNode();
+        return validateShapes(model.getShapesWithTrait(DefaultTrait.class),
+                              (shape, events) -> validateShape(model, reverse, shape, events));
+    }
 
-            if (shape.isMemberShape()) {
-                continue;
-            }
+    private void validateShape(Model model, NeighborProvider reverse, Shape shape, List<ValidationEvent> events) {
+        // Validates both root level constraints and member constraints against the default value.
+        DefaultTrait trait = shape.expectTrait(DefaultTrait.class);
+        validateShapeValue(model, shape, trait, events);
+        Node value = trait.toNode();
+
+        if (shape.isMemberShape()) {
+            return;
+        }
 
-            // Validate that members that target this shape redefine the default value on the member too.
-            for (Relationship rel : reverse.getNeighbors(shape)) {
-                if (rel.getRelationshipType() == RelationshipType.MEMBER_TARGET) {
-                    MemberShape member = rel.getShape().asMemberShape().orElseThrow(() -> {
-                        return new ExpectationNotMetException("Expected shape to be a member", rel.getShape());
-                    });
-                    if (model.expectShape(member.getContainer()).getType() == ShapeType.STRUCTURE) {
-                        DefaultTrait memberDefault = member.getTrait(DefaultTrait.class).orElse(null);
-                        if (memberDefault == null) {
-                            events.add(error(member, String.format(
-                                    "Member targets %s, which requires that the member defines the same default "
-                                    + "of `%s` or `null`",
-                                    shape.toShapeId(), Node.printJson(value))));
-                        } else if (!memberDefault.toNode().isNullNode()
-                                   && !value.equals(member.expectTrait(DefaultTrait.class).toNode())) {
-                            // The member trait is not set to null nor does it match the target defualt.
-                            events.add(error(member, String.format(
-                                    "Member defines a default value that differs from the default value of the "
-                                    + "target shape, %s. The member has a default of `%s`, but the target has a "
-                                    + "default of `%s`.",
-                                    shape.toShapeId(),
-                                    member.expectTrait(DefaultTrait.class).toNode(),
-                                    Node.printJson(value))));
-                        }
+        // Validate that members that target this shape redefine the default value on the member too.
+        for (Relationship rel : reverse.getNeighbors(shape)) {
+            if (rel.getRelationshipType() == RelationshipType.MEMBER_TARGET) {
+                MemberShape member = rel.getShape().asMemberShape().orElseThrow(() -> {
+                    return new ExpectationNotMetException("Expected shape to be a member", rel.getShape());
+                });
+                if (model.expectShape(member.getContainer()).getType() == ShapeType.STRUCTURE) {
+                    DefaultTrait memberDefault = member.getTrait(DefaultTrait.class).orElse(null);
+                    if (memberDefault == null) {
+                        events.add(error(member, String.format(
+                                "Member targets %s, which requires that the member defines the same default "
+                                + "of `%s` or `null`",
+                                shape.toShapeId(), Node.printJson(value))));
+                    } else if (!memberDefault.toNode().isNullNode()
+                               && !value.equals(member.expectTrait(DefaultTrait.class).toNode())) {
+                        // The member trait is not set to null nor does it match the target defualt.
+                        events.add(error(member, String.format(
+                                "Member defines a default value that differs from the default value of the "
+                                + "target shape, %s. The member has a default of `%s`, but the target has a "
+                                + "default of `%s`.",
+                                shape.toShapeId(),
+                                member.expectTrait(DefaultTrait.class).toNode(),
+                                Node.printJson(value))));
                     }
                 }
             }
         }
-
-        return events;
     }
 
-    private NodeValidationVisitor validateShapeValue(
-            Model model,
-            Shape shape,
-            DefaultTrait trait,
-            NodeValidationVisitor visitor,
-            List<ValidationEvent> events
-    ) {
+    private void validateShapeValue(Model model, Shape shape, DefaultTrait trait, List<ValidationEvent> events) {
         Node value = trait.toNode();
         Shape shapeTarget = shape;
 
@@ -98,15 +90,14 @@ public final class DefaultTraitValidator extends AbstractValidator {
             // Any member can set the default to null, overriding the default of the target shape
             // causing the member to be considered nullable.
             if (value.isNullNode()) {
-                return visitor;
+                return;
             }
         } else if (value.isNullNode()) {
             events.add(error(shape, trait, "The @default trait can be set to null only on members"));
-            return visitor;
+            return;
         }
 
-        visitor = createOrReuseVisitor(model, visitor, value, shape);
-        events.addAll(shape.accept(visitor));
+        events.addAll(shape.accept(createVisitor(model, value, shape)));
 
         switch (shapeTarget.getType()) {
             case MAP:
@@ -141,32 +132,19 @@ public final class DefaultTraitValidator extends AbstractValidator {
             default:
                 break;
         }
-
-        return visitor;
     }
 
-    private NodeValidationVisitor createOrReuseVisitor(
-            Model model,
-            NodeValidationVisitor visitor,
-            Node value,
-            Shape shape
-    ) {
-        if (visitor == null) {
-            return NodeValidationVisitor
-                    .builder()
-                    .model(model)
-                    .eventId(getName())
-                    .value(value)
-                    .startingContext("Error validating @default trait")
-                    .eventShapeId(shape.getId())
-                    // Use WARNING for range trait errors so that a Smithy model 1.0 to 2.0 conversion can automatically
-                    // suppress any errors to losslessly handle the conversion.
-                    .addFeature(NodeValidationVisitor.Feature.RANGE_TRAIT_ZERO_VALUE_WARNING)
-                    .build();
-        } else {
-            visitor.setValue(value);
-            visitor.setEventShapeId(shape.getId());
-            return visitor;
-        }
+    private NodeValidationVisitor createVisitor(Model model, Node value, Shape shape) {
+        return NodeValidationVisitor
+                .builder()
+                .model(model)
+                .eventId(getName())
+                .value(value)
+                .startingContext("Error validating @default trait")
+                .eventShapeId(shape.getId())
+                // Use WARNING for range trait errors so that a Smithy model 1.0 to 2.0 conversion can automatically
+                // suppress any errors to losslessly handle the conversion.
+                .addFeature(NodeValidationVisitor.Feature.RANGE_TRAIT_ZERO_VALUE_WARNING)
+                .build();
     }
 }
@@ -34,12 +34,9 @@ public final class ExamplesTraitValidator extends AbstractValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
-        List<ValidationEvent> events = new ArrayList<>();
-        for (OperationShape operation : model.getOperationShapesWithTrait(ExamplesTrait.class)) {
+        return validateShapes(model.getOperationShapesWithTrait(ExamplesTrait.class), (operation, events) -> {
             events.addAll(validateExamples(model, operation, operation.expectTrait(ExamplesTrait.class)));
-        }
-
-        return events;
+        });
     }
 
     private List<ValidationEvent> validateExamples(Model model, OperationShape shape, ExamplesTrait trait) {
@@ -113,10 +113,9 @@ public final class HttpUriConflictValidator extends AbstractValidator {
 
         // Allowable conflicts get turned into DANGERs, which must at least be acknowledged with a suppression.
         if (!allowableConflicts.isEmpty()) {
-            String message = formatConflicts(pattern, allowableConflicts)
+            events.add(danger(operation, () -> formatConflicts(pattern, allowableConflicts)
                     + ". Pattern traits applied to the label members prevent the label value from evaluating to a "
-                    + "conflict, but this is still a poor design. If this is acceptable, this can be suppressed.";
-            events.add(danger(operation, message));
+                    + "conflict, but this is still a poor design. If this is acceptable, this can be suppressed."));
         }
 
         return events;
@@ -17,7 +17,6 @@ package software.amazon.smithy.model.validation.validators;
 
 import static java.lang.String.format;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -67,12 +66,10 @@ public final class TargetValidator extends AbstractValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
-        List<ValidationEvent> events = new ArrayList<>();
         NeighborProvider neighborProvider = NeighborProviderIndex.of(model).getProvider();
-        for (Shape shape : model.toSet()) {
+        return validateShapes(model.toSet(), (shape, events) -> {
             validateShape(model, shape, neighborProvider.getNeighbors(shape), events);
-        }
-        return events;
+        });
     }
 
     private void validateShape(
@@ -16,11 +16,12 @@
 package software.amazon.smithy.model.validation.validators;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.selector.Selector;
 import software.amazon.smithy.model.shapes.Shape;
@@ -50,7 +51,7 @@ public final class TraitTargetValidator extends AbstractValidator {
 
         // Group shapes to validate by duplicate selectors to ensure that the
         // selector is only performed once.
-        Map<Selector, List<ShapeId>> selectorsToTraits = new HashMap<>();
+        Map<Selector, List<ShapeId>> selectorsToTraits = new LinkedHashMap<>();
 
         // Only validate trait targets for traits that are actually used.
         for (ShapeId traitId : model.getAppliedTraits()) {
@@ -69,9 +70,11 @@ public final class TraitTargetValidator extends AbstractValidator {
             });
         }
 
-        for (Map.Entry<Selector, List<ShapeId>> entry : selectorsToTraits.entrySet()) {
-            validateTraitTargets(model, events, entry.getKey(), entry.getValue());
-        }
+        // Selectors are evaluated in parallel, and their events are added in order.
+        new ArrayList<>(selectorsToTraits.entrySet()).parallelStream()
+                .map(entry -> validateTraitTargets(model, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList())
+                .forEach(events::addAll);
 
         return events;
     }
@@ -87,12 +90,8 @@ public final class TraitTargetValidator extends AbstractValidator {
         }
     }
 
-    private void validateTraitTargets(
-            Model model,
-            List<ValidationEvent> events,
-            Selector selector,
-            List<ShapeId> traits
-    ) {
+    private List<ValidationEvent> validateTraitTargets(Model model, Selector selector, List<ShapeId> traits) {
+        List<ValidationEvent> events = new ArrayList<>();
         Set<Shape> matches = selector.select(model);
 
         for (ShapeId traitId : traits) {
@@ -111,5 +110,7 @@ public final class TraitTargetValidator extends AbstractValidator {
                 }
             }
         }
+
+        return events;
     }
 }
@@ -0,0 +1,80 @@
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+public class IdlLexerTest {
+    @Test
+    public void internsRepeatedLexemes() {
+        IdlLexer lexer = new IdlLexer("Foo Bar Foo");
+        String first = lexer.intern(0, 3);
+        lexer.intern(4, 7);
+        String second = lexer.intern(8, 11);
+
+        assertThat(first, equalTo("Foo"));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void internsManyLexemes() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            source.append(String.format("a%04d", i));
+        }
+        IdlLexer lexer = new IdlLexer(source.toString());
+        String[] values = new String[1000];
+        for (int i = 0; i < 1000; i++) {
+            values[i] = lexer.intern(i * 5, i * 5 + 5);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(lexer.intern(i * 5, i * 5 + 5), sameInstance(values[i]));
+        }
+    }
+
+    @Test
+    public void scansShapeIds() {
+        IdlLexer lexer = new IdlLexer("smithy.api#String$foo ");
+
+        assertThat(lexer.scanShapeId(0, true), equalTo(21));
+        assertThat(lexer.scanShapeId(0, false), equalTo(17));
+        assertThat(lexer.scanNamespace(0), equalTo(10));
+        assertThat(new IdlLexer("foo.#Bar").scanShapeId(0, true), equalTo(-1));
+        assertThat(new IdlLexer("__1").scanIdentifier(0), equalTo(3));
+        assertThat(new IdlLexer("__").scanIdentifier(0), equalTo(-1));
+    }
+
+    @Test
+    public void scansNumbers() {
+        assertThat(new IdlLexer("-10.5e+3}").scanNumber(0), equalTo(8));
+        assertThat(new IdlLexer("1.").scanNumber(0), equalTo(-1));
+        assertThat(new IdlLexer("1e").scanNumber(0), equalTo(-1));
+        assertThat(new IdlLexer("-a").scanNumber(0), equalTo(-1));
+    }
+
+    @Test
+    public void scansQuotedText() {
+        IdlLexer lexer = new IdlLexer("\"a\\\"b\" \"\"\"x\"y\"\"\"");
+
+        assertThat(lexer.scanQuotedText(1, false), equalTo(5));
+        assertThat(lexer.simpleQuotedText(1, 5), nullValue());
+        assertThat(lexer.scanQuotedText(10, true), equalTo(13));
+        assertThat(new IdlLexer("\"abc").scanQuotedText(1, false), equalTo(-1));
+        assertThat(new IdlLexer("\"abc\"").simpleQuotedText(1, 4), equalTo("abc"));
+        assertThat(new IdlLexer("\"a\rc\"").simpleQuotedText(1, 4), nullValue());
+    }
+
+    @Test
+    public void tracksLinesAndColumnsWhenSkippingWhitespace() {
+        IdlModelParser parser = new IdlModelParser("/foo", " ,\r\n\t\r\n  \n  x");
+        parser.ws();
+
+        assertThat(parser.peek(), equalTo('x'));
+        assertThat(parser.line(), equalTo(4));
+        assertThat(parser.column(), equalTo(3));
+    }
+}
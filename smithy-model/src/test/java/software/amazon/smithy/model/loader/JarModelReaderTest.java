@@ -0,0 +1,88 @@
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
+
+public class JarModelReaderTest {
+    @Test
+    public void streamsModelsFromLocalJars() {
+        URL jar = getClass().getResource("jar-import.jar");
+        List<URL> models = ModelDiscovery.findModels(ModelDiscovery.createSmithyJarManifestUrl(jar.toString()));
+
+        try (JarModelReader reader = new JarModelReader()) {
+            for (URL model : models) {
+                Supplier<InputStream> supplier = reader.supplier(model.toExternalForm(), () -> {
+                    throw new AssertionError("Expected the model to be read from the JAR");
+                });
+
+                assertThat(IoUtils.toUtf8String(supplier.get()), equalTo(IoUtils.readUtf8Url(model)));
+            }
+        }
+    }
+
+    @Test
+    public void readsManifestAndModelsFromTheSameOpenJar() throws Exception {
+        Path jar = Files.createTempFile(getClass().getSimpleName(), ".jar");
+        Files.copy(Paths.get(getClass().getResource("jar-import.jar").toURI()), jar,
+                   StandardCopyOption.REPLACE_EXISTING);
+
+        try (JarModelReader reader = new JarModelReader()) {
+            List<URL> models = ModelDiscovery.findModels(
+                    ModelDiscovery.createSmithyJarManifestUrl(jar.toUri().toString()), reader);
+            List<Supplier<InputStream>> suppliers = new ArrayList<>();
+            for (URL model : models) {
+                suppliers.add(reader.supplier(model.toExternalForm(), () -> {
+                    throw new AssertionError("Expected the model to be read from the open JAR");
+                }));
+            }
+
+            // The JAR opened to read the manifest is still open, so its models can be read after it's deleted.
+            try {
+                Files.delete(jar);
+            } catch (IOException e) {
+                Assumptions.assumeTrue(false, "Open files can't be deleted on this platform");
+            }
+
+            assertThat(suppliers.isEmpty(), equalTo(false));
+            for (Supplier<InputStream> supplier : suppliers) {
+                assertThat(IoUtils.toUtf8String(supplier.get()).isEmpty(), equalTo(false));
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Test
+    public void fallsBackForModelsThatAreNotInLocalJars() {
+        Supplier<InputStream> fallback = () -> new ByteArrayInputStream("hi".getBytes(StandardCharsets.UTF_8));
+        String manifest = getClass().getResource("manifest-valid").toExternalForm();
+
+        try (JarModelReader reader = new JarModelReader()) {
+            assertThat(reader.supplier(manifest, fallback), sameInstance(fallback));
+            // The JAR doesn't exist, so it can't be read directly.
+            Supplier<InputStream> missing = reader.supplier("jar:file:/does/not/exist.jar!/a.smithy", () -> {
+                throw new ModelImportException("fallback");
+            });
+
+            Assertions.assertThrows(ModelImportException.class, missing::get);
+        }
+    }
+}
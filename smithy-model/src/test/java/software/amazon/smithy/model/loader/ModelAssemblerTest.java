@@ -35,6 +35,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,6 +54,7 @@ import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -82,6 +84,7 @@ import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidatedResultException;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidationEventSummary;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.utils.IoUtils;
@@ -1160,4 +1163,86 @@ public class ModelAssemblerTest {
         assertThat(fooBam.getAllTraits(), hasKey(BoxTrait.ID));
         assertThat(fooBam.expectTrait(DefaultTrait.class).toNode(), equalTo(Node.nullNode()));
     }
+
+    @Test
+    public void loadsLargeModelFiles() throws IOException {
+        StringBuilder idl = new StringBuilder("$version: \"2.0\"\nnamespace smithy.example\n");
+        ObjectNode.Builder shapes = Node.objectNodeBuilder();
+        for (int i = 0; i < 20000; i++) {
+            idl.append("/// Documentation for the \u00e9 shape ").append(i).append('\n');
+            idl.append("string Idl").append(i).append('\n');
+            shapes.withMember("smithy.example#Json" + i, Node.objectNode()
+                    .withMember("type", "string")
+                    .withMember("traits", Node.objectNode()
+                            .withMember("smithy.api#documentation", "Documentation for the \u00e9 shape " + i)));
+        }
+        String json = Node.prettyPrintJson(Node.objectNode()
+                .withMember("smithy", "2.0")
+                .withMember("shapes", shapes.build()));
+        Path idlFile = outputDirectory.resolve("large.smithy");
+        Path jsonFile = outputDirectory.resolve("large.json");
+        Files.write(idlFile, idl.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(jsonFile, json.getBytes(StandardCharsets.UTF_8));
+        Model model = new ModelAssembler().addImport(idlFile).addImport(jsonFile).assemble().unwrap();
+
+        Shape idlShape = model.expectShape(ShapeId.from("smithy.example#Idl19999"));
+        Shape jsonShape = model.expectShape(ShapeId.from("smithy.example#Json19999"));
+        assertThat(idlShape.expectTrait(DocumentationTrait.class).getValue(),
+                   equalTo("Documentation for the \u00e9 shape 19999"));
+        assertThat(idlShape.getSourceLocation().getLine(), equalTo(40002));
+        assertThat(jsonShape.expectTrait(DocumentationTrait.class).getValue(),
+                   equalTo("Documentation for the \u00e9 shape 19999"));
+        assertThat(jsonShape.getSourceLocation().getFilename(), equalTo(jsonFile.toAbsolutePath().toString()));
+    }
+
+    @Test
+    public void summarizesValidationEvents() {
+        ValidationEventSummary summary = new ValidationEventSummary(10);
+        List<ValidationEvent> streamed = Collections.synchronizedList(new ArrayList<>());
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addUnparsedModel("foo.smithy", "$version: \"2.0\"\nnamespace smithy.example\nstring Foo\n")
+                .addValidator(model -> {
+                    List<ValidationEvent> events = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        events.add(ValidationEvent.builder()
+                                .id(i % 2 == 0 ? "Even" : "Odd")
+                                .severity(Severity.WARNING)
+                                .message("Hi")
+                                .build());
+                    }
+                    events.add(ValidationEvent.builder().id("Bad").severity(Severity.DANGER).message("Hi").build());
+                    return events;
+                })
+                .validationEventListener(streamed::add)
+                .validationEventSummary(summary)
+                .assemble();
+
+        assertThat(result.getValidationEvents(Severity.WARNING), hasSize(10));
+        assertThat(result.getValidationEvents(Severity.DANGER), hasSize(1));
+        assertThat(streamed.stream().filter(e -> e.getSeverity() == Severity.WARNING).count(), equalTo(100L));
+        assertThat(summary.getCount(Severity.WARNING), equalTo(100L));
+        assertThat(summary.getCount(Severity.DANGER), equalTo(1L));
+        assertThat(summary.getCountsById().get("Even"), equalTo(50L));
+        assertThat(summary.getCountsById().get("Odd"), equalTo(50L));
+        assertThat(summary.getDroppedCount(), equalTo(90L));
+        assertTrue(result.isBroken());
+    }
+
+    @Test
+    public void countsLoadingEventsOnceWhenValidationFails() {
+        ValidationEventSummary summary = new ValidationEventSummary(10);
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addUnparsedModel("foo.smithy", "$version: \"2.0\"\nnamespace smithy.example\n@unknown\nstring Foo\n")
+                .putProperty(ModelAssembler.ALLOW_UNKNOWN_TRAITS, true)
+                .addValidator(model -> {
+                    throw new SourceException("Oops", SourceLocation.NONE);
+                })
+                .validationEventSummary(summary)
+                .assemble();
+
+        assertThat(result.getValidationEvents(), hasSize(2));
+        assertThat(summary.getTotalCount(), equalTo(2L));
+        assertThat(summary.getCount(Severity.WARNING), equalTo(1L));
+        assertThat(summary.getCount(Severity.ERROR), equalTo(1L));
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.traits.SuppressTrait;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.suppressions.Suppression;
+
+public class SuppressionIndexTest {
+    @Test
+    public void findsTheSameSuppressionAsTestingInOrder() {
+        String[][] rules = {
+                {"Foo.Bar", "smithy.example"},
+                {"Foo", "*"},
+                {"Foo.Bar.Baz", "*"},
+                {"Foo.Bar", "*"},
+                {"Baz", "smithy.other"},
+                {"Foo", "smithy.example"},
+                {"", "*"},
+                {"Qux.", "smithy.example"}
+        };
+
+        SuppressionIndex index = new SuppressionIndex(Model.builder().build());
+        List<Suppression> suppressions = new ArrayList<>();
+        Suppression custom = new Suppression() {
+            @Override
+            public boolean test(ValidationEvent event) {
+                return event.getId().startsWith("Custom");
+            }
+
+            @Override
+            public Optional<String> getReason() {
+                return Optional.of("custom");
+            }
+        };
+        index.addSuppression(custom);
+        suppressions.add(custom);
+        for (int i = 0; i < rules.length; i++) {
+            // Each suppression has a unique reason to identify which one matched.
+            ObjectNode node = Node.objectNode()
+                    .withMember("id", rules[i][0])
+                    .withMember("namespace", rules[i][1])
+                    .withMember("reason", "rule " + i);
+            index.addMetadataSuppression(node);
+            suppressions.add(Suppression.fromMetadata(node));
+        }
+
+        String[] eventIds = {"Foo", "Foo.Bar", "Foo.Bar.Baz", "Foo.Barn", "Baz", "Baz.Qux", "Qux.", "Qux..a",
+                             "Custom", "Custom.Foo", ".Foo", "Other"};
+        String[] shapeIds = {null, "smithy.example#A", "smithy.other#B", "smithy.another#C"};
+
+        for (String eventId : eventIds) {
+            for (String shapeId : shapeIds) {
+                ValidationEvent event = ValidationEvent.builder()
+                        .id(eventId)
+                        .severity(Severity.WARNING)
+                        .message("Hi")
+                        .shapeId(shapeId == null ? null : ShapeId.from(shapeId))
+                        .build();
+                Optional<String> expected = suppressions.stream()
+                        .filter(suppression -> suppression.test(event))
+                        .findFirst()
+                        .flatMap(Suppression::getReason);
+                Optional<String> actual = Optional.ofNullable(index.findMatchingSuppression(event))
+                        .flatMap(Suppression::getReason);
+
+                assertThat(eventId + " " + shapeId, actual, equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void checksTraitSuppressionsFirst() {
+        StringShape shape = StringShape.builder()
+                .id("smithy.example#A")
+                .addTrait(SuppressTrait.builder().values(Collections.singletonList("Foo")).build())
+                .build();
+        Model model = Model.builder().addShape(shape).build();
+        SuppressionIndex index = new SuppressionIndex(model);
+        index.addMetadataSuppression(Node.objectNode().withMember("id", "Foo").withMember("namespace", "*"));
+        ValidationEvent event = ValidationEvent.builder()
+                .id("Foo")
+                .severity(Severity.WARNING)
+                .message("Hi")
+                .shape(shape)
+                .build();
+
+        assertThat(index.findMatchingSuppression(event).getReason(), equalTo(Optional.empty()));
+        assertThat(index.getMetadataSuppressionHits().get("`Foo` in namespace `*`"), equalTo(0));
+    }
+
+    @Test
+    public void countsSuppressionHits() {
+        SuppressionIndex index = new SuppressionIndex(Model.builder().build());
+        index.addMetadataSuppression(Node.objectNode().withMember("id", "Foo").withMember("namespace", "*"));
+        index.addMetadataSuppression(Node.objectNode().withMember("id", "Bar").withMember("namespace", "*"));
+        ValidationEvent event = ValidationEvent.builder()
+                .id("Foo.Baz")
+                .severity(Severity.WARNING)
+                .message("Hi")
+                .build();
+        index.findMatchingSuppression(event);
+        index.findMatchingSuppression(event);
+        Map<String, Integer> hits = index.getMetadataSuppressionHits();
+
+        assertThat(hits.get("`Foo` in namespace `*`"), equalTo(2));
+        assertThat(hits.get("`Bar` in namespace `*`"), equalTo(0));
+    }
+}
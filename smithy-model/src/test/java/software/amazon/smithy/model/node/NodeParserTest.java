@@ -20,7 +20,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -205,6 +208,23 @@ public class NodeParserTest {
         assertThat(Node.printJson(result), equalTo("{\"foo\":true}"));
     }
 
+    @Test
+    public void parsesLargeInputStreams() {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < 10000; i++) {
+            json.append("  \"").append(String.join("", Collections.nCopies(i % 300, "a"))).append("\u00e9\",\n");
+        }
+        json.append("  true\n]");
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        ArrayNode result = Node.parse(new ByteArrayInputStream(bytes), "foo.json").expectArrayNode();
+
+        assertThat(result.size(), equalTo(10001));
+        assertThat(result.get(299).get().expectStringNode().getValue(),
+                   equalTo(String.join("", Collections.nCopies(299, "a")) + "\u00e9"));
+        assertThat(result.get(10000).get().getSourceLocation().getLine(), equalTo(10002));
+        assertThat(result.get(10000).get().getSourceLocation().getColumn(), equalTo(3));
+    }
+
     @Test
     public void requiresNonEmptyString() {
         Assertions.assertThrows(ModelSyntaxException.class, () -> Node.parse(""));
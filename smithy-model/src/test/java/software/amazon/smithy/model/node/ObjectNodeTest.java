@@ -500,6 +500,58 @@ public class ObjectNodeTest {
         assertThat(result.get("mapper"), Matchers.instanceOf(Mapper.class));
     }
 
+    @Test
+    public void findsMembersOfLargeObjects() {
+        ObjectNode.Builder builder = Node.objectNodeBuilder();
+        for (int i = 0; i < 50; i++) {
+            builder.withMember("m" + i, i);
+        }
+        ObjectNode node = builder.build();
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(node.expectNumberMember("m" + i).getValue(), equalTo(i));
+            assertThat(node.getMembers().get(Node.from("m" + i)), equalTo(Node.from(i)));
+        }
+        assertFalse(node.containsMember("m50"));
+        assertThat(node.getStringMap().get("missing"), nullValue());
+        assertThat(node.getStringMap().keySet().iterator().next(), equalTo("m0"));
+
+        ObjectNode removed = node.withoutMember("m10");
+        assertThat(removed.size(), equalTo(49));
+        assertFalse(removed.containsMember("m10"));
+        assertTrue(removed.containsMember("m11"));
+        assertThat(removed.withMember("m10", 10), equalTo(node));
+        assertThat(removed.withMember("m10", 10).hashCode(), equalTo(node.hashCode()));
+    }
+
+    @Test
+    public void replacingMemberKeepsItsPosition() {
+        ObjectNode node = Node.objectNode().withMember("a", 1).withMember("b", 2).withMember("a", 3);
+
+        assertThat(node.getStringMap().keySet(), contains("a", "b"));
+        assertThat(node.expectNumberMember("a").getValue(), equalTo(3));
+    }
+
+    @Test
+    public void memberViewsAreReadOnly() {
+        ObjectNode node = Node.objectNode().withMember("a", 1);
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> node.getStringMap().put("b", Node.from(2)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> node.getMembers().clear());
+    }
+
+    @Test
+    public void equalityIgnoresMemberOrderLikeMaps() {
+        ObjectNode a = Node.objectNode().withMember("a", 1).withMember("b", 2);
+        ObjectNode b = Node.objectNode().withMember("b", 2).withMember("a", 1);
+        Map<StringNode, Node> map = new HashMap<>(a.getMembers());
+
+        assertThat(a, equalTo(b));
+        assertThat(a.hashCode(), equalTo(b.hashCode()));
+        assertThat(a.getMembers(), equalTo(map));
+        assertThat(map, equalTo(b.getMembers()));
+    }
+
     private static final class Mapper {
         String a;
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+
+public class AbstractValidatorTest {
+    @Test
+    public void validatesShapesInOrder() {
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            shapes.add(StringShape.builder().id("smithy.example#Shape" + i).build());
+        }
+
+        AbstractValidator validator = new AbstractValidator() {
+            @Override
+            public List<ValidationEvent> validate(Model model) {
+                return validateShapes(shapes, (shape, events) -> {
+                    events.add(note(shape, "a"));
+                    events.add(note(shape, "b"));
+                });
+            }
+        };
+
+        List<ValidationEvent> events = validator.validate(Model.builder().build());
+        List<String> expected = new ArrayList<>();
+        for (Shape shape : shapes) {
+            expected.add(shape.getId() + "a");
+            expected.add(shape.getId() + "b");
+        }
+
+        assertThat(events.stream()
+                           .map(event -> event.getShapeId().map(ShapeId::toString).orElse("") + event.getMessage())
+                           .collect(Collectors.toList()),
+                   equalTo(expected));
+    }
+}
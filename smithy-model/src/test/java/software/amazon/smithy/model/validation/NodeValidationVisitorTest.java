@@ -18,7 +18,11 @@ package software.amazon.smithy.model.validation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -32,7 +36,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
 import software.amazon.smithy.model.validation.node.TimestampValidationStrategy;
 
 public class NodeValidationVisitorTest {
@@ -329,4 +335,21 @@ public class NodeValidationVisitorTest {
 
         assertThat(events, empty());
     }
+
+    @Test
+    public void compilesOnlyApplicablePluginsAndCachesModelShapes() {
+        CompiledNodeValidators compiled = CompiledNodeValidators.of(MODEL);
+        Shape enumString = MODEL.expectShape(ShapeId.from("ns.foo#String3"));
+        Shape plainString = MODEL.expectShape(ShapeId.from("ns.foo#String"));
+        Shape timestamp = MODEL.expectShape(ShapeId.from("ns.foo#Timestamp"));
+        Shape detached = StringShape.builder().id("ns.foo#String").build();
+
+        assertThat(compiled.get(enumString), sameInstance(compiled.get(enumString)));
+        assertThat(compiled.get(enumString).getPlugins(), hasSize(1));
+        assertThat(compiled.get(plainString).getPlugins(), empty());
+        assertThat(compiled.get(timestamp).getTimestampPlugin(TimestampValidationStrategy.FORMAT), notNullValue());
+        assertThat(compiled.get(plainString).getTimestampPlugin(TimestampValidationStrategy.FORMAT), nullValue());
+        assertThat(compiled.get(detached), not(sameInstance(compiled.get(detached))));
+        assertThat(compiled.get(plainString), sameInstance(compiled.get(plainString)));
+    }
 }
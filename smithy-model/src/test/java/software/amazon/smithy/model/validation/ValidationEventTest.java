@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -343,6 +344,44 @@ public class ValidationEventTest {
         assertThat(eventId + " contains? " + match + " " + testId, event.containsId(testId), is(match));
     }
 
+    @Test
+    public void defersMessageFormatting() {
+        AtomicInteger calls = new AtomicInteger();
+        ValidationEvent event = ValidationEvent.builder()
+                .severity(Severity.WARNING)
+                .id("foo")
+                .message(() -> "The message " + calls.incrementAndGet())
+                .build();
+        ValidationEvent suppressed = event.toBuilder()
+                .severity(Severity.SUPPRESSED)
+                .suppressionReason("reason")
+                .build();
+
+        assertThat(calls.get(), equalTo(0));
+        assertThat(event.getMessage(), equalTo("The message 1"));
+        assertThat(event.getMessage(), equalTo("The message 1"));
+        assertThat(event.toNode().expectObjectNode().expectStringMember("message").getValue(),
+                   equalTo("The message 1"));
+        assertThat(calls.get(), equalTo(1));
+        assertThat(suppressed.getMessage(), equalTo("The message 2"));
+        assertThat(event.toBuilder().build().getMessage(), equalTo("The message 1"));
+        assertThat(calls.get(), equalTo(2));
+    }
+
+    @Test
+    public void deferredMessagesAreEqualToEagerMessages() {
+        ValidationEvent.Builder builder = ValidationEvent.builder()
+                .severity(Severity.WARNING)
+                .id("foo")
+                .message("The message");
+        ValidationEvent eager = builder.build();
+        ValidationEvent deferred = builder.message(() -> "The message").build();
+
+        assertThat(deferred, equalTo(eager));
+        assertThat(deferred.hashCode(), equalTo(eager.hashCode()));
+        assertThat(builder.message("Other").build().getMessage(), equalTo("Other"));
+    }
+
     public static Stream<Arguments> containsIdSupplier() {
         return Stream.of(
                 Arguments.of(true, "BadThing", "BadThing"),
@@ -58,6 +58,17 @@ public final class CoverageChecker {
         this.checkerCore.evaluateRuleSet(ruleSet, input);
     }
 
+    /**
+     * Evaluates the rule-set with the given inputs to determine rule coverage,
+     * and returns the result of the evaluation.
+     *
+     * @param input the map parameters and inputs to test coverage.
+     * @return the result of evaluating the rule-set.
+     */
+    public Value evaluate(Map<Identifier, Value> input) {
+        return this.checkerCore.evaluateRuleSet(ruleSet, input);
+    }
+
     /**
      * Evaluate the rule-set using the given test case to determine rule coverage.
      *
@@ -69,6 +80,24 @@ public final class CoverageChecker {
         this.checkerCore.evaluateRuleSet(ruleSet, map);
     }
 
+    /**
+     * Merges the coverage recorded by another checker of the same rule-set into this checker.
+     *
+     * <p>Checkers aren't thread-safe, so evaluating inputs concurrently requires a checker per
+     * thread that are then merged together.
+     *
+     * @param other the checker to merge into this checker.
+     * @throws IllegalArgumentException if the other checker is for a different rule-set.
+     */
+    public void merge(CoverageChecker other) {
+        if (other.ruleSet != ruleSet && !other.ruleSet.equals(ruleSet)) {
+            throw new IllegalArgumentException("Cannot merge the coverage of a different rule-set");
+        }
+        other.checkerCore.conditionResults.forEach((condition, results) -> {
+            checkerCore.conditionResults.computeIfAbsent(condition, c -> new ArrayList<>()).addAll(results);
+        });
+    }
+
     /**
      * Analyze and provides the coverage results for the rule-set.
      *
@@ -0,0 +1,531 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import software.amazon.smithy.rulesengine.language.Endpoint;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.eval.RuleEvaluator;
+import software.amazon.smithy.rulesengine.language.eval.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Expression;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Literal;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Reference;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Template;
+import software.amazon.smithy.rulesengine.language.syntax.fn.FunctionDefinition;
+import software.amazon.smithy.rulesengine.language.syntax.fn.GetAttr;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Condition;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Rule;
+import software.amazon.smithy.rulesengine.language.visit.ExpressionVisitor;
+import software.amazon.smithy.rulesengine.language.visit.RuleValueVisitor;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * A reduced ordered decision diagram compiled from a rule-set.
+ *
+ * <p>Conditions are first canonicalized: the name a condition assigns its result to is ignored,
+ * and references to assigned names are replaced with the condition that produced them. Each distinct
+ * canonical condition becomes a variable of the diagram, ordered by where it first appears in the
+ * rule-set. Every rule that produces an endpoint or an error, and every place where no rule could
+ * match, becomes a terminal. Resolving parameters against the diagram tests each distinct condition
+ * at most once, no matter how many branches of the rule-set repeat it.
+ *
+ * <p>The counts exposed by the diagram can be used to track how the complexity of a rule-set changes.
+ */
+@SmithyUnstableApi
+public final class DecisionDiagram {
+    private static final int FALSE = 0;
+    private static final int TRUE = 1;
+
+    private final EndpointRuleSet ruleSet;
+    private final List<Variable> variables;
+    private final List<Terminal> terminals;
+    private final int root;
+    private final int[] nodeVariables;
+    private final int[] highs;
+    private final int[] lows;
+    private final int conditionOccurrences;
+
+    private DecisionDiagram(EndpointRuleSet ruleSet, Builder builder, int root) {
+        this.ruleSet = ruleSet;
+        this.variables = builder.variables;
+        this.terminals = builder.terminals;
+        this.conditionOccurrences = builder.conditionOccurrences;
+
+        // Only keep the nodes that are reachable from the root.
+        Map<Integer, Integer> renumbered = new HashMap<>();
+        List<Integer> order = new ArrayList<>();
+        collect(builder, root, renumbered, order);
+        nodeVariables = new int[order.size()];
+        highs = new int[order.size()];
+        lows = new int[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            int node = order.get(i);
+            nodeVariables[i] = builder.nodeVariables.get(node);
+            highs[i] = reference(builder, builder.highs.get(node), renumbered);
+            lows[i] = reference(builder, builder.lows.get(node), renumbered);
+        }
+        this.root = reference(builder, root, renumbered);
+    }
+
+    /**
+     * Compiles a rule-set into a decision diagram.
+     *
+     * @param ruleSet The rule-set to compile.
+     * @return Returns the created decision diagram.
+     */
+    public static DecisionDiagram compile(EndpointRuleSet ruleSet) {
+        Builder builder = new Builder();
+        int root = builder.compileRules(ruleSet.getRules(), null, Collections.emptyMap());
+        return new DecisionDiagram(ruleSet, builder, root);
+    }
+
+    /**
+     * Gets the number of decision nodes in the diagram.
+     *
+     * @return Returns the number of nodes, excluding terminals.
+     */
+    public int getNodeCount() {
+        return nodeVariables.length;
+    }
+
+    /**
+     * Gets the number of distinct conditions after canonicalization.
+     *
+     * @return Returns the number of distinct conditions.
+     */
+    public int getConditionCount() {
+        return variables.size();
+    }
+
+    /**
+     * Gets the number of conditions in the rule-set, including duplicates.
+     *
+     * @return Returns the total number of conditions.
+     */
+    public int getConditionOccurrenceCount() {
+        return conditionOccurrences;
+    }
+
+    /**
+     * Gets the number of terminal results of the diagram.
+     *
+     * <p>This is the number of endpoint and error rules plus the number of places where no
+     * rule could match.
+     *
+     * @return Returns the number of terminals.
+     */
+    public int getResultCount() {
+        return terminals.size();
+    }
+
+    /**
+     * Gets the distinct conditions of the diagram in the order they're tested.
+     *
+     * <p>Each condition is the first occurrence of its canonical form in the rule-set.
+     *
+     * @return Returns the distinct conditions.
+     */
+    public List<Condition> getConditions() {
+        return variables.stream().map(variable -> variable.condition).collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves the given parameters using the decision diagram.
+     *
+     * <p>This produces the same result as {@link RuleEvaluator#evaluate}.
+     *
+     * @param parameterArguments The rule-set parameter identifiers and values to evaluate the rule-set against.
+     * @return The resulting value from the matched rule.
+     */
+    public Value evaluate(Map<Identifier, Value> parameterArguments) {
+        DiagramEvaluator evaluator = new DiagramEvaluator(ruleSet, parameterArguments, variables.size());
+        int node = root;
+
+        while (node >= 0) {
+            Variable variable = variables.get(nodeVariables[node]);
+            node = evaluator.test(nodeVariables[node], variable) ? highs[node] : lows[node];
+        }
+
+        return evaluator.resolve(terminals.get(-node - 1));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DecisionDiagram{nodes=%d, conditions=%d, conditionOccurrences=%d, results=%d}",
+                getNodeCount(), getConditionCount(), getConditionOccurrenceCount(), getResultCount());
+    }
+
+    private static void collect(Builder builder, int node, Map<Integer, Integer> renumbered, List<Integer> order) {
+        if (builder.isTerminal(node) || renumbered.containsKey(node)) {
+            return;
+        }
+        renumbered.put(node, order.size());
+        order.add(node);
+        collect(builder, builder.highs.get(node), renumbered, order);
+        collect(builder, builder.lows.get(node), renumbered, order);
+    }
+
+    // Decision nodes are referenced by their index, and terminals by the negated index of the terminal minus one.
+    private static int reference(Builder builder, int node, Map<Integer, Integer> renumbered) {
+        return builder.isTerminal(node) ? -builder.nodeVariables.get(node) - 1 : renumbered.get(node);
+    }
+
+    private static final class Variable {
+        private final Condition condition;
+        private final Map<Identifier, Integer> bindings;
+
+        Variable(Condition condition, Map<Identifier, Integer> bindings) {
+            this.condition = condition;
+            this.bindings = bindings;
+        }
+    }
+
+    private static final class Terminal {
+        private final Rule rule;
+        private final Map<Identifier, Integer> bindings;
+
+        Terminal(Rule rule, Map<Identifier, Integer> bindings) {
+            this.rule = rule;
+            this.bindings = bindings;
+        }
+    }
+
+    private static final class Triple {
+        private final int a;
+        private final int b;
+        private final int c;
+
+        Triple(int a, int b, int c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Triple)) {
+                return false;
+            }
+            Triple other = (Triple) o;
+            return a == other.a && b == other.b && c == other.c;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
+        }
+    }
+
+    /**
+     * Builds a multi-terminal decision diagram using if-then-else composition.
+     *
+     * <p>Nodes 0 and 1 are the boolean terminals used while building conditions. A node is a
+     * terminal when its variable is negative, in which case the variable stores the index of
+     * the terminal.
+     */
+    private static final class Builder {
+        private final List<Variable> variables = new ArrayList<>();
+        private final Map<String, Integer> variableIndex = new HashMap<>();
+        private final List<Terminal> terminals = new ArrayList<>();
+        private final List<Integer> nodeVariables = new ArrayList<>();
+        private final List<Integer> highs = new ArrayList<>();
+        private final List<Integer> lows = new ArrayList<>();
+        private final Map<Triple, Integer> uniqueTable = new HashMap<>();
+        private final Map<Triple, Integer> iteCache = new HashMap<>();
+        private int conditionOccurrences;
+
+        Builder() {
+            addNode(-1, -1, -1);
+            addNode(-1, -1, -1);
+        }
+
+        boolean isTerminal(int node) {
+            return highs.get(node) < 0;
+        }
+
+        private int addNode(int variable, int high, int low) {
+            nodeVariables.add(variable);
+            highs.add(high);
+            lows.add(low);
+            return nodeVariables.size() - 1;
+        }
+
+        private int terminal(Rule rule, Map<Identifier, Integer> bindings) {
+            terminals.add(new Terminal(rule, bindings));
+            return addNode(terminals.size() - 1, -1, -1);
+        }
+
+        private int makeNode(int variable, int high, int low) {
+            if (high == low) {
+                return high;
+            }
+            return uniqueTable.computeIfAbsent(new Triple(variable, high, low), k -> addNode(variable, high, low));
+        }
+
+        // Terminals sort after every variable.
+        private int top(int node) {
+            return node <= TRUE || isTerminal(node) ? Integer.MAX_VALUE : nodeVariables.get(node);
+        }
+
+        private int cofactor(int node, int variable, boolean value) {
+            if (top(node) != variable) {
+                return node;
+            }
+            return value ? highs.get(node) : lows.get(node);
+        }
+
+        // If f is true then g, otherwise h. f only ever leads to the boolean terminals.
+        private int ite(int f, int g, int h) {
+            if (f == TRUE) {
+                return g;
+            } else if (f == FALSE || g == h) {
+                return h;
+            }
+
+            Triple key = new Triple(f, g, h);
+            Integer cached = iteCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            int variable = Math.min(top(f), Math.min(top(g), top(h)));
+            int high = ite(cofactor(f, variable, true), cofactor(g, variable, true), cofactor(h, variable, true));
+            int low = ite(cofactor(f, variable, false), cofactor(g, variable, false), cofactor(h, variable, false));
+            int result = makeNode(variable, high, low);
+            iteCache.put(key, result);
+            return result;
+        }
+
+        // The first matching rule wins, and falling off the end of the rules leads to a no-match terminal.
+        int compileRules(List<Rule> rules, Rule tree, Map<Identifier, Integer> bindings) {
+            List<Integer> conjunctions = new ArrayList<>(rules.size());
+            List<Integer> results = new ArrayList<>(rules.size());
+            for (Rule rule : rules) {
+                Map<Identifier, Integer> ruleBindings = new HashMap<>(bindings);
+                int conjunction = TRUE;
+                List<Integer> tests = new ArrayList<>();
+                for (Condition condition : rule.getConditions()) {
+                    conditionOccurrences++;
+                    int variable = variable(condition, ruleBindings);
+                    tests.add(variable);
+                    condition.getResult().ifPresent(name -> ruleBindings.put(name, variable));
+                }
+                for (int i = tests.size() - 1; i >= 0; i--) {
+                    conjunction = ite(makeNode(tests.get(i), TRUE, FALSE), conjunction, FALSE);
+                }
+                conjunctions.add(conjunction);
+                results.add(compileResult(rule, ruleBindings));
+            }
+
+            int result = terminal(tree, bindings);
+            for (int i = rules.size() - 1; i >= 0; i--) {
+                result = ite(conjunctions.get(i), results.get(i), result);
+            }
+            return result;
+        }
+
+        private int compileResult(Rule rule, Map<Identifier, Integer> bindings) {
+            return rule.accept(new RuleValueVisitor<Integer>() {
+                @Override
+                public Integer visitTreeRule(List<Rule> rules) {
+                    return compileRules(rules, rule, bindings);
+                }
+
+                @Override
+                public Integer visitErrorRule(Expression error) {
+                    return terminal(rule, bindings);
+                }
+
+                @Override
+                public Integer visitEndpointRule(Endpoint endpoint) {
+                    return terminal(rule, bindings);
+                }
+            });
+        }
+
+        private int variable(Condition condition, Map<Identifier, Integer> bindings) {
+            String canonical = condition.getFn().accept(new Canonicalizer(bindings));
+            return variableIndex.computeIfAbsent(canonical, c -> {
+                variables.add(new Variable(condition, new HashMap<>(bindings)));
+                return variables.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Renders an expression with references to assigned names replaced by the variable that assigned them.
+     */
+    private static final class Canonicalizer implements ExpressionVisitor<String> {
+        private final Map<Identifier, Integer> bindings;
+
+        Canonicalizer(Map<Identifier, Integer> bindings) {
+            this.bindings = bindings;
+        }
+
+        @Override
+        public String visitLiteral(Literal literal) {
+            return literal.accept(new Literal.Vistor<String>() {
+                @Override
+                public String visitBool(boolean b) {
+                    return String.valueOf(b);
+                }
+
+                @Override
+                public String visitString(Template value) {
+                    StringBuilder result = new StringBuilder("\"");
+                    for (Template.Part part : value.getParts()) {
+                        if (part instanceof Template.Dynamic) {
+                            result.append('{').append(((Template.Dynamic) part).getExpr().accept(Canonicalizer.this))
+                                    .append('}');
+                        } else {
+                            result.append(part.toString().replace("{", "{{").replace("}", "}}"));
+                        }
+                    }
+                    return result.append('"').toString();
+                }
+
+                @Override
+                public String visitRecord(Map<Identifier, Literal> members) {
+                    return members.entrySet().stream()
+                            .map(e -> e.getKey() + ": " + e.getValue().accept(Canonicalizer.this))
+                            .collect(Collectors.joining(", ", "{", "}"));
+                }
+
+                @Override
+                public String visitTuple(List<Literal> members) {
+                    return members.stream()
+                            .map(member -> member.accept(Canonicalizer.this))
+                            .collect(Collectors.joining(", ", "[", "]"));
+                }
+
+                @Override
+                public String visitInteger(int value) {
+                    return String.valueOf(value);
+                }
+            });
+        }
+
+        @Override
+        public String visitRef(Reference reference) {
+            Integer variable = bindings.get(reference.getName());
+            return variable == null ? reference.getName().toString() : "$" + variable;
+        }
+
+        @Override
+        public String visitGetAttr(GetAttr getAttr) {
+            return getAttr.getTarget().accept(this) + "#" + getAttr.getPath().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining("."));
+        }
+
+        @Override
+        public String visitIsSet(Expression fn) {
+            return "isSet(" + fn.accept(this) + ")";
+        }
+
+        @Override
+        public String visitNot(Expression not) {
+            return "not(" + not.accept(this) + ")";
+        }
+
+        @Override
+        public String visitBoolEquals(Expression left, Expression right) {
+            return "booleanEquals(" + left.accept(this) + ", " + right.accept(this) + ")";
+        }
+
+        @Override
+        public String visitStringEquals(Expression left, Expression right) {
+            return "stringEquals(" + left.accept(this) + ", " + right.accept(this) + ")";
+        }
+
+        @Override
+        public String visitLibraryFunction(FunctionDefinition fn, List<Expression> args) {
+            return args.stream()
+                    .map(arg -> arg.accept(this))
+                    .collect(Collectors.joining(", ", fn.getId() + "(", ")"));
+        }
+    }
+
+    /**
+     * Evaluates conditions and results with references resolved through the variables that assigned them.
+     */
+    private static final class DiagramEvaluator extends RuleEvaluator {
+        private final Map<Identifier, Value> parameters = new HashMap<>();
+        private final Value[] values;
+        private Map<Identifier, Integer> bindings = Collections.emptyMap();
+
+        DiagramEvaluator(EndpointRuleSet ruleSet, Map<Identifier, Value> parameterArguments, int variableCount) {
+            ruleSet.getParameters().toList()
+                    .forEach(param -> param.getDefault().ifPresent(value -> parameters.put(param.getName(), value)));
+            parameters.putAll(parameterArguments);
+            values = new Value[variableCount];
+        }
+
+        boolean test(int index, Variable variable) {
+            bindings = variable.bindings;
+            Value value = variable.condition.getFn().accept(this);
+            values[index] = value;
+            return !value.isNone() && !value.equals(Value.bool(false));
+        }
+
+        Value resolve(Terminal terminal) {
+            bindings = terminal.bindings;
+            if (terminal.rule == null) {
+                throw new RuntimeException("No rules in ruleset matched");
+            }
+            return terminal.rule.accept(new RuleValueVisitor<Value>() {
+                @Override
+                public Value visitTreeRule(List<Rule> rules) {
+                    throw new RuntimeException(String.format(
+                            "no rules inside of tree rule matched—invalid rules (%s)", terminal.rule));
+                }
+
+                @Override
+                public Value visitErrorRule(Expression error) {
+                    return error.accept(DiagramEvaluator.this);
+                }
+
+                @Override
+                public Value visitEndpointRule(Endpoint endpoint) {
+                    Value.Endpoint.Builder builder = Value.Endpoint.builder()
+                            .sourceLocation(endpoint)
+                            .url(endpoint.getUrl().accept(DiagramEvaluator.this).expectString());
+                    endpoint.getProperties().forEach((key, value) -> builder.addProperty(key.toString(),
+                            value.accept(DiagramEvaluator.this)));
+                    endpoint.getHeaders().forEach((name, expressions) -> expressions.forEach(expr -> builder
+                            .addHeader(name, expr.accept(DiagramEvaluator.this).expectString())));
+                    return builder.build();
+                }
+            });
+        }
+
+        @Override
+        public Value visitRef(Reference reference) {
+            Integer variable = bindings.get(reference.getName());
+            Value value = variable != null ? values[variable] : parameters.get(reference.getName());
+            return value != null ? value : Value.none();
+        }
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.language.eval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.rulesengine.language.Endpoint;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Expression;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Literal;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Reference;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Template;
+import software.amazon.smithy.rulesengine.language.syntax.fn.FunctionDefinition;
+import software.amazon.smithy.rulesengine.language.syntax.fn.GetAttr;
+import software.amazon.smithy.rulesengine.language.syntax.parameters.Parameter;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Condition;
+import software.amazon.smithy.rulesengine.language.syntax.rule.Rule;
+import software.amazon.smithy.rulesengine.language.visit.ExpressionVisitor;
+import software.amazon.smithy.rulesengine.language.visit.RuleValueVisitor;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * An endpoint rule-set that has been lowered into a flat decision program.
+ *
+ * <p>Compiling a rule-set resolves every parameter and {@code assign} result to a register, lays the
+ * rules out as a sequence of instructions that jump to the next candidate rule when a condition
+ * fails, and deduplicates conditions that only depend on parameters so that they're evaluated at
+ * most once per evaluation. Evaluating a compiled rule-set produces the same result as
+ * {@link RuleEvaluator} without creating scopes or looking up names.
+ *
+ * <p>Compiled rule-sets are immutable and can be evaluated concurrently.
+ */
+@SmithyUnstableApi
+public final class CompiledRuleSet {
+    private static final int CONDITION = 0;
+    private static final int ENDPOINT = 1;
+    private static final int ERROR = 2;
+    private static final int NO_MATCH = 3;
+
+    private static final Value TRUE = Value.bool(true);
+    private static final Value FALSE = Value.bool(false);
+
+    private final Map<Identifier, Integer> nameSlots;
+    private final Value[] defaults;
+    private final int registerCount;
+
+    // Each instruction is an opcode, an operand that indexes into the table for the opcode, and
+    // for conditions, the register to assign the result to and the instruction to jump to on failure.
+    private final int[] opcodes;
+    private final int[] operands;
+    private final int[] assignSlots;
+    private final int[] jumps;
+
+    private final Op[] conditions;
+    private final boolean[] cacheable;
+    private final CompiledEndpoint[] endpoints;
+    private final Op[] errors;
+    private final Rule[] trees;
+
+    private CompiledRuleSet(Compiler compiler) {
+        nameSlots = compiler.nameSlots;
+        defaults = compiler.defaults;
+        registerCount = compiler.registerCount;
+        opcodes = toIntArray(compiler.opcodes);
+        operands = toIntArray(compiler.operands);
+        assignSlots = toIntArray(compiler.assignSlots);
+        jumps = toIntArray(compiler.jumps);
+        conditions = compiler.conditions.toArray(new Op[0]);
+        cacheable = new boolean[conditions.length];
+        for (int i = 0; i < cacheable.length; i++) {
+            cacheable[i] = compiler.cacheable.get(i);
+        }
+        endpoints = compiler.endpoints.toArray(new CompiledEndpoint[0]);
+        errors = compiler.errors.toArray(new Op[0]);
+        trees = compiler.trees.toArray(new Rule[0]);
+    }
+
+    /**
+     * Compiles the given rule-set.
+     *
+     * @param ruleset The endpoint rule-set to compile.
+     * @return Returns the compiled rule-set.
+     */
+    public static CompiledRuleSet compile(EndpointRuleSet ruleset) {
+        Compiler compiler = new Compiler();
+        compiler.compile(ruleset);
+        return new CompiledRuleSet(compiler);
+    }
+
+    /**
+     * Evaluates the compiled rule-set against the provided parameter arguments.
+     *
+     * @param parameterArguments The rule-set parameter identifiers and values to evaluate the rule-set against.
+     * @return The resulting value from the final matched rule.
+     * @see RuleEvaluator#evaluateRuleSet
+     */
+    public Value evaluate(Map<Identifier, Value> parameterArguments) {
+        Value[] registers = new Value[registerCount];
+        System.arraycopy(defaults, 0, registers, 0, defaults.length);
+        for (Map.Entry<Identifier, Value> entry : parameterArguments.entrySet()) {
+            Integer slot = nameSlots.get(entry.getKey());
+            // Arguments that no rule refers to can't affect the result.
+            if (slot != null) {
+                registers[slot] = entry.getValue();
+            }
+        }
+
+        Value[] results = new Value[conditions.length];
+        int pc = 0;
+
+        while (true) {
+            switch (opcodes[pc]) {
+                case CONDITION:
+                    Value value = evaluateCondition(operands[pc], registers, results);
+                    if (value.isNone()) {
+                        pc = jumps[pc];
+                    } else {
+                        if (assignSlots[pc] >= 0) {
+                            registers[assignSlots[pc]] = value;
+                        }
+                        pc = value.equals(FALSE) ? jumps[pc] : pc + 1;
+                    }
+                    break;
+                case ENDPOINT:
+                    return endpoints[operands[pc]].evaluate(registers);
+                case ERROR:
+                    return errors[operands[pc]].evaluate(registers);
+                default:
+                    Rule tree = trees[operands[pc]];
+                    if (tree == null) {
+                        throw new RuntimeException("No rules in ruleset matched");
+                    }
+                    throw new RuntimeException(
+                            String.format("no rules inside of tree rule matched—invalid rules (%s)", tree));
+            }
+        }
+    }
+
+    private Value evaluateCondition(int index, Value[] registers, Value[] results) {
+        if (!cacheable[index]) {
+            return conditions[index].evaluate(registers);
+        }
+        Value result = results[index];
+        if (result == null) {
+            result = conditions[index].evaluate(registers);
+            results[index] = result;
+        }
+        return result;
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Value evaluate(Value[] registers);
+    }
+
+    private static final class CompiledEndpoint {
+        private final Endpoint endpoint;
+        private final Op url;
+        private final String[] propertyNames;
+        private final Op[] properties;
+        private final String[] headerNames;
+        private final Op[] headers;
+
+        private CompiledEndpoint(
+                Endpoint endpoint,
+                Op url,
+                String[] propertyNames,
+                Op[] properties,
+                String[] headerNames,
+                Op[] headers
+        ) {
+            this.endpoint = endpoint;
+            this.url = url;
+            this.propertyNames = propertyNames;
+            this.properties = properties;
+            this.headerNames = headerNames;
+            this.headers = headers;
+        }
+
+        private Value evaluate(Value[] registers) {
+            Value.Endpoint.Builder builder = Value.Endpoint.builder()
+                    .sourceLocation(endpoint)
+                    .url(url.evaluate(registers).expectString());
+            for (int i = 0; i < properties.length; i++) {
+                builder.addProperty(propertyNames[i], properties[i].evaluate(registers));
+            }
+            for (int i = 0; i < headers.length; i++) {
+                builder.addHeader(headerNames[i], headers[i].evaluate(registers).expectString());
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Lowers rules into instructions and expressions into {@link Op}s.
+     *
+     * <p>References are resolved lexically: every {@code assign} gets its own register, and any other
+     * name resolves to the register of the parameter or argument with that name. A condition that
+     * only refers to parameters always produces the same value within an evaluation, so identical
+     * conditions of that kind share an entry in the condition table and a cached result.
+     */
+    private static final class Compiler implements ExpressionVisitor<Op> {
+        private final Map<Identifier, Integer> nameSlots = new HashMap<>();
+        private Value[] defaults;
+        private int registerCount;
+        private Map<Identifier, Integer> scope = new HashMap<>();
+        private boolean readsAssignment;
+
+        private final List<Integer> opcodes = new ArrayList<>();
+        private final List<Integer> operands = new ArrayList<>();
+        private final List<Integer> assignSlots = new ArrayList<>();
+        private final List<Integer> jumps = new ArrayList<>();
+
+        private final Map<Expression, Integer> conditionIndex = new HashMap<>();
+        private final List<Op> conditions = new ArrayList<>();
+        private final List<Boolean> cacheable = new ArrayList<>();
+        private final List<CompiledEndpoint> endpoints = new ArrayList<>();
+        private final List<Op> errors = new ArrayList<>();
+        private final List<Rule> trees = new ArrayList<>();
+
+        void compile(EndpointRuleSet ruleset) {
+            // Parameters take the first registers so that their defaults can be copied in one go.
+            List<Parameter> parameters = ruleset.getParameters().toList();
+            defaults = new Value[parameters.size()];
+            for (Parameter parameter : parameters) {
+                defaults[nameSlot(parameter.getName())] = parameter.getDefault().orElse(null);
+            }
+            compileRules(ruleset.getRules(), null);
+        }
+
+        private int nameSlot(Identifier name) {
+            return nameSlots.computeIfAbsent(name, n -> registerCount++);
+        }
+
+        private void compileRules(List<Rule> rules, Rule tree) {
+            List<Integer> pendingJumps = new ArrayList<>();
+            for (Rule rule : rules) {
+                patchJumps(pendingJumps);
+                pendingJumps = compileRule(rule);
+            }
+            patchJumps(pendingJumps);
+            trees.add(tree);
+            emit(NO_MATCH, trees.size() - 1, -1);
+        }
+
+        private void patchJumps(List<Integer> pendingJumps) {
+            for (int pc : pendingJumps) {
+                jumps.set(pc, opcodes.size());
+            }
+        }
+
+        private int emit(int opcode, int operand, int assignSlot) {
+            opcodes.add(opcode);
+            operands.add(operand);
+            assignSlots.add(assignSlot);
+            jumps.add(-1);
+            return opcodes.size() - 1;
+        }
+
+        // Returns the instructions that need to jump to whatever follows the rule when they fail.
+        private List<Integer> compileRule(Rule rule) {
+            Map<Identifier, Integer> enclosingScope = scope;
+            scope = new HashMap<>(scope);
+            List<Integer> failJumps = new ArrayList<>(rule.getConditions().size());
+
+            for (Condition condition : rule.getConditions()) {
+                int index = compileCondition(condition.getFn());
+                int assignSlot = -1;
+                if (condition.getResult().isPresent()) {
+                    assignSlot = registerCount++;
+                    scope.put(condition.getResult().get(), assignSlot);
+                }
+                failJumps.add(emit(CONDITION, index, assignSlot));
+            }
+
+            rule.accept(new RuleValueVisitor<Void>() {
+                @Override
+                public Void visitTreeRule(List<Rule> rules) {
+                    compileRules(rules, rule);
+                    return null;
+                }
+
+                @Override
+                public Void visitErrorRule(Expression error) {
+                    errors.add(error.accept(Compiler.this));
+                    emit(ERROR, errors.size() - 1, -1);
+                    return null;
+                }
+
+                @Override
+                public Void visitEndpointRule(Endpoint endpoint) {
+                    endpoints.add(compileEndpoint(endpoint));
+                    emit(ENDPOINT, endpoints.size() - 1, -1);
+                    return null;
+                }
+            });
+
+            scope = enclosingScope;
+            return failJumps;
+        }
+
+        private int compileCondition(Expression fn) {
+            readsAssignment = false;
+            Op op = fn.accept(this);
+
+            // The same expression can refer to different assignments depending on where it appears,
+            // so only conditions that read nothing but parameters are shared.
+            if (!readsAssignment) {
+                Integer existing = conditionIndex.get(fn);
+                if (existing != null) {
+                    return existing;
+                }
+                conditionIndex.put(fn, conditions.size());
+            }
+
+            conditions.add(op);
+            cacheable.add(!readsAssignment);
+            return conditions.size() - 1;
+        }
+
+        private CompiledEndpoint compileEndpoint(Endpoint endpoint) {
+            Op url = endpoint.getUrl().accept(this);
+
+            String[] propertyNames = new String[endpoint.getProperties().size()];
+            Op[] properties = new Op[propertyNames.length];
+            int i = 0;
+            for (Map.Entry<Identifier, Literal> entry : endpoint.getProperties().entrySet()) {
+                propertyNames[i] = entry.getKey().toString();
+                properties[i++] = entry.getValue().accept(this);
+            }
+
+            List<String> headerNames = new ArrayList<>();
+            List<Op> headers = new ArrayList<>();
+            endpoint.getHeaders().forEach((name, expressions) -> {
+                for (Expression expression : expressions) {
+                    headerNames.add(name);
+                    headers.add(expression.accept(this));
+                }
+            });
+
+            return new CompiledEndpoint(endpoint, url, propertyNames, properties,
+                    headerNames.toArray(new String[0]), headers.toArray(new Op[0]));
+        }
+
+        @Override
+        public Op visitLiteral(Literal literal) {
+            return literal.accept(new Literal.Vistor<Op>() {
+                @Override
+                public Op visitBool(boolean b) {
+                    Value value = b ? TRUE : FALSE;
+                    return registers -> value;
+                }
+
+                @Override
+                public Op visitString(Template value) {
+                    return compileTemplate(value);
+                }
+
+                @Override
+                public Op visitRecord(Map<Identifier, Literal> members) {
+                    Identifier[] names = members.keySet().toArray(new Identifier[0]);
+                    Op[] values = new Op[names.length];
+                    for (int i = 0; i < names.length; i++) {
+                        values[i] = members.get(names[i]).accept(Compiler.this);
+                    }
+                    return registers -> {
+                        Map<Identifier, Value> record = new HashMap<>();
+                        for (int i = 0; i < names.length; i++) {
+                            record.put(names[i], values[i].evaluate(registers));
+                        }
+                        return Value.record(record);
+                    };
+                }
+
+                @Override
+                public Op visitTuple(List<Literal> members) {
+                    Op[] values = new Op[members.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = members.get(i).accept(Compiler.this);
+                    }
+                    return registers -> {
+                        List<Value> tuple = new ArrayList<>(values.length);
+                        for (Op op : values) {
+                            tuple.add(op.evaluate(registers));
+                        }
+                        return Value.array(tuple);
+                    };
+                }
+
+                @Override
+                public Op visitInteger(int value) {
+                    Value integer = Value.integer(value);
+                    return registers -> integer;
+                }
+            });
+        }
+
+        private Op compileTemplate(Template template) {
+            if (template.isStatic()) {
+                Value value = Value.string(template.expectLiteral());
+                return registers -> value;
+            }
+
+            List<Template.Part> parts = template.getParts();
+            if (parts.size() == 1) {
+                Op op = ((Template.Dynamic) parts.get(0)).getExpr().accept(this);
+                return registers -> Value.string(op.evaluate(registers).expectString());
+            }
+
+            String[] literals = new String[parts.size()];
+            Op[] dynamics = new Op[parts.size()];
+            for (int i = 0; i < literals.length; i++) {
+                Template.Part part = parts.get(i);
+                if (part instanceof Template.Dynamic) {
+                    dynamics[i] = ((Template.Dynamic) part).getExpr().accept(this);
+                } else {
+                    literals[i] = part.toString();
+                }
+            }
+
+            return registers -> {
+                StringBuilder result = new StringBuilder();
+                for (int i = 0; i < literals.length; i++) {
+                    if (dynamics[i] != null) {
+                        result.append(dynamics[i].evaluate(registers).expectString());
+                    } else {
+                        result.append(literals[i]);
+                    }
+                }
+                return Value.string(result.toString());
+            };
+        }
+
+        @Override
+        public Op visitRef(Reference reference) {
+            Integer assigned = scope.get(reference.getName());
+            int slot;
+            if (assigned != null) {
+                readsAssignment = true;
+                slot = assigned;
+            } else {
+                slot = nameSlot(reference.getName());
+            }
+            return registers -> {
+                Value value = registers[slot];
+                return value != null ? value : Value.none();
+            };
+        }
+
+        @Override
+        public Op visitGetAttr(GetAttr getAttr) {
+            Op target = getAttr.getTarget().accept(this);
+            return registers -> getAttr.evaluate(target.evaluate(registers));
+        }
+
+        @Override
+        public Op visitIsSet(Expression fn) {
+            Op op = fn.accept(this);
+            return registers -> op.evaluate(registers).isNone() ? FALSE : TRUE;
+        }
+
+        @Override
+        public Op visitNot(Expression not) {
+            Op op = not.accept(this);
+            return registers -> op.evaluate(registers).expectBool() ? FALSE : TRUE;
+        }
+
+        @Override
+        public Op visitBoolEquals(Expression left, Expression right) {
+            Op l = left.accept(this);
+            Op r = right.accept(this);
+            return registers -> l.evaluate(registers).expectBool() == r.evaluate(registers).expectBool()
+                    ? TRUE
+                    : FALSE;
+        }
+
+        @Override
+        public Op visitStringEquals(Expression left, Expression right) {
+            Op l = left.accept(this);
+            Op r = right.accept(this);
+            return registers -> l.evaluate(registers).expectString().equals(r.evaluate(registers).expectString())
+                    ? TRUE
+                    : FALSE;
+        }
+
+        @Override
+        public Op visitLibraryFunction(FunctionDefinition definition, List<Expression> arguments) {
+            Op[] ops = new Op[arguments.size()];
+            for (int i = 0; i < ops.length; i++) {
+                ops[i] = arguments.get(i).accept(this);
+            }
+            return registers -> {
+                Value[] values = new Value[ops.length];
+                for (int i = 0; i < ops.length; i++) {
+                    values[i] = ops[i].evaluate(registers);
+                }
+                return definition.evaluate(Arrays.asList(values));
+            };
+        }
+    }
+}
@@ -15,13 +15,16 @@
 
 package software.amazon.smithy.rulesengine.language.eval;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.rulesengine.language.error.InnerParseError;
@@ -32,15 +35,28 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 /**
  * Scope is a stack for tracking facts for named values of type T.
  *
+ * <p>Each identifier is resolved to a fixed slot the first time it is declared, and values and
+ * facts are stored in arrays indexed by slot. Pushing a scope records a position in an undo log,
+ * and popping a scope restores every slot changed since that position, so lookups never need to
+ * walk through the layers of the stack.
+ *
  * @param <T> The type of values in scope.
  */
 @SmithyUnstableApi
 public final class Scope<T> {
-    private final Deque<ScopeLayer<T>> scope;
+    private static final int INITIAL_SLOTS = 16;
+
+    private final Map<Identifier, Integer> slots = new HashMap<>();
+    private Identifier[] declarations = new Identifier[INITIAL_SLOTS];
+    private Object[] values = new Object[INITIAL_SLOTS];
+    private boolean[] nonNull = new boolean[INITIAL_SLOTS];
+
+    // Previous slot states, restored in reverse order when a scope is popped.
+    private final List<Undo> undoLog = new ArrayList<>();
+    private int[] marks = new int[INITIAL_SLOTS];
+    private int depth;
 
     public Scope() {
-        this.scope = new ArrayDeque<>();
-        this.scope.push(new ScopeLayer<>());
     }
 
     public static Scope<Value> fromNode(Node node) {
@@ -51,11 +67,23 @@ public final class Scope<T> {
     }
 
     public void push() {
-        scope.push(new ScopeLayer<>());
+        if (depth == marks.length) {
+            marks = Arrays.copyOf(marks, depth * 2);
+        }
+        marks[depth++] = undoLog.size();
     }
 
     public void pop() {
-        scope.pop();
+        if (depth == 0) {
+            throw new NoSuchElementException("Cannot pop the root scope");
+        }
+        int mark = marks[--depth];
+        for (int i = undoLog.size() - 1; i >= mark; i--) {
+            Undo undo = undoLog.remove(i);
+            declarations[undo.slot] = undo.declaration;
+            values[undo.slot] = undo.value;
+            nonNull[undo.slot] = undo.nonNull;
+        }
     }
 
     public void insert(String name, T value) {
@@ -63,11 +91,18 @@ public final class Scope<T> {
     }
 
     public void insert(Identifier name, T value) {
-        this.scope.getFirst().getTypes().put(name, value);
+        int slot = resolve(name);
+        save(slot);
+        declarations[slot] = name;
+        values[slot] = value;
     }
 
     public void setNonNull(Reference name) {
-        this.scope.getFirst().getNonNullRefs().add(name);
+        int slot = resolve(name.getName());
+        if (!nonNull[slot]) {
+            save(slot);
+            nonNull[slot] = true;
+        }
     }
 
     public <U> U inScope(Supplier<U> func) {
@@ -82,43 +117,82 @@ public final class Scope<T> {
     @Override
     public String toString() {
         Map<Identifier, T> toPrint = new LinkedHashMap<>();
-        for (ScopeLayer<T> layer : scope) {
-            toPrint.putAll(layer.getTypes());
+        for (int slot = 0; slot < slots.size(); slot++) {
+            if (declarations[slot] != null) {
+                toPrint.put(declarations[slot], valueAt(slot));
+            }
         }
         return toPrint.toString();
     }
 
     public boolean isNonNull(Reference reference) {
-        return scope.stream().anyMatch(s -> s.getNonNullRefs().contains(reference));
+        Integer slot = slots.get(reference.getName());
+        return slot != null && nonNull[slot];
     }
 
     public T expectValue(Identifier name) throws InnerParseError {
-        for (ScopeLayer<T> layer : scope) {
-            if (layer.getTypes().containsKey(name)) {
-                return layer.getTypes().get(name);
-            }
+        int slot = find(name);
+        if (slot == -1) {
+            throw new InnerParseError(String.format("No field named %s", name));
         }
-        throw new InnerParseError(String.format("No field named %s", name));
+        return valueAt(slot);
     }
 
     public Optional<Map.Entry<Identifier, T>> getDeclaration(Identifier name) {
-        for (ScopeLayer<T> layer : scope) {
-            if (layer.getTypes().containsKey(name)) {
-                return Optional.of(layer.getTypes().entrySet().stream()
-                        .filter(e -> e.getKey().equals(name))
-                        .collect(Collectors.toList()).get(0));
-            }
+        int slot = find(name);
+        return slot == -1
+               ? Optional.empty()
+               : Optional.of(new AbstractMap.SimpleImmutableEntry<>(declarations[slot], valueAt(slot)));
+    }
+
+    public Optional<T> getValue(Identifier name) {
+        int slot = find(name);
+        return slot == -1 ? Optional.empty() : Optional.ofNullable(valueAt(slot));
+    }
+
+    private int resolve(Identifier name) {
+        Integer slot = slots.get(name);
+        if (slot != null) {
+            return slot;
         }
-        return Optional.empty();
+        int next = slots.size();
+        if (next == values.length) {
+            declarations = Arrays.copyOf(declarations, next * 2);
+            values = Arrays.copyOf(values, next * 2);
+            nonNull = Arrays.copyOf(nonNull, next * 2);
+        }
+        slots.put(name, next);
+        return next;
+    }
 
+    private int find(Identifier name) {
+        Integer slot = slots.get(name);
+        return slot == null || declarations[slot] == null ? -1 : slot;
     }
 
-    public Optional<T> getValue(Identifier name) {
-        for (ScopeLayer<T> layer : scope) {
-            if (layer.getTypes().containsKey(name)) {
-                return Optional.of(layer.getTypes().get(name));
-            }
+    private void save(int slot) {
+        // Changes made to the root scope are never undone, so there's nothing to save.
+        if (depth > 0) {
+            undoLog.add(new Undo(slot, declarations[slot], values[slot], nonNull[slot]));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valueAt(int slot) {
+        return (T) values[slot];
+    }
+
+    private static final class Undo {
+        private final int slot;
+        private final Identifier declaration;
+        private final Object value;
+        private final boolean nonNull;
+
+        Undo(int slot, Identifier declaration, Object value, boolean nonNull) {
+            this.slot = slot;
+            this.declaration = declaration;
+            this.value = value;
+            this.nonNull = nonNull;
         }
-        return Optional.empty();
     }
 }
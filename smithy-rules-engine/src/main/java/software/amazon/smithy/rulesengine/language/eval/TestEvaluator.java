@@ -20,6 +20,7 @@ import static software.amazon.smithy.rulesengine.language.util.StringUtils.inden
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
 import software.amazon.smithy.rulesengine.language.error.RuleError;
 import software.amazon.smithy.rulesengine.language.syntax.Identifier;
@@ -44,11 +45,22 @@ public final class TestEvaluator {
      * @param testCase The test case.
      */
     public static void evaluate(EndpointRuleSet ruleset, EndpointTestCase testCase) {
+        evaluate(testCase, parameters -> RuleEvaluator.evaluate(ruleset, parameters));
+    }
+
+    /**
+     * Evaluate the given test case using a function that resolves the test case parameters
+     * to a result. Throws an exception in the event the test case does not pass.
+     *
+     * @param testCase The test case.
+     * @param resolver The function used to resolve the parameters, like {@link CompiledRuleSet#evaluate}.
+     */
+    public static void evaluate(EndpointTestCase testCase, Function<Map<Identifier, Value>, Value> resolver) {
         Map<Identifier, Value> map = new LinkedHashMap<>();
         testCase.getParams().getStringMap().forEach((s, node) -> {
             map.put(Identifier.of(s), Value.fromNode(node));
         });
-        Value got = RuleEvaluator.evaluate(ruleset, map);
+        Value got = resolver.apply(map);
         RuleError.context(
                 String.format("while executing test case%s", Optional
                         .ofNullable(testCase.getDocumentation())
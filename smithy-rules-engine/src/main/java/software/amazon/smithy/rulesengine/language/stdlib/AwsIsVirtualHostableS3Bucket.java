@@ -51,15 +51,58 @@ public class AwsIsVirtualHostableS3Bucket extends FunctionDefinition {
     public Value evaluate(List<Value> arguments) {
         String hostLabel = arguments.get(0).expectString();
         boolean allowDots = arguments.get(1).expectBool();
-        if (allowDots) {
-            return Value.bool(
-                    hostLabel.matches("[a-z\\d][a-z\\d\\-.]{1,61}[a-z\\d]")
-                    && !hostLabel.matches("(\\d+\\.){3}\\d+") // don't allow ip address
-                    && !hostLabel.matches(".*[.-]{2}.*") // don't allow names like bucket-.name or bucket.-name
-            );
-        } else {
-            return Value.bool(hostLabel.matches("[a-z\\d][a-z\\d\\-]{1,61}[a-z\\d]"));
+        return Value.bool(isVirtualHostableBucket(hostLabel, allowDots));
+    }
+
+    // Equivalent to matching [a-z\d][a-z\d\-]{1,61}[a-z\d], with dots allowed in the middle when allowDots
+    // is set, without compiling regular expressions on every call.
+    private static boolean isVirtualHostableBucket(String hostLabel, boolean allowDots) {
+        int length = hostLabel.length();
+        if (length < 3 || length > 63) {
+            return false;
+        } else if (!isLowerAlphanumeric(hostLabel.charAt(0)) || !isLowerAlphanumeric(hostLabel.charAt(length - 1))) {
+            return false;
+        }
+
+        for (int i = 1; i < length - 1; i++) {
+            char c = hostLabel.charAt(i);
+            if (isLowerAlphanumeric(c)) {
+                continue;
+            } else if (c != '-' && !(allowDots && c == '.')) {
+                return false;
+            }
+            // Don't allow names like bucket-.name or bucket.-name. The first and last characters
+            // are alphanumeric, so the next character is always in range.
+            char next = hostLabel.charAt(i + 1);
+            if (allowDots && (next == '.' || next == '-')) {
+                return false;
+            }
+        }
+
+        // Don't allow IP addresses.
+        return !allowDots || !isIpAddress(hostLabel);
+    }
+
+    // Equivalent to matching (\d+\.){3}\d+.
+    private static boolean isIpAddress(String hostLabel) {
+        int dots = 0;
+        boolean digitsInSegment = false;
+        for (int i = 0; i < hostLabel.length(); i++) {
+            char c = hostLabel.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitsInSegment = true;
+            } else if (c == '.' && digitsInSegment && dots < 3) {
+                dots++;
+                digitsInSegment = false;
+            } else {
+                return false;
+            }
         }
+        return dots == 3 && digitsInSegment;
+    }
+
+    private static boolean isLowerAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
     }
 
     public static Function ofExpression(Expression input, boolean allowDots) {
@@ -23,6 +23,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import software.amazon.smithy.rulesengine.language.eval.Type;
 import software.amazon.smithy.rulesengine.language.eval.Value;
@@ -53,6 +54,8 @@ public final class AwsPartition extends FunctionDefinition {
     public static final Identifier SUPPORTS_DUAL_STACK = Identifier.of("supportsDualStack");
     public static final Identifier INFERRED = Identifier.of("inferred");
 
+    private static final int MAX_CACHED_REGIONS = 1024;
+
     private final LazyValue<PartitionData> partitionData = LazyValue.<PartitionData>builder()
             .initializer(this::loadPartitionData)
             .build();
@@ -81,9 +84,22 @@ public final class AwsPartition extends FunctionDefinition {
     @Override
     public Value evaluate(List<Value> arguments) {
         String regionName = arguments.get(0).expectString();
-
         final PartitionData data = partitionData.value();
 
+        Value result = data.results.get(regionName);
+        if (result == null) {
+            result = resolvePartition(data, regionName);
+            // Region names come from callers, so bound the cache rather than letting it grow without limit.
+            if (data.results.size() >= MAX_CACHED_REGIONS) {
+                data.results.clear();
+            }
+            data.results.put(regionName, result);
+        }
+
+        return result;
+    }
+
+    private static Value resolvePartition(PartitionData data, String regionName) {
         software.amazon.smithy.rulesengine.language.model.Partition matchedPartition;
         boolean inferred = false;
 
@@ -91,10 +107,9 @@ public final class AwsPartition extends FunctionDefinition {
         matchedPartition = data.regionMap.get(regionName);
         if (matchedPartition == null) {
             // try matching on region name pattern
-            for (software.amazon.smithy.rulesengine.language.model.Partition p : data.partitions) {
-                Pattern regex = Pattern.compile(p.regionRegex());
-                if (regex.matcher(regionName).matches()) {
-                    matchedPartition = p;
+            for (int i = 0; i < data.partitions.size(); i++) {
+                if (data.regionPatterns.get(i).matcher(regionName).matches()) {
+                    matchedPartition = data.partitions.get(i);
                     inferred = true;
                     break;
                 }
@@ -139,6 +154,7 @@ public final class AwsPartition extends FunctionDefinition {
 
         partitions.partitions().forEach(part -> {
             partitionData.partitions.add(part);
+            partitionData.regionPatterns.add(Pattern.compile(part.regionRegex()));
             part.regions().forEach((name, override) -> {
                 partitionData.regionMap.put(name, part);
             });
@@ -149,7 +165,9 @@ public final class AwsPartition extends FunctionDefinition {
 
     private static class PartitionData {
         private final List<software.amazon.smithy.rulesengine.language.model.Partition> partitions = new ArrayList<>();
+        private final List<Pattern> regionPatterns = new ArrayList<>();
         private final Map<String, software.amazon.smithy.rulesengine.language.model.Partition> regionMap =
                 new HashMap<>();
+        private final Map<String, Value> results = new ConcurrentHashMap<>();
     }
 }
@@ -51,11 +51,27 @@ public final class IsValidHostLabel extends FunctionDefinition {
     public Value evaluate(List<Value> arguments) {
         String hostLabel = arguments.get(0).expectString();
         boolean allowDots = arguments.get(1).expectBool();
-        if (allowDots) {
-            return Value.bool(hostLabel.matches("[a-zA-Z\\d][a-zA-Z\\d\\-.]{0,62}"));
-        } else {
-            return Value.bool(hostLabel.matches("[a-zA-Z\\d][a-zA-Z\\d\\-]{0,62}"));
+        return Value.bool(isValidHostLabel(hostLabel, allowDots));
+    }
+
+    // Equivalent to matching [a-zA-Z\d][a-zA-Z\d\-]{0,62}, with dots allowed after the first character
+    // when allowDots is set, without compiling a regular expression on every call.
+    private static boolean isValidHostLabel(String hostLabel, boolean allowDots) {
+        int length = hostLabel.length();
+        if (length == 0 || length > 63 || !isAlphanumeric(hostLabel.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = hostLabel.charAt(i);
+            if (!isAlphanumeric(c) && c != '-' && !(allowDots && c == '.')) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     public static Function ofExpression(Expression input, boolean allowDots) {
@@ -46,7 +46,7 @@ public final class Identifier extends MandatorySourceLocation implements ToNode
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return name.hashCode();
     }
 
     @Override
@@ -17,7 +17,6 @@ package software.amazon.smithy.rulesengine.language.syntax.expr;
 
 import static software.amazon.smithy.rulesengine.language.error.RuleError.context;
 
-import java.util.Objects;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -58,7 +57,7 @@ public final class Reference extends Expression {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return name.hashCode();
     }
 
     @Override
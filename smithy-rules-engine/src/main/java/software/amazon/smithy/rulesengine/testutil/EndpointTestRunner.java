@@ -0,0 +1,364 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.testutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.rulesengine.analysis.CoverageChecker;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.eval.CompiledRuleSet;
+import software.amazon.smithy.rulesengine.language.eval.TestEvaluator;
+import software.amazon.smithy.rulesengine.language.eval.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
+import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
+import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * Runs the endpoint test cases of many rule-sets in parallel.
+ *
+ * <p>Test cases are split into batches that are evaluated concurrently, both across rule-sets
+ * and across the test cases of a single rule-set. Failures are reported to the failure listener
+ * as soon as they occur, and coverage recorded by each batch is merged into a single
+ * {@link CoverageChecker} per rule-set.
+ */
+@SmithyUnstableApi
+public final class EndpointTestRunner {
+    private static final int BATCH_SIZE = 16;
+
+    private final Map<String, Suite> suites;
+    private final int parallelism;
+    private final boolean trackCoverage;
+    private final Consumer<Failure> failureListener;
+
+    private EndpointTestRunner(Builder builder) {
+        this.suites = new LinkedHashMap<>(builder.suites);
+        this.parallelism = builder.parallelism;
+        this.trackCoverage = builder.trackCoverage;
+        this.failureListener = builder.failureListener;
+    }
+
+    /**
+     * Creates a builder used to build an {@link EndpointTestRunner}.
+     *
+     * @return Returns the created builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs every test case.
+     *
+     * @return Returns the result of the test run.
+     */
+    public Result run() {
+        AtomicInteger testCount = new AtomicInteger();
+        List<Failure> failures = new ArrayList<>();
+        Map<String, CoverageChecker> coverage = new LinkedHashMap<>();
+        List<Runnable> batches = new ArrayList<>();
+
+        for (Map.Entry<String, Suite> entry : suites.entrySet()) {
+            String name = entry.getKey();
+            Suite suite = entry.getValue();
+            CompiledRuleSet compiled = trackCoverage ? null : CompiledRuleSet.compile(suite.ruleSet);
+            CoverageChecker suiteCoverage = trackCoverage ? new CoverageChecker(suite.ruleSet) : null;
+            if (suiteCoverage != null) {
+                coverage.put(name, suiteCoverage);
+            }
+
+            List<EndpointTestCase> testCases = suite.tests.getTestCases();
+            for (int start = 0; start < testCases.size(); start += BATCH_SIZE) {
+                List<EndpointTestCase> batch = testCases.subList(start, Math.min(start + BATCH_SIZE, testCases.size()));
+                batches.add(() -> {
+                    // Coverage checkers aren't thread-safe, so each batch records into its own and merges it in.
+                    CoverageChecker checker = trackCoverage ? new CoverageChecker(suite.ruleSet) : null;
+                    Function<Map<Identifier, Value>, Value> resolver = checker != null
+                            ? checker::evaluate
+                            : compiled::evaluate;
+                    for (EndpointTestCase testCase : batch) {
+                        testCount.incrementAndGet();
+                        try {
+                            TestEvaluator.evaluate(testCase, resolver);
+                        } catch (RuntimeException | AssertionError e) {
+                            Failure failure = new Failure(name, testCase, e);
+                            synchronized (failures) {
+                                failures.add(failure);
+                                failureListener.accept(failure);
+                            }
+                        }
+                    }
+                    if (checker != null) {
+                        synchronized (suiteCoverage) {
+                            suiteCoverage.merge(checker);
+                        }
+                    }
+                });
+            }
+        }
+
+        if (parallelism == 1 || batches.size() <= 1) {
+            batches.forEach(Runnable::run);
+        } else {
+            runConcurrently(batches);
+        }
+
+        return new Result(testCount.get(), failures, coverage);
+    }
+
+    private void runConcurrently(List<Runnable> batches) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), runnable -> {
+            Thread thread = new Thread(runnable, "smithy-endpoint-tests");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(batches.size());
+            for (Runnable batch : batches) {
+                futures.add(executor.submit(batch));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running endpoint tests", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Suite {
+        private final EndpointRuleSet ruleSet;
+        private final EndpointTestsTrait tests;
+
+        Suite(EndpointRuleSet ruleSet, EndpointTestsTrait tests) {
+            this.ruleSet = ruleSet;
+            this.tests = tests;
+        }
+    }
+
+    /**
+     * A test case that did not pass.
+     */
+    public static final class Failure {
+        private final String suiteName;
+        private final EndpointTestCase testCase;
+        private final Throwable error;
+
+        Failure(String suiteName, EndpointTestCase testCase, Throwable error) {
+            this.suiteName = suiteName;
+            this.testCase = testCase;
+            this.error = error;
+        }
+
+        /**
+         * Gets the name of the suite the test case belongs to, like the shape ID of a service.
+         *
+         * @return Returns the suite name.
+         */
+        public String getSuiteName() {
+            return suiteName;
+        }
+
+        /**
+         * @return Returns the test case that failed.
+         */
+        public EndpointTestCase getTestCase() {
+            return testCase;
+        }
+
+        /**
+         * @return Returns the error that caused the test case to fail.
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: endpoint test case%s (%s) failed: %s", suiteName,
+                    testCase.getDocumentation().map(d -> " `" + d + "`").orElse(""),
+                    testCase.getSourceLocation(), error.getMessage());
+        }
+    }
+
+    /**
+     * The result of running endpoint tests.
+     */
+    public static final class Result {
+        private final int testCount;
+        private final List<Failure> failures;
+        private final Map<String, CoverageChecker> coverage;
+
+        Result(int testCount, List<Failure> failures, Map<String, CoverageChecker> coverage) {
+            this.testCount = testCount;
+            this.failures = Collections.unmodifiableList(failures);
+            this.coverage = Collections.unmodifiableMap(coverage);
+        }
+
+        /**
+         * @return Returns the number of test cases that were run.
+         */
+        public int getTestCount() {
+            return testCount;
+        }
+
+        /**
+         * Gets the failed test cases in the order they failed.
+         *
+         * @return Returns the failures.
+         */
+        public List<Failure> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return Returns true if every test case passed.
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+
+        /**
+         * Gets the coverage of each suite, merged across every test case of the suite.
+         *
+         * <p>Coverage is only recorded when {@link Builder#trackCoverage} is enabled.
+         *
+         * @return Returns a map of suite names to coverage.
+         */
+        public Map<String, CoverageChecker> getCoverage() {
+            return coverage;
+        }
+    }
+
+    /**
+     * Builds an {@link EndpointTestRunner}.
+     */
+    public static final class Builder implements SmithyBuilder<EndpointTestRunner> {
+        private final Map<String, Suite> suites = new LinkedHashMap<>();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private boolean trackCoverage;
+        private Consumer<Failure> failureListener = failure -> { };
+
+        private Builder() {
+        }
+
+        @Override
+        public EndpointTestRunner build() {
+            return new EndpointTestRunner(this);
+        }
+
+        /**
+         * Adds the rule-set and tests of every service in the model that has both.
+         *
+         * <p>Suites are named after the shape ID of the service.
+         *
+         * @param model Model to add tests from.
+         * @return Returns the builder.
+         */
+        public Builder addModel(Model model) {
+            for (ServiceShape service : model.getServiceShapesWithTrait(EndpointRuleSetTrait.class)) {
+                service.getTrait(EndpointTestsTrait.class).ifPresent(tests -> {
+                    EndpointRuleSet ruleSet = EndpointRuleSet.fromNode(
+                            service.expectTrait(EndpointRuleSetTrait.class).getRuleSet());
+                    addSuite(service.getId().toString(), ruleSet, tests);
+                });
+            }
+            return this;
+        }
+
+        /**
+         * Adds a rule-set and the tests to run against it.
+         *
+         * @param name Name of the suite, used when reporting results.
+         * @param ruleSet Rule-set to test.
+         * @param tests Tests to run.
+         * @return Returns the builder.
+         */
+        public Builder addSuite(String name, EndpointRuleSet ruleSet, EndpointTestsTrait tests) {
+            suites.put(name, new Suite(ruleSet, tests));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of test batches to run at the same time.
+         *
+         * <p>Defaults to the number of available processors.
+         *
+         * @param parallelism Number of batches to run concurrently.
+         * @return Returns the builder.
+         * @throws IllegalArgumentException if parallelism is less than 1.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets whether condition coverage is recorded for each suite.
+         *
+         * <p>Recording coverage evaluates test cases with {@link CoverageChecker} instead
+         * of a {@link CompiledRuleSet}, which is slower.
+         *
+         * @param trackCoverage Set to true to record coverage.
+         * @return Returns the builder.
+         */
+        public Builder trackCoverage(boolean trackCoverage) {
+            this.trackCoverage = trackCoverage;
+            return this;
+        }
+
+        /**
+         * Sets a listener that's invoked with each failure as soon as it occurs.
+         *
+         * <p>The listener is never invoked concurrently.
+         *
+         * @param failureListener Listener to invoke.
+         * @return Returns the builder.
+         */
+        public Builder failureListener(Consumer<Failure> failureListener) {
+            this.failureListener = failureListener;
+            return this;
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package software.amazon.smithy.rulesengine;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.eval.RuleEvaluator;
+import software.amazon.smithy.rulesengine.language.eval.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.testutil.TestDiscovery;
 import software.amazon.smithy.utils.IoUtils;
 
 public class RulesetTestUtil {
@@ -22,4 +32,33 @@ public class RulesetTestUtil {
         return loadRuleSet("software/amazon/smithy/rulesengine/testutil/valid-rules/minimal-ruleset.json");
     }
 
+    public static Stream<TestDiscovery.RulesTestCase> testCases() {
+        return new TestDiscovery().testSuites()
+                .flatMap(suite -> suite.testSuite().getTestCases()
+                        .stream()
+                        .map(tc -> new TestDiscovery.RulesTestCase(suite.ruleSet(), tc)));
+    }
+
+    /**
+     * Asserts that an alternative evaluator returns the same result as the {@link RuleEvaluator}.
+     *
+     * @param testCase Test case that provides the rule-set and parameters to evaluate.
+     * @param evaluator Evaluates the rule-set with the given parameters.
+     */
+    public static void assertMatchesRuleEvaluator(
+            TestDiscovery.RulesTestCase testCase,
+            BiFunction<EndpointRuleSet, Map<Identifier, Value>, Value> evaluator
+    ) {
+        Map<Identifier, Value> parameters = new LinkedHashMap<>();
+        testCase.testcase().getParams().getStringMap().forEach((name, node) -> {
+            parameters.put(Identifier.of(name), Value.fromNode(node));
+        });
+
+        Value expected = RuleEvaluator.evaluate(testCase.ruleset(), parameters);
+        Value actual = evaluator.apply(testCase.ruleset(), parameters);
+
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.rulesengine.RulesetTestUtil;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.eval.RuleEvaluator;
+import software.amazon.smithy.rulesengine.language.eval.Value;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.testutil.TestDiscovery;
+import software.amazon.smithy.utils.MapUtils;
+
+class DecisionDiagramTest {
+    private static final String DUPLICATED_CONDITIONS = "{\n"
+            + "  \"version\": \"1.3\",\n"
+            + "  \"parameters\": {\n"
+            + "    \"Region\": {\"type\": \"string\", \"documentation\": \"docs\"},\n"
+            + "    \"UseFIPS\": {\"type\": \"boolean\", \"documentation\": \"docs\"}\n"
+            + "  },\n"
+            + "  \"rules\": [\n"
+            + "    {\n"
+            + "      \"conditions\": [\n"
+            + "        {\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Region\"}]},\n"
+            + "        {\"fn\": \"aws.partition\", \"argv\": [{\"ref\": \"Region\"}], \"assign\": \"a\"},\n"
+            + "        {\"fn\": \"booleanEquals\", \"argv\": [{\"fn\": \"getAttr\", "
+            + "\"argv\": [{\"ref\": \"a\"}, \"supportsFIPS\"]}, true]},\n"
+            + "        {\"fn\": \"isSet\", \"argv\": [{\"ref\": \"UseFIPS\"}]},\n"
+            + "        {\"fn\": \"booleanEquals\", \"argv\": [{\"ref\": \"UseFIPS\"}, true]}\n"
+            + "      ],\n"
+            + "      \"endpoint\": {\"url\": \"https://fips.{Region}.{a#dnsSuffix}\"},\n"
+            + "      \"type\": \"endpoint\"\n"
+            + "    },\n"
+            + "    {\n"
+            + "      \"conditions\": [\n"
+            + "        {\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Region\"}]},\n"
+            + "        {\"fn\": \"aws.partition\", \"argv\": [{\"ref\": \"Region\"}], \"assign\": \"b\"}\n"
+            + "      ],\n"
+            + "      \"endpoint\": {\"url\": \"https://{Region}.{b#dnsSuffix}\"},\n"
+            + "      \"type\": \"endpoint\"\n"
+            + "    },\n"
+            + "    {\"conditions\": [], \"error\": \"no region\", \"type\": \"error\"}\n"
+            + "  ]\n"
+            + "}";
+
+    public static Stream<TestDiscovery.RulesTestCase> testCases() {
+        return RulesetTestUtil.testCases();
+    }
+
+    @ParameterizedTest
+    @MethodSource("testCases")
+    void matchesRuleEvaluator(TestDiscovery.RulesTestCase testCase) {
+        RulesetTestUtil.assertMatchesRuleEvaluator(testCase,
+                (ruleset, parameters) -> DecisionDiagram.compile(ruleset).evaluate(parameters));
+    }
+
+    @Test
+    void deduplicatesCanonicalConditions() {
+        EndpointRuleSet ruleSet = EndpointRuleSet.fromNode(Node.parse(DUPLICATED_CONDITIONS));
+        DecisionDiagram diagram = DecisionDiagram.compile(ruleSet);
+
+        assertEquals(7, diagram.getConditionOccurrenceCount());
+        // The partition assigned to `a` and `b` is the same condition.
+        assertEquals(5, diagram.getConditionCount());
+        assertEquals(4, diagram.getResultCount());
+        assertEquals(5, diagram.getNodeCount());
+    }
+
+    @Test
+    void evaluatesDeduplicatedAssignments() {
+        EndpointRuleSet ruleSet = EndpointRuleSet.fromNode(Node.parse(DUPLICATED_CONDITIONS));
+        DecisionDiagram diagram = DecisionDiagram.compile(ruleSet);
+
+        for (Map<Identifier, Value> parameters : Arrays.<Map<Identifier, Value>>asList(
+                MapUtils.of(Identifier.of("Region"), Value.string("us-east-1"),
+                            Identifier.of("UseFIPS"), Value.bool(true)),
+                MapUtils.of(Identifier.of("Region"), Value.string("us-east-1")),
+                Collections.emptyMap())) {
+            assertEquals(RuleEvaluator.evaluate(ruleSet, parameters), diagram.evaluate(parameters));
+        }
+    }
+
+    @Test
+    void failsWhenNoRuleMatches() {
+        EndpointRuleSet ruleSet = EndpointRuleSet.fromNode(Node.parse("{\n"
+                + "  \"version\": \"1.3\",\n"
+                + "  \"parameters\": {\"Region\": {\"type\": \"string\", \"documentation\": \"docs\"}},\n"
+                + "  \"rules\": [{\n"
+                + "    \"conditions\": [{\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Region\"}]}],\n"
+                + "    \"error\": \"matched\",\n"
+                + "    \"type\": \"error\"\n"
+                + "  }]\n"
+                + "}"));
+        DecisionDiagram diagram = DecisionDiagram.compile(ruleSet);
+        Map<Identifier, Value> parameters = Collections.emptyMap();
+
+        RuntimeException expected = assertThrows(RuntimeException.class,
+                () -> RuleEvaluator.evaluate(ruleSet, parameters));
+        RuntimeException actual = assertThrows(RuntimeException.class, () -> diagram.evaluate(parameters));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.language.eval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.rulesengine.RulesetTestUtil;
+import software.amazon.smithy.rulesengine.language.EndpointRuleSet;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.testutil.TestDiscovery;
+import software.amazon.smithy.utils.MapUtils;
+
+public class CompiledRuleSetTest {
+
+    public static Stream<TestDiscovery.RulesTestCase> testCases() {
+        return RulesetTestUtil.testCases();
+    }
+
+    @ParameterizedTest
+    @MethodSource("testCases")
+    public void matchesRuleEvaluator(TestDiscovery.RulesTestCase testCase) {
+        RulesetTestUtil.assertMatchesRuleEvaluator(testCase,
+                (ruleset, parameters) -> CompiledRuleSet.compile(ruleset).evaluate(parameters));
+    }
+
+    @Test
+    public void canBeEvaluatedRepeatedly() {
+        EndpointRuleSet ruleset = RulesetTestUtil.minimalRuleSet();
+        CompiledRuleSet compiled = CompiledRuleSet.compile(ruleset);
+
+        for (String region : new String[]{"us-east-1", "us-west-2", "us-east-1"}) {
+            Map<Identifier, Value> parameters = MapUtils.of(Identifier.of("Region"), Value.string(region));
+
+            assertEquals(RuleEvaluator.evaluate(ruleset, parameters), compiled.evaluate(parameters));
+        }
+    }
+
+    @Test
+    public void failsLikeRuleEvaluatorWhenNothingMatches() {
+        EndpointRuleSet ruleset = EndpointRuleSet.fromNode(Node.parse("{\n"
+                + "  \"version\": \"1.3\",\n"
+                + "  \"parameters\": {\"Region\": {\"type\": \"string\", \"documentation\": \"docs\"}},\n"
+                + "  \"rules\": [{\n"
+                + "    \"conditions\": [{\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Region\"}]}],\n"
+                + "    \"error\": \"matched\",\n"
+                + "    \"type\": \"error\"\n"
+                + "  }]\n"
+                + "}"));
+        Map<Identifier, Value> parameters = Collections.emptyMap();
+
+        RuntimeException expected = assertThrows(RuntimeException.class,
+                () -> RuleEvaluator.evaluate(ruleset, parameters));
+        RuntimeException actual = assertThrows(RuntimeException.class,
+                () -> CompiledRuleSet.compile(ruleset).evaluate(parameters));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.language.eval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.rulesengine.language.error.InnerParseError;
+import software.amazon.smithy.rulesengine.language.syntax.Identifier;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Expression;
+import software.amazon.smithy.rulesengine.language.syntax.expr.Reference;
+
+public class ScopeTest {
+    @Test
+    public void innerScopesShadowAndRestoreValues() throws InnerParseError {
+        Scope<String> scope = new Scope<>();
+        scope.insert("a", "outer");
+
+        scope.inScope(() -> {
+            scope.insert("a", "inner");
+            scope.insert("b", "only-inner");
+            assertEquals(Optional.of("inner"), scope.getValue(Identifier.of("a")));
+            assertEquals(Optional.of("only-inner"), scope.getValue(Identifier.of("b")));
+            return null;
+        });
+
+        assertEquals("outer", scope.expectValue(Identifier.of("a")));
+        assertEquals(Optional.empty(), scope.getValue(Identifier.of("b")));
+        assertFalse(scope.getDeclaration(Identifier.of("b")).isPresent());
+        assertThrows(InnerParseError.class, () -> scope.expectValue(Identifier.of("b")));
+    }
+
+    @Test
+    public void nonNullFactsArePoppedWithTheirScope() {
+        Scope<String> scope = new Scope<>();
+        scope.insert("a", "value");
+        Reference reference = Expression.reference(Identifier.of("a"), SourceLocation.NONE);
+
+        scope.push();
+        scope.setNonNull(reference);
+        scope.inScope(() -> {
+            assertTrue(scope.isNonNull(reference));
+            return null;
+        });
+        assertTrue(scope.isNonNull(reference));
+        scope.pop();
+
+        assertFalse(scope.isNonNull(reference));
+    }
+
+    @Test
+    public void printsVisibleValuesInDeclarationOrder() {
+        Scope<String> scope = new Scope<>();
+        scope.insert("b", "1");
+        scope.insert("a", "2");
+
+        scope.inScope(() -> {
+            scope.insert("c", "3");
+            scope.insert("b", "4");
+            // Shadowed names are printed once with their innermost value.
+            assertEquals("{b=4, a=2, c=3}", scope.toString());
+            return null;
+        });
+
+        assertEquals("{b=1, a=2}", scope.toString());
+    }
+
+    @Test
+    public void returnsDeclaringIdentifier() {
+        Scope<String> scope = new Scope<>();
+        Identifier declared = Identifier.of("a");
+        scope.insert(declared, "value");
+
+        assertEquals("value", scope.getDeclaration(Identifier.of("a")).get().getValue());
+        assertTrue(declared == scope.getDeclaration(Identifier.of("a")).get().getKey());
+    }
+}
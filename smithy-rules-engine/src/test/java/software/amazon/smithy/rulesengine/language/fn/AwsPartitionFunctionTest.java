@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -54,6 +55,15 @@ public class AwsPartitionFunctionTest {
         assertThat(result.get(AwsPartition.INFERRED).expectBool(), equalTo(true));
     }
 
+    @Test
+    public void eval_repeatedRegion_returnsSameResult() {
+        AwsPartition partition = new AwsPartition();
+        Value first = partition.evaluate(Collections.singletonList(Value.string("us-west-3")));
+        Value second = partition.evaluate(Collections.singletonList(Value.string("us-west-3")));
+
+        assertThat(second, equalTo(first));
+        assertThat(second.expectRecord().get(AwsPartition.INFERRED).expectBool(), equalTo(true));
+    }
 
     private Value.Record evalWithRegion(String region) {
         Expression fn = Function.fromNode(
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.language.fn;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.rulesengine.language.eval.Value;
+import software.amazon.smithy.rulesengine.language.stdlib.AwsIsVirtualHostableS3Bucket;
+import software.amazon.smithy.rulesengine.language.stdlib.IsValidHostLabel;
+import software.amazon.smithy.rulesengine.language.syntax.fn.FunctionDefinition;
+
+public class HostLabelFunctionTest {
+    public static Stream<String> hostLabels() {
+        List<String> labels = new ArrayList<>(Arrays.asList(
+                "", "a", "ab", "abc", "a-c", "a.c", "-ab", "ab-", ".ab", "ab.", "a--b", "a..b", "a.-b", "a-.b",
+                "ABC", "aBc", "a_b", "a b", "ábc", "１２３", "bucket.name", "bucket-name", "99", "999",
+                "1.2.3.4", "10.0.0.255", "1.2.3", "1.2.3.4.5", "1..2.3", "1.2.3.4a", "a1.2.3.4",
+                "my.bucket.1.2", "192.168.1.1"));
+        StringBuilder longLabel = new StringBuilder();
+        for (int i = 0; i < 65; i++) {
+            longLabel.append(i % 10);
+            labels.add(longLabel.toString());
+            labels.add("a" + longLabel);
+        }
+        return labels.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("hostLabels")
+    public void isValidHostLabelMatchesRegex(String label) {
+        assertThat(evaluate(new IsValidHostLabel(), label, false),
+                   equalTo(label.matches("[a-zA-Z\\d][a-zA-Z\\d\\-]{0,62}")));
+        assertThat(evaluate(new IsValidHostLabel(), label, true),
+                   equalTo(label.matches("[a-zA-Z\\d][a-zA-Z\\d\\-.]{0,62}")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hostLabels")
+    public void isVirtualHostableS3BucketMatchesRegex(String label) {
+        assertThat(evaluate(new AwsIsVirtualHostableS3Bucket(), label, false),
+                   equalTo(label.matches("[a-z\\d][a-z\\d\\-]{1,61}[a-z\\d]")));
+        assertThat(evaluate(new AwsIsVirtualHostableS3Bucket(), label, true),
+                   equalTo(label.matches("[a-z\\d][a-z\\d\\-.]{1,61}[a-z\\d]")
+                           && !label.matches("(\\d+\\.){3}\\d+")
+                           && !label.matches(".*[.-]{2}.*")));
+    }
+
+    private static boolean evaluate(FunctionDefinition definition, String label, boolean allowDots) {
+        return definition.evaluate(Arrays.asList(Value.string(label), Value.bool(allowDots))).expectBool();
+    }
+}
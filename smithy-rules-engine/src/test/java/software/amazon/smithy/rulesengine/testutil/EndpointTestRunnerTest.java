@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.rulesengine.testutil;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.rulesengine.analysis.CoverageChecker;
+import software.amazon.smithy.rulesengine.traits.EndpointTestCase;
+import software.amazon.smithy.rulesengine.traits.EndpointTestExpectation;
+import software.amazon.smithy.rulesengine.traits.EndpointTestsTrait;
+
+public class EndpointTestRunnerTest {
+    @Test
+    public void runsDiscoveredTestSuites() {
+        EndpointTestRunner.Builder builder = EndpointTestRunner.builder().parallelism(4);
+        int expectedCount = 0;
+        for (TestDiscovery.RulesTestSuite suite : new TestDiscovery().testSuites().collect(Collectors.toList())) {
+            builder.addSuite(suite.ruleSet().getSourceLocation().getFilename(), suite.ruleSet(), suite.testSuite());
+            expectedCount += suite.testSuite().getTestCases().size();
+        }
+
+        EndpointTestRunner.Result result = builder.build().run();
+
+        assertThat(result.getFailures(), empty());
+        assertTrue(result.isSuccessful());
+        assertEquals(expectedCount, result.getTestCount());
+        assertTrue(result.getCoverage().isEmpty());
+    }
+
+    @Test
+    public void mergesCoverageAcrossBatches() {
+        for (TestDiscovery.RulesTestSuite suite : new TestDiscovery().testSuites().collect(Collectors.toList())) {
+            EndpointTestRunner.Result result = EndpointTestRunner.builder()
+                    .addSuite("suite", suite.ruleSet(), suite.testSuite())
+                    .parallelism(4)
+                    .trackCoverage(true)
+                    .build()
+                    .run();
+
+            CoverageChecker expected = new CoverageChecker(suite.ruleSet());
+            suite.testSuite().getTestCases().forEach(expected::evaluateTestCase);
+
+            assertThat(uncovered(result.getCoverage().get("suite")), equalTo(uncovered(expected)));
+        }
+    }
+
+    @Test
+    public void reportsFailuresToListener() {
+        TestDiscovery.RulesTestSuite suite = new TestDiscovery().testSuites()
+                .filter(s -> !s.testSuite().getTestCases().isEmpty())
+                .findFirst()
+                .get();
+        EndpointTestCase original = suite.testSuite().getTestCases().get(0);
+        EndpointTestCase broken = original.toBuilder()
+                .expect(EndpointTestExpectation.builder().error("not the expected result").build())
+                .build();
+        EndpointTestsTrait tests = EndpointTestsTrait.builder()
+                .version("1.0")
+                .addTestCase(original)
+                .addTestCase(broken)
+                .build();
+        List<EndpointTestRunner.Failure> reported = new ArrayList<>();
+
+        EndpointTestRunner.Result result = EndpointTestRunner.builder()
+                .addSuite("broken", suite.ruleSet(), tests)
+                .failureListener(reported::add)
+                .build()
+                .run();
+
+        assertFalse(result.isSuccessful());
+        assertEquals(2, result.getTestCount());
+        assertThat(reported, hasSize(1));
+        assertThat(result.getFailures(), equalTo(reported));
+        assertEquals("broken", reported.get(0).getSuiteName());
+        assertEquals(broken, reported.get(0).getTestCase());
+    }
+
+    @Test
+    public void rejectsInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> EndpointTestRunner.builder().parallelism(0));
+    }
+
+    private static Set<String> uncovered(CoverageChecker checker) {
+        return checker.checkCoverage()
+                .map(result -> result.condition() + ":" + result.result())
+                .collect(Collectors.toSet());
+    }
+}
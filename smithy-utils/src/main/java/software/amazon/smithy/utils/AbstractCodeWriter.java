@@ -27,7 +27,6 @@ import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * Helper class for generating code.
@@ -574,12 +573,15 @@ import java.util.regex.Pattern;
  */
 public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
 
-    private static final Pattern LINES = Pattern.compile("\\r?\\n");
+    // Buffers larger than this aren't pooled so that one large expansion doesn't pin memory to the writer.
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 8;
     private static final Map<Character, BiFunction<Object, String, String>> DEFAULT_FORMATTERS = MapUtils.of(
             'L', (s, i) -> formatLiteral(s),
             'S', (s, i) -> StringUtils.escapeJavaString(formatLiteral(s), i));
 
     private final Deque<State> states = new ArrayDeque<>();
+    private final Deque<StringBuilder> bufferPool = new ArrayDeque<>();
     private State currentState;
     private boolean trailingNewline = true;
     private int trimBlankLines = -1;
@@ -743,20 +745,7 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
 
         // Trim excessive blank lines.
         if (trimBlankLines > -1) {
-            StringBuilder builder = new StringBuilder(result.length());
-            String[] lines = LINES.split(result);
-            int blankCount = 0;
-
-            for (String line : lines) {
-                if (!StringUtils.isBlank(line)) {
-                    builder.append(line).append(currentState.newline);
-                    blankCount = 0;
-                } else if (blankCount++ < trimBlankLines) {
-                    builder.append(line).append(currentState.newline);
-                }
-            }
-
-            result = builder.toString();
+            result = trimBlankLines(result);
         }
 
         if (result.isEmpty()) {
@@ -780,6 +769,61 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
         }
     }
 
+    // Splits the result into lines like String#split("\\r?\\n") would, without allocating each line,
+    // and only keeps up to trimBlankLines successive blank lines.
+    private String trimBlankLines(String result) {
+        int length = result.length();
+        boolean hasNewline = result.indexOf('\n') > -1;
+
+        // Like String#split, trailing empty lines are removed.
+        if (hasNewline) {
+            while (length > 0 && result.charAt(length - 1) == '\n') {
+                length--;
+                if (length > 0 && result.charAt(length - 1) == '\r') {
+                    length--;
+                }
+            }
+            if (length == 0) {
+                return "";
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(result.length());
+        int blankCount = 0;
+        int lineStart = 0;
+
+        while (lineStart <= length) {
+            int lineEnd = result.indexOf('\n', lineStart);
+            if (lineEnd == -1 || lineEnd > length) {
+                lineEnd = length;
+            }
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && lineEnd < length && result.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (!isBlank(result, lineStart, lineEnd)) {
+                builder.append(result, lineStart, lineEnd).append(currentState.newline);
+                blankCount = 0;
+            } else if (blankCount++ < trimBlankLines) {
+                builder.append(result, lineStart, lineEnd).append(currentState.newline);
+            }
+
+            lineStart = nextLineStart;
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Copies and pushes the current state to the state stack.
      *
@@ -1662,16 +1706,41 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
      * assert(formatted.equals("Hello, Person"));
      * }</pre>
      *
+     * <p>The given {@code content} can be a {@link CodeTemplate} to skip
+     * parsing the template.
+     *
      * @param content Content to format.
      * @param args String arguments to use for formatting.
      * @return Returns the formatted string.
      * @see #write
      * @see #putFormatter
+     * @see CodeTemplate
      */
     public final String format(Object content, Object... args) {
-        StringBuilder result = new StringBuilder();
-        CodeFormatter.run(result, this, Objects.requireNonNull(content).toString(), args);
-        return result.toString();
+        Objects.requireNonNull(content);
+        StringBuilder result = borrowBuffer();
+        if (content instanceof CodeTemplate && ((CodeTemplate) content).getExpressionStart() == getExpressionStart()) {
+            CodeFormatter.run(result, this, ((CodeTemplate) content).getTemplate(), args);
+        } else {
+            CodeFormatter.run(result, this, content.toString(), args);
+        }
+        String formatted = result.toString();
+        releaseBuffer(result);
+        return formatted;
+    }
+
+    // Gets an empty buffer that's reused across formatting calls and section expansions.
+    StringBuilder borrowBuffer() {
+        StringBuilder buffer = bufferPool.pollFirst();
+        return buffer != null ? buffer : new StringBuilder();
+    }
+
+    // Returns a buffer to the pool once its contents have been copied out.
+    void releaseBuffer(StringBuilder buffer) {
+        if (bufferPool.size() < MAX_POOLED_BUFFERS && buffer.capacity() <= MAX_POOLED_BUFFER_CAPACITY) {
+            buffer.setLength(0);
+            bufferPool.push(buffer);
+        }
     }
 
     /**
@@ -1973,12 +2042,14 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
     }
 
     String expandSection(CodeSection section, String previousContent, Consumer<String> consumer) {
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = borrowBuffer();
         pushState(section);
         currentState.makeSectionInline(buffer);
         consumer.accept(previousContent);
         popState();
-        return buffer.toString();
+        String result = buffer.toString();
+        releaseBuffer(buffer);
+        return result;
     }
 
     // Used only by CodeFormatter to apply formatters.
@@ -2090,23 +2161,22 @@ public abstract class AbstractCodeWriter<T extends AbstractCodeWriter<T>> {
             int nextNewline = contents.indexOf(newline);
 
             while (nextNewline > -1) {
-                for (; position < nextNewline; position++) {
-                    append(contents.charAt(position));
-                }
+                append(contents, position, nextNewline);
                 writeNewline();
-                position += newline.length();
+                position = nextNewline + newline.length();
                 nextNewline = contents.indexOf(newline, position);
             }
 
             // Write anything remaining in the string after the last newline.
-            for (; position < contents.length(); position++) {
-                append(contents.charAt(position));
-            }
+            append(contents, position, contents.length());
         }
 
-        private void append(char c) {
-            checkIndentationBeforeWriting();
-            getBuilder().append(c);
+        private void append(String contents, int start, int end) {
+            // Indentation is only written once there's text to write on the line.
+            if (start < end) {
+                checkIndentationBeforeWriting();
+                getBuilder().append(contents, start, end);
+            }
         }
 
         private void checkIndentationBeforeWriting() {
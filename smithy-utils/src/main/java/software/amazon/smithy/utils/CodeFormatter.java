@@ -24,90 +24,260 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @SmithyInternalApi
 final class CodeFormatter {
 
+    // Templates are almost always string literals, so the number of distinct templates is usually small. The
+    // cache is cleared when it grows too large to bound memory when templates are built dynamically.
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final Map<TemplateKey, Template> CACHE = new ConcurrentHashMap<>();
+
     private CodeFormatter() {}
 
     static void run(StringBuilder sink, AbstractCodeWriter<?> writer, String template, Object[] args) {
+        run(sink, writer, compile(template, writer.getExpressionStart(), writer), args);
+    }
+
+    static void run(StringBuilder sink, AbstractCodeWriter<?> writer, Template template, Object[] args) {
         try {
-            Sink wrappedSink = Sink.from(sink);
-            Operation block = new Parser(writer, template, args).parse();
-            block.apply(wrappedSink, writer);
+            template.validateArguments(writer, args);
+            template.operation.apply(Sink.from(sink), writer, args);
         } catch (IOException e) {
             throw new RuntimeException("Error appending to CodeWriter template: " + e, e);
         }
     }
 
+    /**
+     * Parses a template into a reusable {@code Template}, using a cached result when possible.
+     *
+     * @param template Template to parse.
+     * @param expressionStart Character used to start expressions.
+     * @param writer Writer used to provide context in error messages, or null.
+     * @return Returns the parsed template.
+     */
+    static Template compile(String template, char expressionStart, AbstractCodeWriter<?> writer) {
+        TemplateKey key = new TemplateKey(template, expressionStart);
+        Template result = CACHE.get(key);
+
+        if (result == null) {
+            // Parse errors are not cached, so invalid templates fail the same way every time.
+            result = new Parser(template, expressionStart, writer).parse();
+            if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+                CACHE.clear();
+            }
+            CACHE.put(key, result);
+        }
+
+        return result;
+    }
+
+    private static final class TemplateKey {
+        private final String template;
+        private final char expressionStart;
+
+        TemplateKey(String template, char expressionStart) {
+            this.template = template;
+            this.expressionStart = expressionStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) o;
+            return expressionStart == other.expressionStart && template.equals(other.template);
+        }
+
+        @Override
+        public int hashCode() {
+            return template.hashCode() * 31 + expressionStart;
+        }
+    }
+
+    /**
+     * A parsed template that can be applied any number of times with different writers and arguments.
+     */
+    static final class Template {
+        private final String source;
+        private final Operation operation;
+        private final List<ArgumentReference> references;
+        private final boolean positional;
+        private final int endLine;
+        private final int endColumn;
+
+        private Template(
+                String source,
+                Operation operation,
+                List<ArgumentReference> references,
+                boolean positional,
+                int endLine,
+                int endColumn
+        ) {
+            this.source = source;
+            this.operation = operation;
+            this.references = references;
+            this.positional = positional;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+        }
+
+        String source() {
+            return source;
+        }
+
+        // Argument checks are performed each time the template is applied since the template is parsed
+        // independently of the arguments it's given.
+        private void validateArguments(AbstractCodeWriter<?> writer, Object[] args) {
+            for (ArgumentReference reference : references) {
+                if (reference.index < 0 || reference.index >= args.length) {
+                    String message = positional
+                            ? String.format("Positional argument index %d out of range of provided %d arguments "
+                                            + "in format string", reference.index, args.length)
+                            : String.format("Given %d arguments but attempted to format index %d",
+                                            args.length, reference.index);
+                    throw syntax(reference.line, reference.column, message, writer);
+                }
+            }
+
+            if (positional) {
+                boolean[] used = new boolean[args.length];
+                for (ArgumentReference reference : references) {
+                    used[reference.index] = true;
+                }
+                int unused = 0;
+                for (boolean b : used) {
+                    if (!b) {
+                        unused++;
+                    }
+                }
+                if (unused > 0) {
+                    throw syntax(endLine, endColumn,
+                                 String.format("Found %d unused positional format arguments", unused), writer);
+                }
+            } else if (references.size() < args.length) {
+                int unusedCount = args.length - references.size();
+                throw syntax(endLine, endColumn,
+                             String.format("Found %d unused relative format arguments", unusedCount), writer);
+            }
+        }
+
+        private RuntimeException syntax(int line, int column, String message, AbstractCodeWriter<?> writer) {
+            return new RuntimeException("Syntax error at line " + line + " column " + column + ": "
+                                        + createErrorMessage(source, message, writer));
+        }
+    }
+
+    private static final class ArgumentReference {
+        private final int index;
+        private final int line;
+        private final int column;
+
+        ArgumentReference(int index, int line, int column) {
+            this.index = index;
+            this.line = line;
+            this.column = column;
+        }
+    }
+
+    private static String createErrorMessage(String template, String message, AbstractCodeWriter<?> writer) {
+        String result = message + " (template: " + template + ")";
+        return writer == null ? result : result + " " + writer.getDebugInfo();
+    }
+
     private interface Sink {
         int column();
 
         void append(char c);
 
+        // Appends a range of text in bulk rather than a character at a time.
+        void append(CharSequence text, int start, int end);
+
         static void writeString(Sink sink, CharSequence text) {
-            writeString(sink, text, 0, text.length());
+            sink.append(text, 0, text.length());
         }
 
         static void writeString(Sink sink, CharSequence text, int start, int end) {
-            for (int i = start; i < end; i++) {
-                sink.append(text.charAt(i));
-            }
+            sink.append(text, start, end);
         }
 
         static Sink from(StringBuilder builder) {
-            return new Sink() {
-                private int column = 0;
+            return new StringBuilderSink(builder);
+        }
+    }
 
-                @Override
-                public int column() {
-                    return column;
-                }
+    private static final class StringBuilderSink implements Sink {
+        private final StringBuilder builder;
+        private int column = 0;
 
-                @Override
-                public void append(char c) {
-                    if (c == '\r' || c == '\n') {
-                        column = 0;
-                    } else {
-                        column++;
-                    }
-                    builder.append(c);
-                }
+        StringBuilderSink(StringBuilder builder) {
+            this.builder = builder;
+        }
 
-                @Override
-                public String toString() {
-                    return builder.toString();
+        @Override
+        public int column() {
+            return column;
+        }
+
+        @Override
+        public void append(char c) {
+            if (c == '\r' || c == '\n') {
+                column = 0;
+            } else {
+                column++;
+            }
+            builder.append(c);
+        }
+
+        @Override
+        public void append(CharSequence text, int start, int end) {
+            builder.append(text, start, end);
+            // The column is the number of characters written after the last newline.
+            for (int i = end - 1; i >= start; i--) {
+                char c = text.charAt(i);
+                if (c == '\r' || c == '\n') {
+                    column = end - i - 1;
+                    return;
                 }
-            };
+            }
+            column += end - start;
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
         }
     }
 
     @FunctionalInterface
     private interface Operation {
-        void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException;
+        void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException;
 
         // Writes literal segments of the input string.
         static Operation stringSlice(String source, int start, int end) {
-            return (sink, writer) -> Sink.writeString(sink, source, start, end);
+            return (sink, writer, args) -> Sink.writeString(sink, source, start, end);
         }
 
         // Evaluates a formatter using the provided writer. This is done lazily because formatters
         // should only be evaluated inside conditions that evaluate to true. This ensures that formatters
         // with side effects don't have their side effects enacted when a condition is not evaluated.
         static Operation formatted(
-                Function<AbstractCodeWriter<?>, Object> valueGetter,
+                ValueGetter valueGetter,
                 char formatter,
-                Supplier<String> errorMessage
+                Function<AbstractCodeWriter<?>, String> errorMessage
         ) {
-            return (sink, writer) -> {
-                Object value = valueGetter.apply(writer);
+            return (sink, writer, args) -> {
+                Object value = valueGetter.get(writer, args);
                 String result = writer.applyFormatter(formatter, value);
                 if (result == null) {
-                    throw new RuntimeException(errorMessage.get());
+                    throw new RuntimeException(errorMessage.apply(writer));
                 }
                 Sink.writeString(sink, result);
             };
@@ -115,11 +285,12 @@ final class CodeFormatter {
 
         // Expands inline sections.
         static Operation inlineSection(String sectionName, Operation delegate) {
-            return (sink, writer) -> {
+            return (sink, writer, args) -> {
                 // First capture the given default value.
-                Sink buffer = Sink.from(new StringBuilder());
-                delegate.apply(buffer, writer);
+                StringBuilder buffer = writer.borrowBuffer();
+                delegate.apply(Sink.from(buffer), writer, args);
                 String defaultValue = buffer.toString();
+                writer.releaseBuffer(buffer);
                 // Create an interceptable code section for the inline section.
                 CodeSection section = CodeSection.forName(sectionName);
                 // Expand the section, passing in the default value as a start.
@@ -135,10 +306,17 @@ final class CodeFormatter {
 
         // Used for "|". Wraps another operation and ensures newlines are properly indented.
         static Operation block(Operation delegate, String staticWhitespace) {
-            return (sink, writer) -> delegate.apply(new BlockAlignedSink(sink, staticWhitespace), writer);
+            return (sink, writer, args) -> {
+                delegate.apply(new BlockAlignedSink(sink, staticWhitespace), writer, args);
+            };
         }
     }
 
+    @FunctionalInterface
+    private interface ValueGetter {
+        Object get(AbstractCodeWriter<?> writer, Object[] args);
+    }
+
     private static final class BlockAlignedSink implements Sink {
         private final int spaces;
         private final String staticWhitespace;
@@ -162,6 +340,30 @@ final class CodeFormatter {
             return delegate.column();
         }
 
+        @Override
+        public void append(CharSequence text, int start, int end) {
+            // Newlines are appended one at a time so they can be aligned, and everything between them is
+            // appended in bulk.
+            int segmentStart = start;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    appendSegment(text, segmentStart, i);
+                    append(c);
+                    segmentStart = i + 1;
+                }
+            }
+            appendSegment(text, segmentStart, end);
+        }
+
+        private void appendSegment(CharSequence text, int start, int end) {
+            if (start < end) {
+                // Only the first character of a segment can require alignment.
+                append(text.charAt(start));
+                delegate.append(text, start + 1, end);
+            }
+        }
+
         @Override
         public void append(char c) {
             if (previousIsNewline) {
@@ -223,9 +425,9 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 for (Operation operation : operations) {
-                    operation.apply(sink, writer);
+                    operation.apply(sink, writer, args);
                 }
             }
 
@@ -247,10 +449,10 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 Object value = writer.getContext(variable());
                 if (!isConditionTruthy(value) == negate) {
-                    super.apply(sink, writer);
+                    super.apply(sink, writer, args);
                 }
             }
         }
@@ -271,7 +473,7 @@ final class CodeFormatter {
             }
 
             @Override
-            public void apply(Sink sink, AbstractCodeWriter<?> writer) throws IOException {
+            public void apply(Sink sink, AbstractCodeWriter<?> writer, Object[] args) throws IOException {
                 Object value = writer.getContext(variable());
                 Iterator<? extends Map.Entry<?, ?>> iterator = getValueIterator(value);
                 boolean isFirst = true;
@@ -282,7 +484,7 @@ final class CodeFormatter {
                     writer.putContext(valueName, current.getValue());
                     writer.putContext(keyName + ".first", isFirst);
                     writer.putContext(keyName + ".last", !iterator.hasNext());
-                    super.apply(sink, writer);
+                    super.apply(sink, writer, args);
                     writer.popState();
                     isFirst = false;
                 }
@@ -338,18 +540,15 @@ final class CodeFormatter {
         private final SimpleParser parser;
         private final char expressionStart;
         private final AbstractCodeWriter<?> writer;
-        private final Object[] arguments;
-        private final boolean[] positionals;
+        private final List<ArgumentReference> references = new ArrayList<>();
         private int relativeIndex = 0;
         private final Deque<BlockOperation> blocks = new ArrayDeque<>();
 
-        Parser(AbstractCodeWriter<?> writer, String template, Object[] arguments) {
+        Parser(String template, char expressionStart, AbstractCodeWriter<?> writer) {
             this.template = template;
             this.writer = writer;
-            this.expressionStart = writer.getExpressionStart();
+            this.expressionStart = expressionStart;
             this.parser = new SimpleParser(template);
-            this.arguments = arguments;
-            this.positionals = new boolean[arguments.length];
             blocks.add(new BlockOperation.Unconditional(""));
         }
 
@@ -362,10 +561,10 @@ final class CodeFormatter {
         }
 
         private String createErrorMessage(String message) {
-            return message + " (template: " + template + ") " + writer.getDebugInfo();
+            return CodeFormatter.createErrorMessage(template, message, writer);
         }
 
-        private Operation parse() {
+        private Template parse() {
             boolean parsingLiteral = false;
             int literalStartCharacter = 0;
 
@@ -393,15 +592,9 @@ final class CodeFormatter {
                 pushOperation(Operation.stringSlice(template, literalStartCharacter, parser.position()));
             }
 
-            if (relativeIndex == -1) {
-                ensureAllPositionalArgumentsWereUsed();
-            } else if (relativeIndex < arguments.length) {
-                int unusedCount = arguments.length - relativeIndex;
-                throw error(String.format("Found %d unused relative format arguments", unusedCount));
-            }
-
             if (blocks.size() == 1) {
-                return blocks.getFirst();
+                return new Template(template, blocks.getFirst(), references, relativeIndex == -1,
+                                    parser.line(), parser.column());
             }
 
             throw new IllegalArgumentException(
@@ -414,18 +607,6 @@ final class CodeFormatter {
                     + "]");
         }
 
-        private void ensureAllPositionalArgumentsWereUsed() {
-            int unused = 0;
-            for (boolean b : positionals) {
-                if (!b) {
-                    unused++;
-                }
-            }
-            if (unused > 0) {
-                throw error(String.format("Found %d unused positional format arguments", unused));
-            }
-        }
-
         private void parseArgument(int pendingTextStart) {
             if (parser.peek() == '{') {
                 parseBracedArgument(pendingTextStart);
@@ -622,10 +803,10 @@ final class CodeFormatter {
             // Create the appropriate function for retrieving the value. Positional and relative arguments
             // are known statically, but getting context properties is deferring until it's time to write.
             // This allows things like loops to populate loop control variables.
-            Function<AbstractCodeWriter<?>, Object> getter;
+            ValueGetter getter;
             if (Character.isLowerCase(c)) {
                 String name = parseNamedArgumentName();
-                getter = w -> w.getContext(name);
+                getter = (w, args) -> w.getContext(name);
             } else if (Character.isDigit(c)) {
                 getter = parsePositionalArgumentGetter();
             } else {
@@ -639,9 +820,11 @@ final class CodeFormatter {
 
             // The error message needs to be created here and given to the operation in way that it can
             // throw with an appropriate message.
-            return Operation.formatted(getter, identifier, () -> createErrorMessage(String.format(
-                    "Syntax error at line %d column %d: Unknown formatter `%c` found in format string",
-                    line, column, identifier)));
+            return Operation.formatted(getter, identifier, w -> CodeFormatter.createErrorMessage(
+                    template,
+                    String.format("Syntax error at line %d column %d: Unknown formatter `%c` found in format string",
+                                  line, column, identifier),
+                    w));
         }
 
         private String parseArgumentName() {
@@ -665,28 +848,22 @@ final class CodeFormatter {
             return name;
         }
 
-        private Function<AbstractCodeWriter<?>, Object> parseRelativeArgumentGetter() {
+        private ValueGetter parseRelativeArgumentGetter() {
             if (relativeIndex == -1) {
                 throw error("Cannot mix positional and relative arguments");
             }
 
             relativeIndex++;
-            Object result = getPositionalArgument(relativeIndex - 1);
-            return w -> result;
+            return createArgumentGetter(relativeIndex - 1);
         }
 
-        private Object getPositionalArgument(int index) {
-            if (index >= arguments.length) {
-                throw error(String.format("Given %d arguments but attempted to format index %d",
-                                          arguments.length, index));
-            } else {
-                // Track the usage of the positional argument.
-                positionals[index] = true;
-                return arguments[index];
-            }
+        private ValueGetter createArgumentGetter(int index) {
+            // Arguments are bounds checked each time the template is applied.
+            references.add(new ArgumentReference(index, parser.line(), parser.column()));
+            return (w, args) -> args[index];
         }
 
-        private Function<AbstractCodeWriter<?>, Object> parsePositionalArgumentGetter() {
+        private ValueGetter parsePositionalArgumentGetter() {
             // Expand a positional argument: "$" 1*digit identifier
             if (relativeIndex > 0) {
                 throw error("Cannot mix positional and relative arguments");
@@ -696,15 +873,7 @@ final class CodeFormatter {
             int startPosition = parser.position();
             parser.consumeUntilNoLongerMatches(Character::isDigit);
             int index = Integer.parseInt(parser.sliceFrom(startPosition)) - 1;
-
-            if (index < 0 || index >= arguments.length) {
-                throw error(String.format(
-                        "Positional argument index %d out of range of provided %d arguments in format string",
-                        index, arguments.length));
-            }
-
-            Object value = getPositionalArgument(index);
-            return w -> value;
+            return createArgumentGetter(index);
         }
 
         private void ensureNameIsValid(String name) {
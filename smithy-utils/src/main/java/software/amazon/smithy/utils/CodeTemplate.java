@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.utils;
+
+/**
+ * A pre-compiled {@link AbstractCodeWriter} template.
+ *
+ * <p>Writers parse each template they're given before applying it.
+ * Parsed templates are cached, but templates that are used heavily can be
+ * compiled once up front using {@code CodeTemplate} to skip both parsing
+ * and cache lookups. A {@code CodeTemplate} can be given to any method of
+ * {@link AbstractCodeWriter} that accepts a template, like
+ * {@link AbstractCodeWriter#write} and {@link AbstractCodeWriter#format}.
+ *
+ * <pre>{@code
+ * private static final CodeTemplate GETTER = CodeTemplate.compile("public $T get$L() {");
+ *
+ * writer.openBlock(GETTER, "}", type, name, () -> { ... });
+ * }</pre>
+ *
+ * <p>A template is compiled for a specific expression start character.
+ * If a writer uses a different expression start character than the
+ * template, the template is parsed again using the writer's character.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class CodeTemplate {
+
+    private final CodeFormatter.Template template;
+    private final char expressionStart;
+
+    private CodeTemplate(String template, char expressionStart) {
+        this.template = CodeFormatter.compile(template, expressionStart, null);
+        this.expressionStart = expressionStart;
+    }
+
+    /**
+     * Compiles a template that uses "$" to start expressions.
+     *
+     * @param template Template to compile.
+     * @return Returns the compiled template.
+     * @throws RuntimeException if the template is invalid.
+     */
+    public static CodeTemplate compile(String template) {
+        return compile(template, '$');
+    }
+
+    /**
+     * Compiles a template that uses a custom character to start expressions.
+     *
+     * @param template Template to compile.
+     * @param expressionStart Character used to start expressions.
+     * @return Returns the compiled template.
+     * @throws RuntimeException if the template is invalid.
+     * @see AbstractCodeWriter#setExpressionStart(char)
+     */
+    public static CodeTemplate compile(String template, char expressionStart) {
+        return new CodeTemplate(template, expressionStart);
+    }
+
+    /**
+     * Gets the character used to start expressions in the template.
+     *
+     * @return Returns the expression start character.
+     */
+    public char getExpressionStart() {
+        return expressionStart;
+    }
+
+    CodeFormatter.Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * Gets the source of the template.
+     *
+     * @return Returns the template string.
+     */
+    @Override
+    public String toString() {
+        return template.source();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof CodeTemplate)) {
+            return false;
+        }
+        CodeTemplate other = (CodeTemplate) o;
+        return expressionStart == other.expressionStart && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode() * 31 + expressionStart;
+    }
+}
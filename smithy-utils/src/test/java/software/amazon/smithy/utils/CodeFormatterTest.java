@@ -677,4 +677,50 @@ public class CodeFormatterTest {
 
         assertThat(writer.toString(), equalTo("<a href=\"http://example.com\">http://example.com</a>"));
     }
+
+    @Test
+    public void reusesParsedTemplatesWithDifferentArguments() {
+        SimpleCodeWriter writer = createWriter();
+
+        assertThat(writer.format("hello $L", "a"), equalTo("hello a"));
+        assertThat(writer.format("hello $L", "b"), equalTo("hello b"));
+        Assertions.assertThrows(RuntimeException.class, () -> writer.format("hello $L"));
+        Assertions.assertThrows(RuntimeException.class, () -> writer.format("hello $L", "a", "b"));
+    }
+
+    @Test
+    public void validatesPositionalArgumentsOfParsedTemplates() {
+        SimpleCodeWriter writer = createWriter();
+
+        assertThat(writer.format("$2L $1L", "a", "b"), equalTo("b a"));
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> writer.format("$2L $1L", "a"));
+        assertThat(e.getMessage(), containsString("Positional argument index 1 out of range of provided 1 arguments"));
+        Assertions.assertThrows(RuntimeException.class, () -> writer.format("$2L $1L", "a", "b", "c"));
+    }
+
+    @Test
+    public void writesCompiledTemplates() {
+        CodeTemplate template = CodeTemplate.compile("${L}: ${?flag}yes${/flag}${^flag}no${/flag}");
+        SimpleCodeWriter writer = createWriter();
+        writer.write(template, "a");
+        writer.putContext("flag", true);
+        writer.write(template, "b");
+
+        assertThat(template.toString(), equalTo("${L}: ${?flag}yes${/flag}${^flag}no${/flag}"));
+        assertThat(writer.toString(), equalTo("a: no\nb: yes\n"));
+    }
+
+    @Test
+    public void compiledTemplatesAreReparsedForOtherExpressionStarts() {
+        CodeTemplate template = CodeTemplate.compile("#L $L");
+        SimpleCodeWriter writer = createWriter();
+        writer.setExpressionStart('#');
+
+        assertThat(writer.format(template, "a"), equalTo("a $L"));
+    }
+
+    @Test
+    public void compilingInvalidTemplatesFails() {
+        Assertions.assertThrows(RuntimeException.class, () -> CodeTemplate.compile("hello ${"));
+    }
 }
@@ -1451,6 +1451,27 @@ public class CodeWriterTest {
         assertThat(writer.toString(), equalTo("foo: ok actually\n"));
     }
 
+    @Test
+    public void trimsBlankLinesWithWindowsNewlines() {
+        CodeWriter writer = new CodeWriter().trimBlankLines();
+        writer.setNewline("\r\n");
+        writer.write("a\r\n\r\n\r\n  \r\nb\r\n\r\n");
+
+        assertThat(writer.toString(), equalTo("a\r\n\r\nb\r\n"));
+    }
+
+    @Test
+    public void reusesBuffersAcrossRepeatedInlineSections() {
+        SimpleCodeWriter writer = new SimpleCodeWriter();
+        writer.onSection("inline", text -> writer.writeInlineWithNoFormatting(text + "!"));
+
+        for (int i = 0; i < 3; i++) {
+            writer.write("$L: ${L@inline}", i, writer.format("[$L]", i));
+        }
+
+        assertThat(writer.toString(), equalTo("0: [0]!\n1: [1]!\n2: [2]!\n"));
+    }
+
     private static final class MySection implements CodeSection {
         public String getFoo() {
             return "foo";
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.waiters;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.jmespath.JmespathException;
+import software.amazon.smithy.jmespath.JmespathRuntime;
+import software.amazon.smithy.jmespath.RuntimeType;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+
+/**
+ * A {@link JmespathRuntime} that evaluates JMESPath expressions directly
+ * against {@link Node} values.
+ *
+ * <p>This can be used to test waiter paths against example input and
+ * output data without converting it to another representation.
+ */
+public final class NodeJmespathRuntime implements JmespathRuntime<Node> {
+
+    /** Shared instance of the runtime. */
+    public static final NodeJmespathRuntime INSTANCE = new NodeJmespathRuntime();
+
+    private NodeJmespathRuntime() {}
+
+    @Override
+    public RuntimeType typeOf(Node value) {
+        switch (value.getType()) {
+            case OBJECT:
+                return RuntimeType.OBJECT;
+            case ARRAY:
+                return RuntimeType.ARRAY;
+            case STRING:
+                return RuntimeType.STRING;
+            case NUMBER:
+                return RuntimeType.NUMBER;
+            case BOOLEAN:
+                return RuntimeType.BOOLEAN;
+            case NULL:
+                return RuntimeType.NULL;
+            default:
+                throw new JmespathException("Unsupported node type: " + value.getType());
+        }
+    }
+
+    @Override
+    public Node createNull() {
+        return Node.nullNode();
+    }
+
+    @Override
+    public Node createBoolean(boolean value) {
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createString(String value) {
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createNumber(Number value) {
+        // JMESPath parses most number literals as doubles, so integral values are
+        // converted to longs to compare equal to the number nodes of parsed JSON.
+        if (value instanceof Double) {
+            double d = value.doubleValue();
+            if (d == Math.rint(d) && d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
+                return Node.from((long) d);
+            }
+        }
+        return Node.from(value);
+    }
+
+    @Override
+    public Node createArray(List<Node> values) {
+        return new ArrayNode(values, SourceLocation.NONE);
+    }
+
+    @Override
+    public Node createObject(Map<String, Node> values) {
+        Map<StringNode, Node> members = new LinkedHashMap<>(values.size());
+        for (Map.Entry<String, Node> entry : values.entrySet()) {
+            members.put(Node.from(entry.getKey()), entry.getValue());
+        }
+        return new ObjectNode(members, SourceLocation.NONE);
+    }
+
+    @Override
+    public boolean asBoolean(Node value) {
+        return value.expectBooleanNode().getValue();
+    }
+
+    @Override
+    public String asString(Node value) {
+        return value.expectStringNode().getValue();
+    }
+
+    @Override
+    public Number asNumber(Node value) {
+        return value.expectNumberNode().getValue();
+    }
+
+    @Override
+    public int length(Node value) {
+        return value.isArrayNode() ? value.expectArrayNode().size() : value.expectObjectNode().size();
+    }
+
+    @Override
+    public Node element(Node array, int index) {
+        return array.expectArrayNode().getElements().get(index);
+    }
+
+    @Override
+    public Iterable<Node> elements(Node array) {
+        return array.expectArrayNode().getElements();
+    }
+
+    @Override
+    public Collection<String> keys(Node object) {
+        return object.expectObjectNode().getStringMap().keySet();
+    }
+
+    @Override
+    public Node value(Node object, String key) {
+        Node value = object.expectObjectNode().getStringMap().get(key);
+        return value == null ? Node.nullNode() : value;
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.waiters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import software.amazon.smithy.jmespath.CompiledExpression;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.utils.BuilderRef;
+import software.amazon.smithy.utils.SmithyBuilder;
+
+/**
+ * Simulates the execution of waiters against recorded operation responses.
+ *
+ * <p>Each {@link Scenario} replays a sequence of recorded outputs and errors
+ * against a waiter. Acceptors are evaluated in order for each response as
+ * described by the waiter workflow, and retries are delayed using the
+ * waiter's exponential backoff with jitter on a virtual clock, so
+ * simulations run instantly and are deterministic for a given seed.
+ *
+ * <p>The JMESPath expressions of each waiter are compiled once and shared
+ * by every scenario of the waiter. A simulator is thread-safe, and
+ * {@link #simulateAll} runs scenarios in parallel.
+ */
+public final class WaiterSimulator {
+
+    private final Map<Waiter, List<CompiledAcceptor>> compiledWaiters = new ConcurrentHashMap<>();
+
+    /**
+     * Simulates a single scenario.
+     *
+     * @param scenario Scenario to simulate.
+     * @return Returns the result of the simulation.
+     * @throws software.amazon.smithy.jmespath.JmespathException if a path of the waiter can't be evaluated.
+     */
+    public Result simulate(Scenario scenario) {
+        List<CompiledAcceptor> acceptors = compiledWaiters.computeIfAbsent(scenario.waiter, WaiterSimulator::compile);
+        Waiter waiter = scenario.waiter;
+        Random random = new Random(scenario.seed);
+        List<Transition> transitions = new ArrayList<>(scenario.responses.size());
+        long time = 0;
+        int retries = 0;
+
+        for (Response response : scenario.responses) {
+            Transition transition = evaluate(acceptors, scenario.input, response, transitions.size() + 1, time);
+            transitions.add(transition);
+
+            if (transition.getState() != AcceptorState.RETRY) {
+                return new Result(scenario, transitions, transition.getState(), false);
+            }
+
+            // Waiters stop with a failure when no time is left for another attempt.
+            long remainingTime = scenario.maxWaitTime - time;
+            if (remainingTime <= waiter.getMinDelay()) {
+                return new Result(scenario, transitions, AcceptorState.FAILURE, true);
+            }
+
+            time += computeDelay(waiter, ++retries, remainingTime, random);
+        }
+
+        // The recorded responses ran out before the waiter stopped.
+        return new Result(scenario, transitions, null, false);
+    }
+
+    /**
+     * Simulates many scenarios in parallel.
+     *
+     * @param scenarios Scenarios to simulate.
+     * @return Returns the results in the same order as the given scenarios.
+     */
+    public List<Result> simulateAll(Collection<Scenario> scenarios) {
+        return scenarios.parallelStream().map(this::simulate).collect(Collectors.toList());
+    }
+
+    private static Transition evaluate(
+            List<CompiledAcceptor> acceptors,
+            Node input,
+            Response response,
+            int attempt,
+            long time
+    ) {
+        for (CompiledAcceptor acceptor : acceptors) {
+            if (acceptor.matches(input, response)) {
+                return new Transition(attempt, time, response, acceptor.acceptor.getState(), acceptor.acceptor);
+            }
+        }
+
+        // Unmatched errors fail the waiter, and anything else is retried.
+        AcceptorState state = response.isError() ? AcceptorState.FAILURE : AcceptorState.RETRY;
+        return new Transition(attempt, time, response, state, null);
+    }
+
+    // Computes the delay before the next attempt using exponential backoff with jitter.
+    private static long computeDelay(Waiter waiter, int attempt, long remainingTime, Random random) {
+        long minDelay = waiter.getMinDelay();
+        long maxDelay = waiter.getMaxDelay();
+        double attemptCeiling = (Math.log((double) maxDelay / minDelay) / Math.log(2)) + 1;
+
+        long delay = attempt > attemptCeiling ? maxDelay : minDelay * (1L << (attempt - 1));
+        delay = minDelay + (long) (random.nextDouble() * (delay - minDelay + 1));
+
+        if (remainingTime - delay <= minDelay) {
+            delay = remainingTime - minDelay;
+        }
+
+        return delay;
+    }
+
+    private static List<CompiledAcceptor> compile(Waiter waiter) {
+        List<CompiledAcceptor> result = new ArrayList<>(waiter.getAcceptors().size());
+        for (Acceptor acceptor : waiter.getAcceptors()) {
+            result.add(new CompiledAcceptor(acceptor, acceptor.getMatcher().accept(new MatcherCompiler())));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface ResponseMatcher {
+        boolean matches(Node input, Response response);
+    }
+
+    private static final class CompiledAcceptor {
+        private final Acceptor acceptor;
+        private final ResponseMatcher matcher;
+
+        CompiledAcceptor(Acceptor acceptor, ResponseMatcher matcher) {
+            this.acceptor = acceptor;
+            this.matcher = matcher;
+        }
+
+        boolean matches(Node input, Response response) {
+            return matcher.matches(input, response);
+        }
+    }
+
+    private static final class MatcherCompiler implements Matcher.Visitor<ResponseMatcher> {
+        @Override
+        public ResponseMatcher visitOutput(Matcher.OutputMember outputPath) {
+            PathMatcher pathMatcher = outputPath.getValue();
+            CompiledExpression<Node> path = compilePath(pathMatcher);
+            return (input, response) -> response.output != null
+                                        && compare(path.evaluate(response.output), pathMatcher);
+        }
+
+        @Override
+        public ResponseMatcher visitInputOutput(Matcher.InputOutputMember inputOutputPath) {
+            PathMatcher pathMatcher = inputOutputPath.getValue();
+            CompiledExpression<Node> path = compilePath(pathMatcher);
+            return (input, response) -> {
+                if (response.output == null) {
+                    return false;
+                }
+                Node value = Node.objectNode().withMember("input", input).withMember("output", response.output);
+                return compare(path.evaluate(value), pathMatcher);
+            };
+        }
+
+        @Override
+        public ResponseMatcher visitSuccess(Matcher.SuccessMember success) {
+            boolean expected = success.getValue();
+            return (input, response) -> response.isError() != expected;
+        }
+
+        @Override
+        public ResponseMatcher visitErrorType(Matcher.ErrorTypeMember errorType) {
+            // Absolute shape IDs are matched only on the name part of the shape ID.
+            String expected = errorName(errorType.getValue());
+            return (input, response) -> response.isError() && errorName(response.errorType).equals(expected);
+        }
+
+        @Override
+        public ResponseMatcher visitUnknown(Matcher.UnknownMember unknown) {
+            return (input, response) -> false;
+        }
+
+        private static CompiledExpression<Node> compilePath(PathMatcher pathMatcher) {
+            return JmespathExpression.parse(pathMatcher.getPath()).compile(NodeJmespathRuntime.INSTANCE);
+        }
+
+        private static String errorName(String errorType) {
+            return errorType.substring(errorType.indexOf('#') + 1);
+        }
+
+        private static boolean compare(Node result, PathMatcher pathMatcher) {
+            String expected = pathMatcher.getExpected();
+            switch (pathMatcher.getComparator()) {
+                case STRING_EQUALS:
+                    return isString(result, expected);
+                case BOOLEAN_EQUALS:
+                    return result.isBooleanNode()
+                           && String.valueOf(result.expectBooleanNode().getValue()).equals(expected);
+                case ALL_STRING_EQUALS:
+                    if (!result.isArrayNode() || result.expectArrayNode().isEmpty()) {
+                        return false;
+                    }
+                    for (Node element : result.expectArrayNode().getElements()) {
+                        if (!isString(element, expected)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                case ANY_STRING_EQUALS:
+                    if (result.isArrayNode()) {
+                        for (Node element : result.expectArrayNode().getElements()) {
+                            if (isString(element, expected)) {
+                                return true;
+                            }
+                        }
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        private static boolean isString(Node node, String expected) {
+            return node.isStringNode() && node.expectStringNode().getValue().equals(expected);
+        }
+    }
+
+    /**
+     * A recorded response of an operation, either an output or an error.
+     */
+    public static final class Response {
+        private final Node output;
+        private final String errorType;
+
+        private Response(Node output, String errorType) {
+            this.output = output;
+            this.errorType = errorType;
+        }
+
+        /**
+         * Creates a successful response.
+         *
+         * @param output Output of the operation.
+         * @return Returns the created response.
+         */
+        public static Response output(Node output) {
+            return new Response(Objects.requireNonNull(output), null);
+        }
+
+        /**
+         * Creates an error response.
+         *
+         * @param errorType Shape ID or name of the error.
+         * @return Returns the created response.
+         */
+        public static Response error(String errorType) {
+            return new Response(null, Objects.requireNonNull(errorType));
+        }
+
+        /**
+         * @return Returns true if the response is an error.
+         */
+        public boolean isError() {
+            return errorType != null;
+        }
+
+        /**
+         * @return Gets the output of a successful response.
+         */
+        public Optional<Node> getOutput() {
+            return Optional.ofNullable(output);
+        }
+
+        /**
+         * @return Gets the error type of an error response.
+         */
+        public Optional<String> getErrorType() {
+            return Optional.ofNullable(errorType);
+        }
+
+        @Override
+        public String toString() {
+            return isError() ? "error " + errorType : "output " + Node.printJson(output);
+        }
+    }
+
+    /**
+     * A waiter and the recorded responses to replay against it.
+     */
+    public static final class Scenario {
+        private final String name;
+        private final Waiter waiter;
+        private final Node input;
+        private final List<Response> responses;
+        private final long maxWaitTime;
+        private final long seed;
+
+        private Scenario(Builder builder) {
+            this.name = SmithyBuilder.requiredState("name", builder.name);
+            this.waiter = SmithyBuilder.requiredState("waiter", builder.waiter);
+            this.input = builder.input;
+            this.responses = builder.responses.copy();
+            this.maxWaitTime = builder.maxWaitTime;
+            this.seed = builder.seed;
+            if (maxWaitTime <= 0) {
+                throw new IllegalStateException("maxWaitTime must be greater than 0");
+            }
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * @return Gets the name of the scenario.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Gets the waiter being simulated.
+         */
+        public Waiter getWaiter() {
+            return waiter;
+        }
+
+        /**
+         * @return Gets the input given to the operation.
+         */
+        public Node getInput() {
+            return input;
+        }
+
+        /**
+         * @return Gets the responses to replay, in order.
+         */
+        public List<Response> getResponses() {
+            return responses;
+        }
+
+        /**
+         * @return Gets the total number of seconds the waiter is allowed to wait.
+         */
+        public long getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        /**
+         * Builds a {@link Scenario}.
+         */
+        public static final class Builder implements SmithyBuilder<Scenario> {
+            private String name;
+            private Waiter waiter;
+            private Node input = Node.objectNode();
+            private final BuilderRef<List<Response>> responses = BuilderRef.forList();
+            private long maxWaitTime;
+            private long seed;
+
+            private Builder() {}
+
+            @Override
+            public Scenario build() {
+                return new Scenario(this);
+            }
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder waiter(Waiter waiter) {
+                this.waiter = waiter;
+                return this;
+            }
+
+            /**
+             * Sets the input of the operation, used by {@code inputOutput} matchers.
+             *
+             * @param input Input to set.
+             * @return Returns the builder.
+             */
+            public Builder input(Node input) {
+                this.input = Objects.requireNonNull(input);
+                return this;
+            }
+
+            public Builder responses(List<Response> responses) {
+                this.responses.clear();
+                this.responses.get().addAll(responses);
+                return this;
+            }
+
+            public Builder addResponse(Response response) {
+                this.responses.get().add(response);
+                return this;
+            }
+
+            public Builder addOutput(Node output) {
+                return addResponse(Response.output(output));
+            }
+
+            public Builder addError(String errorType) {
+                return addResponse(Response.error(errorType));
+            }
+
+            /**
+             * Sets the total number of seconds the waiter is allowed to wait.
+             *
+             * <p>This is required, as waiters require callers to provide a deadline.
+             *
+             * @param maxWaitTime Maximum wait time in seconds.
+             * @return Returns the builder.
+             */
+            public Builder maxWaitTime(long maxWaitTime) {
+                this.maxWaitTime = maxWaitTime;
+                return this;
+            }
+
+            /**
+             * Sets the seed used to compute the jitter of retry delays.
+             *
+             * @param seed Seed to set. Defaults to 0.
+             * @return Returns the builder.
+             */
+            public Builder seed(long seed) {
+                this.seed = seed;
+                return this;
+            }
+        }
+    }
+
+    /**
+     * The state the waiter transitioned to after receiving a response.
+     */
+    public static final class Transition {
+        private final int attempt;
+        private final long time;
+        private final Response response;
+        private final AcceptorState state;
+        private final Acceptor acceptor;
+
+        private Transition(int attempt, long time, Response response, AcceptorState state, Acceptor acceptor) {
+            this.attempt = attempt;
+            this.time = time;
+            this.response = response;
+            this.state = state;
+            this.acceptor = acceptor;
+        }
+
+        /**
+         * @return Gets the 1-based attempt number.
+         */
+        public int getAttempt() {
+            return attempt;
+        }
+
+        /**
+         * @return Gets the number of seconds since the waiter started when the attempt was made.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * @return Gets the response received by the attempt.
+         */
+        public Response getResponse() {
+            return response;
+        }
+
+        /**
+         * @return Gets the state the waiter transitioned to.
+         */
+        public AcceptorState getState() {
+            return state;
+        }
+
+        /**
+         * Gets the acceptor that matched the response.
+         *
+         * <p>No acceptor is present when the waiter retries because nothing
+         * matched a successful response, or fails because nothing matched an error.
+         *
+         * @return Returns the optionally matched acceptor.
+         */
+        public Optional<Acceptor> getAcceptor() {
+            return Optional.ofNullable(acceptor);
+        }
+
+        @Override
+        public String toString() {
+            return "attempt " + attempt + " at " + time + "s: " + response + " -> " + state;
+        }
+    }
+
+    /**
+     * The result of simulating a scenario.
+     */
+    public static final class Result {
+        private final Scenario scenario;
+        private final List<Transition> transitions;
+        private final AcceptorState finalState;
+        private final boolean timedOut;
+
+        private Result(Scenario scenario, List<Transition> transitions, AcceptorState finalState, boolean timedOut) {
+            this.scenario = scenario;
+            this.transitions = Collections.unmodifiableList(transitions);
+            this.finalState = finalState;
+            this.timedOut = timedOut;
+        }
+
+        /**
+         * @return Gets the simulated scenario.
+         */
+        public Scenario getScenario() {
+            return scenario;
+        }
+
+        /**
+         * @return Gets the transition made for each response that was replayed.
+         */
+        public List<Transition> getTransitions() {
+            return transitions;
+        }
+
+        /**
+         * Gets the terminal state of the waiter.
+         *
+         * <p>No state is present if the recorded responses ran out while the
+         * waiter was still retrying.
+         *
+         * @return Returns the optional terminal state.
+         */
+        public Optional<AcceptorState> getFinalState() {
+            return Optional.ofNullable(finalState);
+        }
+
+        /**
+         * @return Returns true if the waiter failed because it exceeded its maximum wait time.
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * @return Gets the number of seconds since the waiter started when the last attempt was made.
+         */
+        public long getElapsedTime() {
+            return transitions.isEmpty() ? 0 : transitions.get(transitions.size() - 1).getTime();
+        }
+
+        @Override
+        public String toString() {
+            return scenario.getName() + ": " + (finalState == null ? "incomplete" : finalState)
+                   + (timedOut ? " (timed out)" : "") + " after " + transitions.size() + " attempts";
+        }
+    }
+}
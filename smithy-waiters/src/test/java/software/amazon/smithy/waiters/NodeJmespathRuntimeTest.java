@@ -0,0 +1,51 @@
+package software.amazon.smithy.waiters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.jmespath.CompiledExpression;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.model.node.Node;
+
+public class NodeJmespathRuntimeTest {
+    private static final Node DATA = Node.parse("{"
+            + "\"Table\": {\"TableStatus\": \"ACTIVE\"},"
+            + "\"Instances\": ["
+            + "  {\"State\": {\"Name\": \"running\"}, \"Id\": 1},"
+            + "  {\"State\": {\"Name\": \"pending\"}, \"Id\": 2}"
+            + "]"
+            + "}");
+
+    @Test
+    public void evaluatesAgainstNodes() {
+        assertThat(evaluate("Table.TableStatus"), equalTo(Node.from("ACTIVE")));
+        assertThat(evaluate("Instances[].State.Name"), equalTo(Node.fromStrings("running", "pending")));
+        assertThat(evaluate("length(Instances[?State.Name == 'running']) > `0`"), equalTo(Node.from(true)));
+        assertThat(evaluate("Instances[0].{id: Id}"), equalTo(Node.objectNode().withMember("id", 1)));
+        assertThat(evaluate("Missing.Value"), equalTo(Node.nullNode()));
+        assertThat(evaluate("`[1, {\"a\": null}]`"), equalTo(Node.parse("[1, {\"a\": null}]")));
+    }
+
+    @Test
+    public void compiledExpressionsEvaluateAgainstNodes() {
+        CompiledExpression<Node> compiled = JmespathExpression.parse("Instances[?Id > `1`].State.Name | [0]")
+                .compile(NodeJmespathRuntime.INSTANCE);
+
+        assertThat(compiled.evaluate(DATA), equalTo(Node.from("pending")));
+        assertThat(compiled.evaluate(Node.objectNode()), equalTo(Node.nullNode()));
+    }
+
+    @Test
+    public void comparesLargeIntegersExactly() {
+        Node data = Node.objectNode().withMember("big", Node.from(Long.MAX_VALUE));
+        JmespathExpression expression = JmespathExpression.parse("big == `9223372036854775806`");
+
+        assertThat(expression.evaluate(data, NodeJmespathRuntime.INSTANCE), equalTo(Node.from(false)));
+        assertThat(expression.compile(NodeJmespathRuntime.INSTANCE).evaluate(data), equalTo(Node.from(false)));
+    }
+
+    private static Node evaluate(String expression) {
+        return JmespathExpression.parse(expression).evaluate(DATA, NodeJmespathRuntime.INSTANCE);
+    }
+}
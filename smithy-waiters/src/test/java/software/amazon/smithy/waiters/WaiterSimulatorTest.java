@@ -0,0 +1,168 @@
+package software.amazon.smithy.waiters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.Node;
+
+public class WaiterSimulatorTest {
+    private static final Waiter WAITER = Waiter.fromNode(Node.parse("{\n"
+            + "  \"minDelay\": 2,\n"
+            + "  \"maxDelay\": 10,\n"
+            + "  \"acceptors\": [\n"
+            + "    {\"state\": \"success\", \"matcher\": {\"output\": {\n"
+            + "      \"path\": \"Status\", \"expected\": \"done\", \"comparator\": \"stringEquals\"}}},\n"
+            + "    {\"state\": \"failure\", \"matcher\": {\"output\": {\n"
+            + "      \"path\": \"Items[].Status\", \"expected\": \"failed\", \"comparator\": \"anyStringEquals\"}}},\n"
+            + "    {\"state\": \"success\", \"matcher\": {\"inputOutput\": {\n"
+            + "      \"path\": \"input.Name == output.Name\", \"expected\": \"true\",\n"
+            + "      \"comparator\": \"booleanEquals\"}}},\n"
+            + "    {\"state\": \"retry\", \"matcher\": {\"errorType\": \"smithy.example#Throttled\"}}\n"
+            + "  ]\n"
+            + "}"));
+
+    private static WaiterSimulator.Scenario.Builder scenario() {
+        return WaiterSimulator.Scenario.builder().name("test").waiter(WAITER).maxWaitTime(300)
+                .input(Node.objectNode().withMember("Name", "foo"));
+    }
+
+    private static List<AcceptorState> states(WaiterSimulator.Result result) {
+        return result.getTransitions().stream()
+                .map(WaiterSimulator.Transition::getState)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void retriesUntilAnAcceptorMatches() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario()
+                .addOutput(Node.objectNode().withMember("Status", "pending"))
+                .addError("Throttled")
+                .addOutput(Node.objectNode().withMember("Status", "done"))
+                .build());
+
+        assertThat(states(result), contains(AcceptorState.RETRY, AcceptorState.RETRY, AcceptorState.SUCCESS));
+        assertThat(result.getFinalState(), equalTo(Optional.of(AcceptorState.SUCCESS)));
+        assertThat(result.isTimedOut(), is(false));
+        assertThat(result.getTransitions().get(0).getAcceptor(), equalTo(Optional.empty()));
+        assertThat(result.getTransitions().get(1).getAcceptor(), equalTo(Optional.of(WAITER.getAcceptors().get(3))));
+        assertThat(result.getTransitions().get(2).getAcceptor(), equalTo(Optional.of(WAITER.getAcceptors().get(0))));
+    }
+
+    @Test
+    public void evaluatesAcceptorsInOrder() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario()
+                .addOutput(Node.objectNode()
+                        .withMember("Status", "done")
+                        .withMember("Items", Node.fromNodes(Node.objectNode().withMember("Status", "failed"))))
+                .build());
+
+        assertThat(result.getFinalState(), equalTo(Optional.of(AcceptorState.SUCCESS)));
+    }
+
+    @Test
+    public void matchesProjections() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario()
+                .addOutput(Node.objectNode().withMember("Items", Node.fromNodes(
+                        Node.objectNode().withMember("Status", "ok"),
+                        Node.objectNode().withMember("Status", "failed"))))
+                .build());
+
+        assertThat(result.getFinalState(), equalTo(Optional.of(AcceptorState.FAILURE)));
+    }
+
+    @Test
+    public void matchesInputAndOutput() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario()
+                .addOutput(Node.objectNode().withMember("Name", "bar"))
+                .addOutput(Node.objectNode().withMember("Name", "foo"))
+                .build());
+
+        assertThat(states(result), contains(AcceptorState.RETRY, AcceptorState.SUCCESS));
+    }
+
+    @Test
+    public void failsOnUnmatchedErrors() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario()
+                .addError("smithy.example#Other")
+                .build());
+
+        assertThat(result.getFinalState(), equalTo(Optional.of(AcceptorState.FAILURE)));
+        assertThat(result.isTimedOut(), is(false));
+    }
+
+    @Test
+    public void isIncompleteWhenResponsesRunOut() {
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(scenario().addError("Throttled").build());
+
+        assertThat(result.getFinalState(), equalTo(Optional.empty()));
+        assertThat(result.getTransitions().size(), is(1));
+    }
+
+    @Test
+    public void timesOutUsingVirtualClock() {
+        WaiterSimulator.Scenario.Builder builder = scenario().maxWaitTime(30);
+        for (int i = 0; i < 100; i++) {
+            builder.addError("Throttled");
+        }
+        WaiterSimulator.Result result = new WaiterSimulator().simulate(builder.build());
+
+        assertThat(result.getFinalState(), equalTo(Optional.of(AcceptorState.FAILURE)));
+        assertThat(result.isTimedOut(), is(true));
+        assertThat(result.getElapsedTime(), lessThanOrEqualTo(30L - WAITER.getMinDelay()));
+
+        long previous = -1;
+        for (WaiterSimulator.Transition transition : result.getTransitions()) {
+            long delay = transition.getTime() - previous;
+            assertThat(previous < 0 || (delay >= 0 && delay <= WAITER.getMaxDelay()), is(true));
+            previous = transition.getTime();
+        }
+    }
+
+    @Test
+    public void isDeterministicForASeed() {
+        WaiterSimulator.Scenario.Builder builder = scenario().seed(42);
+        for (int i = 0; i < 10; i++) {
+            builder.addError("Throttled");
+        }
+        WaiterSimulator.Scenario scenario = builder.build();
+        WaiterSimulator simulator = new WaiterSimulator();
+
+        assertThat(simulator.simulate(scenario).getElapsedTime(),
+                equalTo(simulator.simulate(scenario).getElapsedTime()));
+    }
+
+    @Test
+    public void simulatesScenariosInParallelPreservingOrder() {
+        List<WaiterSimulator.Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            WaiterSimulator.Scenario.Builder builder = scenario().name("s" + i);
+            for (int j = 0; j < i % 5; j++) {
+                builder.addError("Throttled");
+            }
+            scenarios.add(builder.addOutput(Node.objectNode().withMember("Status", "done")).build());
+        }
+
+        List<WaiterSimulator.Result> results = new WaiterSimulator().simulateAll(scenarios);
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            assertThat(results.get(i).getScenario(), is(scenarios.get(i)));
+            assertThat(results.get(i).getTransitions().size(), is(i % 5 + 1));
+            assertThat(results.get(i).getFinalState(), equalTo(Optional.of(AcceptorState.SUCCESS)));
+        }
+    }
+
+    @Test
+    public void requiresMaxWaitTime() {
+        assertThrows(IllegalStateException.class,
+                () -> WaiterSimulator.Scenario.builder().name("test").waiter(WAITER).build());
+    }
+}